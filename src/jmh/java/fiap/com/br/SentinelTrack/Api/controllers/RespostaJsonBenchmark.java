@@ -0,0 +1,52 @@
+package fiap.com.br.SentinelTrack.Api.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
+import fiap.com.br.SentinelTrack.DadosBenchmark;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da serialização Jackson das respostas REST (Map com success/motos/total)
+ * O ObjectMapper segue a configuração padrão do Spring Boot (módulos registrados,
+ * datas em ISO-8601)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RespostaJsonBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int quantidade;
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> resposta;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        MotoMapper mapper = new MotoMapper();
+        List<MotoDTO> motos = DadosBenchmark.motos(DadosBenchmark.patio(1L), quantidade).stream()
+                .map(mapper::toDTO)
+                .toList();
+        resposta = Map.of(
+                "success", true,
+                "motos", motos,
+                "total", motos.size(),
+                "timestamp", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public byte[] serializarListaMotos() throws Exception {
+        return objectMapper.writeValueAsBytes(resposta);
+    }
+}
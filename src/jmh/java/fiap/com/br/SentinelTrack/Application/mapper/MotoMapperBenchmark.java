@@ -0,0 +1,39 @@
+package fiap.com.br.SentinelTrack.Application.mapper;
+
+import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import fiap.com.br.SentinelTrack.DadosBenchmark;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da conversão Moto -> MotoDTO (usada em todas as listagens)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MotoMapperBenchmark {
+
+    @Param({"1", "500", "10000"})
+    private int quantidade;
+
+    private final MotoMapper mapper = new MotoMapper();
+    private List<Moto> motos;
+
+    @Setup
+    public void setUp() {
+        motos = DadosBenchmark.motos(DadosBenchmark.patio(1L), quantidade);
+    }
+
+    @Benchmark
+    public List<MotoDTO> toDTO() {
+        List<MotoDTO> dtos = new ArrayList<>(motos.size());
+        for (Moto moto : motos) {
+            dtos.add(mapper.toDTO(moto));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,41 @@
+package fiap.com.br.SentinelTrack.Application.mapper;
+
+import fiap.com.br.SentinelTrack.Application.dto.PatioDTO;
+import fiap.com.br.SentinelTrack.DadosBenchmark;
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de PatioMapper.toDTO com pátios de muitas motos
+ * O custo deve ser constante: o mapper não percorre a coleção de motos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PatioMapperBenchmark {
+
+    @Param({"0", "1000", "50000"})
+    private int motosNoPatio;
+
+    private final PatioMapper patioMapper = new PatioMapper();
+    private final PatioMapperV2 patioMapperV2 = new PatioMapperV2();
+    private Patio patio;
+
+    @Setup
+    public void setUp() {
+        patio = DadosBenchmark.patio(1L);
+        DadosBenchmark.motos(patio, motosNoPatio);
+    }
+
+    @Benchmark
+    public PatioDTO toDTO() {
+        return patioMapper.toDTO(patio);
+    }
+
+    @Benchmark
+    public PatioDTO toDTOV2() {
+        return patioMapperV2.toDTO(patio);
+    }
+}
@@ -0,0 +1,61 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do custo por token do JwtService
+ * Compara a validação com chave/parser reutilizados contra o modelo antigo
+ * (chave e parser recriados e token parseado duas vezes a cada validação)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "SentinelTrackSecretKeyForChallenge2025VerySecureAndLongEnoughForHS256";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 86400000L);
+        token = jwtService.generateToken("operador@mottu.com", "OPERADOR");
+    }
+
+    @Benchmark
+    public String gerarToken() {
+        return jwtService.generateToken("operador@mottu.com", "OPERADOR");
+    }
+
+    @Benchmark
+    public Object validarToken() {
+        return jwtService.validar(token);
+    }
+
+    @Benchmark
+    public Boolean isTokenValid() {
+        return jwtService.isTokenValid(token);
+    }
+
+    @Benchmark
+    public boolean validarTokenModeloAntigo() {
+        String email = parseComNovoParser(token).getSubject();
+        boolean expirado = parseComNovoParser(token).getExpiration().getTime() < System.currentTimeMillis();
+        return "operador@mottu.com".equals(email) && !expirado;
+    }
+
+    private Claims parseComNovoParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,52 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.DadosBenchmark;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark da validação de placa (padrão antigo ABC1234 e Mercosul ABC1D23)
+ * String.matches recompila a expressão a cada chamada; o Pattern pré-compilado
+ * é o usado na importação em lote
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidacaoPlacaBenchmark {
+
+    private static final String REGEX_PLACA = "^([A-Z]{3}[0-9]{4}|[A-Z]{3}[0-9][A-Z][0-9]{2})$";
+    private static final Pattern PADRAO_PLACA = Pattern.compile(REGEX_PLACA);
+
+    private String[] placas;
+    private int indice;
+
+    @Setup
+    public void setUp() {
+        placas = new String[1024];
+        for (int i = 0; i < placas.length; i++) {
+            // Mistura placas Mercosul, padrão antigo e inválidas
+            placas[i] = switch (i % 3) {
+                case 0 -> DadosBenchmark.placa(i);
+                case 1 -> "ABC" + (1000 + i % 9000);
+                default -> "AB-" + i;
+            };
+        }
+    }
+
+    private String proximaPlaca() {
+        indice = (indice + 1) & (placas.length - 1);
+        return placas[indice];
+    }
+
+    @Benchmark
+    public boolean stringMatches() {
+        return proximaPlaca().matches(REGEX_PLACA);
+    }
+
+    @Benchmark
+    public boolean patternPreCompilado() {
+        return PADRAO_PLACA.matcher(proximaPlaca()).matches();
+    }
+}
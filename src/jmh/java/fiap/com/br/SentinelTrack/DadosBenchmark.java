@@ -0,0 +1,64 @@
+package fiap.com.br.SentinelTrack;
+
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Massa de dados em memória compartilhada pelos benchmarks JMH
+ */
+public final class DadosBenchmark {
+
+    private static final MotoStatus[] STATUS = MotoStatus.values();
+
+    private DadosBenchmark() {
+    }
+
+    public static Patio patio(long id) {
+        Patio patio = new Patio();
+        patio.setId(id);
+        patio.setNome("Pátio " + id);
+        patio.setEndereco("Av. Paulista, " + id);
+        patio.setAreaM2(new BigDecimal("1500.00"));
+        patio.setIdLocalidade(1L);
+        patio.setMotos(new ArrayList<>());
+        return patio;
+    }
+
+    /**
+     * Cria motos com placas Mercosul únicas (ABC1D23) vinculadas ao pátio
+     */
+    public static List<Moto> motos(Patio patio, int quantidade) {
+        List<Moto> motos = new ArrayList<>(quantidade);
+        Date agora = new Date();
+        for (int i = 0; i < quantidade; i++) {
+            Moto moto = new Moto();
+            moto.setId((long) i + 1);
+            moto.setModelo(i % 2 == 0 ? "Honda CG 160" : "Yamaha Factor 150");
+            moto.setPlaca(placa(i));
+            moto.setStatus(STATUS[i % STATUS.length]);
+            moto.setDataEntrada(agora);
+            moto.setPatio(patio);
+            motos.add(moto);
+        }
+        patio.getMotos().addAll(motos);
+        return motos;
+    }
+
+    public static String placa(int indice) {
+        char[] placa = new char[7];
+        placa[0] = (char) ('A' + (indice / 676) % 26);
+        placa[1] = (char) ('A' + (indice / 26) % 26);
+        placa[2] = (char) ('A' + indice % 26);
+        placa[3] = (char) ('0' + (indice / 17576) % 10);
+        placa[4] = (char) ('A' + (indice / 7) % 26);
+        placa[5] = (char) ('0' + (indice / 3) % 10);
+        placa[6] = (char) ('0' + indice % 10);
+        return new String(placa);
+    }
+}
@@ -1,45 +1,59 @@
 package fiap.com.br.SentinelTrack.Api.controllers;
 
+import fiap.com.br.SentinelTrack.Application.services.ContadoresFrota;
 import fiap.com.br.SentinelTrack.Application.services.MotoService;
-import fiap.com.br.SentinelTrack.Application.services.PatioService;
+import fiap.com.br.SentinelTrack.Application.services.TransmissorEventosMoto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Controller
 public class DashboardController {
 
-    private final PatioService patioService;
+    private final ContadoresFrota contadores;
     private final MotoService motoService;
+    private final TransmissorEventosMoto transmissor;
 
-    public DashboardController(PatioService patioService, MotoService motoService) {
-        this.patioService = patioService;
+    public DashboardController(ContadoresFrota contadores, MotoService motoService, TransmissorEventosMoto transmissor) {
+        this.contadores = contadores;
         this.motoService = motoService;
+        this.transmissor = transmissor;
     }
 
     @GetMapping({"/", "/dashboard"})
     public String dashboard(Model model) {
-        // Estatísticas para o dashboard
-        var patios = patioService.listarTodos();
-        var motos = motoService.listarTodas();
+        // Estatísticas para o dashboard (contadores em memória)
+        var estatisticas = contadores.estatisticas();
         
-        model.addAttribute("totalPatios", patios.size());
-        model.addAttribute("totalMotos", motos.size());
-        model.addAttribute("motosDisponiveis", 
-            motos.stream().mapToInt(m -> "DISPONIVEL".equals(m.getStatus()) ? 1 : 0).sum());
-        model.addAttribute("motosManutencao", 
-            motos.stream().mapToInt(m -> "MANUTENCAO".equals(m.getStatus()) ? 1 : 0).sum());
+        model.addAttribute("totalPatios", estatisticas.getTotalPatios());
+        model.addAttribute("totalMotos", estatisticas.getTotalMotos());
+        model.addAttribute("motosDisponiveis", estatisticas.totalPorStatus(MotoStatus.DISPONIVEL));
+        model.addAttribute("motosManutencao", estatisticas.totalPorStatus(MotoStatus.MANUTENCAO));
         
         // Motos recentes (últimas 5)
-        var motosRecentes = motos.stream()
-            .sorted((m1, m2) -> m2.getDataEntrada().compareTo(m1.getDataEntrada()))
-            .limit(5)
-            .toList();
-        model.addAttribute("motosRecentes", motosRecentes);
+        model.addAttribute("motosRecentes", motoService.listarRecentes());
         
         return "dashboard";
     }
 
+    // Stream de eventos de motos para o dashboard web (mesmo conteúdo de /api/mobile/motos/eventos)
+    @GetMapping(value = "/dashboard/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter eventos(@RequestParam(required = false) Long idPatio) {
+        try {
+            return transmissor.assinar(idPatio);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
     @GetMapping("/login")
     public String login() {
         return "login";
@@ -1,20 +1,42 @@
 package fiap.com.br.SentinelTrack.Api.controllers;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import fiap.com.br.SentinelTrack.Application.dto.EstatisticasFrotaDTO;
+import fiap.com.br.SentinelTrack.Application.dto.FiltroMotoDTO;
 import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PaginaDTO;
 import fiap.com.br.SentinelTrack.Application.dto.PatioDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PosicaoMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResumoPatioDTO;
 import fiap.com.br.SentinelTrack.Application.dto.LoginRequestDTO;
+import fiap.com.br.SentinelTrack.Application.dto.SincronizacaoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.SincronizacaoRequestDTO;
+import fiap.com.br.SentinelTrack.Application.services.ContadoresFrota;
+import fiap.com.br.SentinelTrack.Application.services.MotoExportService;
 import fiap.com.br.SentinelTrack.Application.services.MotoService;
 import fiap.com.br.SentinelTrack.Application.services.PatioService;
+import fiap.com.br.SentinelTrack.Application.services.PosicoesMotos;
+import fiap.com.br.SentinelTrack.Application.services.SincronizacaoService;
 import fiap.com.br.SentinelTrack.Application.services.JwtService;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -32,11 +54,21 @@ public class MobileApiController {
     private final MotoService motoService;
     private final PatioService patioService;
     private final JwtService jwtService;
+    private final ContadoresFrota contadores;
+    private final MotoExportService motoExportService;
+    private final SincronizacaoService sincronizacaoService;
+    private final PosicoesMotos posicoes;
 
-    public MobileApiController(MotoService motoService, PatioService patioService, JwtService jwtService) {
+    public MobileApiController(MotoService motoService, PatioService patioService, JwtService jwtService,
+                               ContadoresFrota contadores, MotoExportService motoExportService,
+                               SincronizacaoService sincronizacaoService, PosicoesMotos posicoes) {
         this.motoService = motoService;
         this.patioService = patioService;
         this.jwtService = jwtService;
+        this.contadores = contadores;
+        this.motoExportService = motoExportService;
+        this.sincronizacaoService = sincronizacaoService;
+        this.posicoes = posicoes;
     }
 
     /**
@@ -139,22 +171,17 @@ public class MobileApiController {
     @GetMapping("/dashboard")
     public ResponseEntity<?> dashboard() {
         try {
-            List<MotoDTO> todasMotos = motoService.listarTodas();
-            List<PatioDTO> todosPatios = patioService.listar();
+            // Contadores em memória e pátios em cache: o dashboard não consulta o banco
+            EstatisticasFrotaDTO estatisticas = contadores.estatisticas();
+            List<ResumoPatioDTO> resumosPatios = contadores.resumirPatios(patioService.listarTodos());
             
             // Estatísticas
-            long totalMotos = todasMotos.size();
-            long motosDisponiveis = todasMotos.stream()
-                .filter(m -> "DISPONIVEL".equals(m.getStatus()))
-                .count();
-            long motosEmUso = todasMotos.stream()
-                .filter(m -> "EM_USO".equals(m.getStatus()))
-                .count();
-            long motosManutencao = todasMotos.stream()
-                .filter(m -> "MANUTENCAO".equals(m.getStatus()))
-                .count();
+            long totalMotos = estatisticas.getTotalMotos();
+            long motosDisponiveis = estatisticas.totalPorStatus(MotoStatus.DISPONIVEL);
+            long motosEmUso = estatisticas.totalPorStatus(MotoStatus.EM_USO);
+            long motosManutencao = estatisticas.totalPorStatus(MotoStatus.MANUTENCAO);
             
-            log.info("Dashboard acessado - {} motos, {} pátios", totalMotos, todosPatios.size());
+            log.info("Dashboard acessado - {} motos, {} pátios", totalMotos, estatisticas.getTotalPatios());
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -163,11 +190,11 @@ public class MobileApiController {
                     "motosDisponiveis", motosDisponiveis,
                     "motosEmUso", motosEmUso,
                     "motosManutencao", motosManutencao,
-                    "totalPatios", todosPatios.size(),
-                    "percentualDisponibilidade", totalMotos > 0 ? (motosDisponiveis * 100.0 / totalMotos) : 0
+                    "totalPatios", estatisticas.getTotalPatios(),
+                    "percentualDisponibilidade", estatisticas.percentualPorStatus(MotoStatus.DISPONIVEL)
                 ),
-                "motosRecentes", todasMotos.stream().limit(5).toList(),
-                "patios", todosPatios,
+                "motosRecentes", motoService.listarRecentes(),
+                "patios", resumosPatios,
                 "timestamp", LocalDateTime.now()
             ));
         } catch (Exception e) {
@@ -178,22 +205,107 @@ public class MobileApiController {
     }
 
     /**
-     * Lista pátios para o mobile
-     * GET /api/mobile/patios
+     * Lista pátios para o mobile, paginados por cursor
+     * GET /api/mobile/patios?cursor=10&tamanho=50 (304 quando o If-None-Match coincide com a versão dos pátios)
      */
     @GetMapping("/patios")
-    public ResponseEntity<?> listarPatios() {
+    public ResponseEntity<?> listarPatios(@RequestParam(required = false) Long cursor,
+                                          @RequestParam(required = false) Integer tamanho,
+                                          ServletWebRequest request) {
         try {
-            List<PatioDTO> patios = patioService.listar();
-            log.info("Listando {} pátios para mobile", patios.size());
+            if (RespostaCondicional.naoModificado(request, "patios", patioService.versao())) {
+                return null; // 304 já preparado
+            }
+
+            PaginaDTO<PatioDTO> pagina = patioService.listarPagina(cursor, tamanho);
+            log.info("Listando {} pátios para mobile", pagina.getTamanho());
+            
+            Map<String, Object> resposta = new LinkedHashMap<>();
+            resposta.put("success", true);
+            resposta.put("patios", pagina.getItens());
+            resposta.put("total", pagina.getTamanho());
+            resposta.put("proximoCursor", pagina.getProximoCursor());
+            resposta.put("temMais", pagina.isTemMais());
+            return ResponseEntity.ok(resposta);
+        } catch (Exception e) {
+            log.error("Erro ao listar pátios: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Resumo dos pátios (contagem de motos por status e densidade de ocupação)
+     * GET /api/mobile/patios/resumo
+     */
+    @GetMapping("/patios/resumo")
+    public ResponseEntity<?> resumirPatios() {
+        try {
+            List<ResumoPatioDTO> resumos = patioService.listarResumos();
+            log.info("Resumo de {} pátios para mobile", resumos.size());
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "patios", patios,
-                "total", patios.size()
+                "patios", resumos,
+                "total", resumos.size()
             ));
         } catch (Exception e) {
-            log.error("Erro ao listar pátios: {}", e.getMessage());
+            log.error("Erro ao resumir pátios: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Motos de um pátio sob demanda, paginadas por cursor
+     * GET /api/mobile/patios/{id}/motos?cursor=120&tamanho=50
+     */
+    @GetMapping("/patios/{id}/motos")
+    public ResponseEntity<?> listarMotosDoPatio(@PathVariable Long id,
+                                                @RequestParam(required = false) Long cursor,
+                                                @RequestParam(required = false) Integer tamanho) {
+        try {
+            FiltroMotoDTO filtro = new FiltroMotoDTO();
+            filtro.setIdPatio(id);
+            PaginaDTO<MotoDTO> pagina = motoService.listarPagina(filtro, cursor, tamanho);
+            log.info("Listando {} motos do pátio {} para mobile", pagina.getTamanho(), id);
+            
+            Map<String, Object> resposta = new LinkedHashMap<>();
+            resposta.put("success", true);
+            resposta.put("idPatio", id);
+            resposta.put("motos", pagina.getItens());
+            resposta.put("total", pagina.getTamanho());
+            resposta.put("proximoCursor", pagina.getProximoCursor());
+            resposta.put("temMais", pagina.isTemMais());
+            return ResponseEntity.ok(resposta);
+        } catch (Exception e) {
+            log.error("Erro ao listar motos do pátio {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Última posição das motos de um pátio que já reportaram telemetria
+     * GET /api/mobile/patios/{id}/posicoes
+     */
+    @GetMapping("/patios/{id}/posicoes")
+    public ResponseEntity<?> listarPosicoesDoPatio(@PathVariable Long id) {
+        try {
+            if (patioService.buscarEntidadePorId(id).isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "message", "Pátio não encontrado"));
+            }
+            List<PosicaoMotoDTO> lista = posicoes.buscarPorPatio(id);
+
+            Map<String, Object> resposta = new LinkedHashMap<>();
+            resposta.put("success", true);
+            resposta.put("idPatio", id);
+            resposta.put("posicoes", lista);
+            resposta.put("total", lista.size());
+            return ResponseEntity.ok(resposta);
+        } catch (Exception e) {
+            log.error("Erro ao listar posições do pátio {}: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("success", false, "error", e.getMessage()));
         }
@@ -201,35 +313,53 @@ public class MobileApiController {
 
     /**
      * Relatórios para o mobile
-     * POST /api/mobile/relatorios/uso
+     * POST /api/mobile/relatorios/uso  {"status": "DISPONIVEL", "cursor": 120, "tamanho": 50}
+     * 
+     * Totais e resumo por status vêm dos contadores em memória; as motos vêm em
+     * páginas por cursor (proximoCursor/temMais), nunca a frota inteira. Para a
+     * frota completa use /relatorios/motos/exportar.
      */
     @PostMapping("/relatorios/uso")
     public ResponseEntity<?> gerarRelatorioUso(@RequestBody(required = false) Map<String, Object> filtros) {
         try {
-            List<MotoDTO> motos = motoService.listarTodas();
-            
-            // Aplicar filtros se fornecidos
-            if (filtros != null && filtros.containsKey("status")) {
-                String status = (String) filtros.get("status");
-                motos = motoService.buscarPorStatus(status);
+            Map<String, Object> parametros = filtros != null ? filtros : Map.of();
+            FiltroMotoDTO filtro = new FiltroMotoDTO();
+            Object status = parametros.get("status");
+            if (status != null) {
+                Optional<MotoStatus> filtroStatus = MotoStatus.buscar(status.toString());
+                if (filtroStatus.isEmpty()) {
+                    return ResponseEntity.badRequest()
+                        .body(Map.of("success", false, "message", "Status inválido: " + status));
+                }
+                filtro.setStatus(filtroStatus.get());
             }
-            
-            log.info("Gerando relatório de uso com {} motos", motos.size());
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "relatorio", Map.of(
-                    "titulo", "Relatório de Uso de Motos",
-                    "dataGeracao", LocalDateTime.now(),
-                    "totalMotos", motos.size(),
-                    "motos", motos,
-                    "resumo", Map.of(
-                        "disponivel", motos.stream().filter(m -> "DISPONIVEL".equals(m.getStatus())).count(),
-                        "em_uso", motos.stream().filter(m -> "EM_USO".equals(m.getStatus())).count(),
-                        "manutencao", motos.stream().filter(m -> "MANUTENCAO".equals(m.getStatus())).count()
-                    )
-                )
+
+            EstatisticasFrotaDTO estatisticas = contadores.estatisticas();
+            long totalMotos = filtro.getStatus() != null
+                    ? estatisticas.totalPorStatus(filtro.getStatus())
+                    : estatisticas.getTotalMotos();
+            Long tamanho = numero(parametros.get("tamanho"));
+            PaginaDTO<MotoDTO> pagina = motoService.listarPagina(filtro, numero(parametros.get("cursor")),
+                    tamanho != null ? tamanho.intValue() : null);
+
+            log.info("Gerando relatório de uso - total: {}, página: {}", totalMotos, pagina.getTamanho());
+
+            Map<String, Object> relatorio = new LinkedHashMap<>();
+            relatorio.put("titulo", "Relatório de Uso de Motos");
+            relatorio.put("dataGeracao", LocalDateTime.now());
+            relatorio.put("totalMotos", totalMotos);
+            relatorio.put("motos", pagina.getItens());
+            relatorio.put("proximoCursor", pagina.getProximoCursor());
+            relatorio.put("temMais", pagina.isTemMais());
+            relatorio.put("resumo", Map.of(
+                "disponivel", estatisticas.totalPorStatus(MotoStatus.DISPONIVEL),
+                "em_uso", estatisticas.totalPorStatus(MotoStatus.EM_USO),
+                "manutencao", estatisticas.totalPorStatus(MotoStatus.MANUTENCAO)
             ));
+            return ResponseEntity.ok(Map.of("success", true, "relatorio", relatorio));
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", "Cursor ou tamanho inválido"));
         } catch (Exception e) {
             log.error("Erro ao gerar relatório: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -237,22 +367,78 @@ public class MobileApiController {
         }
     }
 
+    // Números do corpo JSON chegam como Integer/Long (ou texto, em clientes antigos)
+    private static Long numero(Object valor) {
+        if (valor == null) {
+            return null;
+        }
+        return valor instanceof Number n ? n.longValue() : Long.parseLong(valor.toString().trim());
+    }
+
     /**
-     * Endpoint para sincronização com outras APIs
-     * POST /api/mobile/sync
+     * Exporta a frota em streaming, sem montar a lista em memória
+     * GET /api/mobile/relatorios/motos/exportar?formato=csv|ndjson&status=DISPONIVEL&idPatio=1
+     */
+    @GetMapping("/relatorios/motos/exportar")
+    public void exportarMotos(@RequestParam(defaultValue = "csv") String formato,
+                              @RequestParam(required = false) String status,
+                              @RequestParam(required = false) Long idPatio,
+                              HttpServletResponse response) throws IOException {
+        MotoStatus filtroStatus = null;
+        if (status != null && !status.isBlank()) {
+            filtroStatus = MotoStatus.buscar(status).orElse(null);
+            if (filtroStatus == null) {
+                response.sendError(HttpStatus.BAD_REQUEST.value(), "Status inválido: " + status);
+                return;
+            }
+        }
+        try {
+            if ("ndjson".equalsIgnoreCase(formato)) {
+                response.setContentType("application/x-ndjson");
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                motoExportService.exportarNdjson(filtroStatus, idPatio, response.getOutputStream());
+            } else if ("csv".equalsIgnoreCase(formato)) {
+                response.setContentType("text/csv; charset=UTF-8");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"motos.csv\"");
+                Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+                motoExportService.exportarCsv(filtroStatus, idPatio, writer);
+                writer.flush();
+            } else {
+                response.sendError(HttpStatus.BAD_REQUEST.value(), "Formato não suportado: " + formato);
+            }
+        } catch (IOException e) {
+            log.warn("Exportação de motos interrompida: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sincronização incremental do mobile
+     * POST /api/mobile/sync  {"watermark": "...", "tamanho": 500}
+     * 
+     * Devolve motos e pátios criados/alterados e as remoções desde o watermark.
+     * O cliente repete com o novo watermark enquanto temMais for true.
      */
     @PostMapping("/sync")
-    public ResponseEntity<?> sincronizar() {
+    public ResponseEntity<?> sincronizar(@RequestBody(required = false) SincronizacaoRequestDTO pedido) {
         try {
-            // Simula sincronização com outras APIs
-            log.info("Sincronização solicitada pelo mobile");
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "Sincronização realizada com sucesso",
-                "timestamp", LocalDateTime.now(),
-                "apis_sincronizadas", List.of("VisionMoto Python API", "Database")
-            ));
+            String watermark = pedido != null ? pedido.getWatermark() : null;
+            SincronizacaoDTO lote = sincronizacaoService.sincronizar(watermark, pedido != null ? pedido.getTamanho() : null);
+            log.info("Sincronização mobile - motos: {}, pátios: {}, removidos: {}, temMais: {}",
+                    lote.getMotos().size(), lote.getPatios().size(), lote.getRemovidos().size(), lote.isTemMais());
+
+            Map<String, Object> resposta = new LinkedHashMap<>();
+            resposta.put("success", true);
+            resposta.put("completa", lote.isCompleta());
+            resposta.put("motos", lote.getMotos());
+            resposta.put("patios", lote.getPatios());
+            resposta.put("removidos", lote.getRemovidos());
+            resposta.put("watermark", lote.getWatermark());
+            resposta.put("temMais", lote.isTemMais());
+            resposta.put("timestamp", LocalDateTime.now());
+            return ResponseEntity.ok(resposta);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "error", e.getMessage()));
         } catch (Exception e) {
             log.error("Erro na sincronização: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -1,16 +1,37 @@
 package fiap.com.br.SentinelTrack.Api.controllers;
 
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import fiap.com.br.SentinelTrack.Application.dto.CreateMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.FiltroMotoDTO;
 import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PaginaDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PosicaoMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResultadoImportacaoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.SugestaoPlacaDTO;
+import fiap.com.br.SentinelTrack.Application.services.IndicePlacas;
+import fiap.com.br.SentinelTrack.Application.services.MotoImportService;
 import fiap.com.br.SentinelTrack.Application.services.MotoService;
+import fiap.com.br.SentinelTrack.Application.services.PatioService;
+import fiap.com.br.SentinelTrack.Application.services.PosicoesMotos;
+import fiap.com.br.SentinelTrack.Application.services.TransmissorEventosMoto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -26,34 +47,63 @@ import lombok.extern.slf4j.Slf4j;
 public class MotoRestController {
 
     private final MotoService motoService;
+    private final MotoImportService motoImportService;
+    private final PatioService patioService;
+    private final TransmissorEventosMoto transmissor;
+    private final IndicePlacas indicePlacas;
+    private final PosicoesMotos posicoes;
 
-    public MotoRestController(MotoService motoService) {
+    public MotoRestController(MotoService motoService, MotoImportService motoImportService, PatioService patioService,
+                              TransmissorEventosMoto transmissor, IndicePlacas indicePlacas, PosicoesMotos posicoes) {
         this.motoService = motoService;
+        this.motoImportService = motoImportService;
+        this.patioService = patioService;
+        this.transmissor = transmissor;
+        this.indicePlacas = indicePlacas;
+        this.posicoes = posicoes;
     }
 
     /**
-     * Lista todas as motos ou filtra por status
-     * GET /api/mobile/motos?status=DISPONIVEL
+     * Lista motos paginadas por cursor, com filtros opcionais
+     * GET /api/mobile/motos?status=DISPONIVEL&idPatio=1&modelo=Honda&cursor=120&tamanho=50&ordem=desc
+     * 
+     * O campo proximoCursor da resposta deve ser enviado como cursor na próxima página
+     * Responde 304 quando o If-None-Match coincide com a versão atual das motos
      */
     @GetMapping
-    public ResponseEntity<?> listarMotos(@RequestParam(required = false) String status) {
+    public ResponseEntity<?> listarMotos(@RequestParam(required = false) String status,
+                                         @RequestParam(required = false) Long idPatio,
+                                         @RequestParam(required = false) String modelo,
+                                         @RequestParam(required = false) Long cursor,
+                                         @RequestParam(required = false) Integer tamanho,
+                                         @RequestParam(defaultValue = "asc") String ordem,
+                                         ServletWebRequest request) {
         try {
-            List<MotoDTO> motos;
-            
-            if (status != null && !status.isEmpty()) {
-                motos = motoService.buscarPorStatus(status.toUpperCase());
-                log.info("Listando motos com status: {}", status);
-            } else {
-                motos = motoService.listarTodas();
-                log.info("Listando todas as motos");
+            // Versão das motos (do pátio filtrado, se houver) e dos pátios (nomePatio vai na resposta)
+            if (RespostaCondicional.naoModificado(request, "motos", motoService.versao(idPatio), patioService.versao())) {
+                return null; // 304 já preparado
             }
 
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "motos", motos,
-                "total", motos.size(),
-                "timestamp", java.time.LocalDateTime.now()
-            ));
+            FiltroMotoDTO filtro = new FiltroMotoDTO();
+            filtro.setStatus(status != null && !status.isBlank() ? MotoStatus.de(status) : null);
+            filtro.setIdPatio(idPatio);
+            filtro.setModelo(modelo != null && !modelo.isBlank() ? modelo.trim() : null);
+            filtro.setDecrescente("desc".equalsIgnoreCase(ordem));
+
+            PaginaDTO<MotoDTO> pagina = motoService.listarPagina(filtro, cursor, tamanho);
+            log.info("Listando motos - filtro: {}, cursor: {}, retornadas: {}", filtro, cursor, pagina.getTamanho());
+
+            Map<String, Object> resposta = new LinkedHashMap<>();
+            resposta.put("success", true);
+            resposta.put("motos", pagina.getItens());
+            resposta.put("total", pagina.getTamanho());
+            resposta.put("proximoCursor", pagina.getProximoCursor());
+            resposta.put("temMais", pagina.isTemMais());
+            resposta.put("timestamp", java.time.LocalDateTime.now());
+            return ResponseEntity.ok(resposta);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "error", e.getMessage()));
         } catch (Exception e) {
             log.error("Erro ao listar motos: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -62,13 +112,31 @@ public class MotoRestController {
     }
 
     /**
-     * Busca moto por placa
+     * Sugestões de placas por prefixo, para autocomplete e leitores de placa
+     * GET /api/mobile/motos/placas/suggest?q=ABC1&limite=10
+     * 
+     * Resolvido no índice de placas em memória, sem consultar o banco.
+     * Os formatos antigo e Mercosul são equivalentes: "ABC12" encontra ABC1234 e ABC1C34
+     */
+    @GetMapping("/placas/suggest")
+    public ResponseEntity<?> sugerirPlacas(@RequestParam("q") String prefixo,
+                                           @RequestParam(defaultValue = "10") int limite) {
+        List<SugestaoPlacaDTO> sugestoes = indicePlacas.sugerir(prefixo, limite);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "sugestoes", sugestoes,
+            "total", sugestoes.size()
+        ));
+    }
+
+    /**
+     * Busca moto por placa (ABC1234 também encontra a mesma moto gravada como ABC1C34)
      * GET /api/mobile/motos/buscar/{placa}
      */
     @GetMapping("/buscar/{placa}")
     public ResponseEntity<?> buscarPorPlaca(@PathVariable String placa) {
         try {
-            Optional<MotoDTO> moto = motoService.buscarPorPlaca(placa.toUpperCase());
+            Optional<MotoDTO> moto = motoService.buscarPorPlaca(placa);
             
             if (moto.isPresent()) {
                 log.info("Moto encontrada: {}", placa);
@@ -120,6 +188,60 @@ public class MotoRestController {
         }
     }
 
+    /**
+     * Importa motos em lote a partir de um array JSON
+     * POST /api/mobile/motos/importacao
+     * 
+     * Retorna o resultado de cada linha; linhas inválidas não impedem a importação das demais
+     */
+    @PostMapping(value = "/importacao", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importarMotos(@RequestBody List<CreateMotoDTO> motos) {
+        return importar(() -> motoImportService.importar(motos));
+    }
+
+    /**
+     * Importa motos em lote a partir de um arquivo CSV (campo "arquivo")
+     * POST /api/mobile/motos/importacao
+     * 
+     * Cabeçalho: modelo,placa,status,idPatio,dataEntrada
+     */
+    @PostMapping(value = "/importacao", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importarMotosCsv(@RequestParam("arquivo") MultipartFile arquivo) {
+        return importar(() -> {
+            try (Reader reader = new InputStreamReader(arquivo.getInputStream(), StandardCharsets.UTF_8)) {
+                return motoImportService.importarCsv(reader);
+            }
+        });
+    }
+
+    private ResponseEntity<?> importar(Importacao importacao) {
+        try {
+            ResultadoImportacaoDTO resultado = importacao.executar();
+            return ResponseEntity.ok(Map.of(
+                "success", resultado.getRejeitadas() == 0,
+                "resultado", resultado
+            ));
+        } catch (IllegalArgumentException e) {
+            log.warn("Importação de motos rejeitada: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (DataIntegrityViolationException e) {
+            // Placa cadastrada por outra requisição entre a checagem e o INSERT: nada foi importado
+            log.warn("Conflito de placas durante importação de motos: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("success", false, "error", "Conflito de placas durante a importação. Nenhuma moto foi importada; tente novamente."));
+        } catch (Exception e) {
+            log.error("Erro interno na importação de motos: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "error", "Erro interno do servidor"));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Importacao {
+        ResultadoImportacaoDTO executar() throws Exception;
+    }
+
     /**
      * Atualiza moto existente
      * PUT /api/mobile/motos/{id}
@@ -177,13 +299,53 @@ public class MotoRestController {
         }
     }
 
+    /**
+     * Última posição conhecida da moto (telemetria mais recente, em memória)
+     * GET /api/mobile/motos/{id}/posicao
+     */
+    @GetMapping("/{id}/posicao")
+    public ResponseEntity<?> buscarPosicao(@PathVariable Long id) {
+        try {
+            Optional<PosicaoMotoDTO> posicao = posicoes.buscar(id);
+            if (posicao.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "message", "Posição não disponível para a moto"));
+            }
+            return ResponseEntity.ok(Map.of("success", true, "posicao", posicao.get()));
+        } catch (Exception e) {
+            log.error("Erro ao buscar posição da moto {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Stream (Server-Sent Events) de criação, alteração, mudança de status e remoção de motos
+     * GET /api/mobile/motos/eventos?idPatio=1 (sem idPatio: todos os pátios)
+     * 
+     * Substitui o polling de /motos e /dashboard: o cliente recarrega a lista apenas
+     * ao receber "importacao" ou "resync" (eventos descartados por lentidão)
+     */
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter eventos(@RequestParam(required = false) Long idPatio) {
+        try {
+            return transmissor.assinar(idPatio);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
     /**
      * Busca motos por pátio
-     * GET /api/mobile/motos/patio/{idPatio}
+     * GET /api/mobile/motos/patio/{idPatio} (304 quando o If-None-Match coincide com a versão do pátio)
      */
     @GetMapping("/patio/{idPatio}")
-    public ResponseEntity<?> buscarPorPatio(@PathVariable Long idPatio) {
+    public ResponseEntity<?> buscarPorPatio(@PathVariable Long idPatio, ServletWebRequest request) {
         try {
+            if (RespostaCondicional.naoModificado(request, "motos-patio", motoService.versao(idPatio), patioService.versao())) {
+                return null; // 304 já preparado
+            }
+
             List<MotoDTO> motos = motoService.buscarPorPatio(idPatio);
             log.info("Buscando motos do pátio: {}", idPatio);
             
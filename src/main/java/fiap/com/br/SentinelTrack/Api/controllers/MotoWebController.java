@@ -2,8 +2,10 @@ package fiap.com.br.SentinelTrack.Api.controllers;
 
 import fiap.com.br.SentinelTrack.Application.dto.CreateMotoDTO;
 import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import fiap.com.br.SentinelTrack.Application.services.EstatisticaService;
 import fiap.com.br.SentinelTrack.Application.services.MotoService;
 import fiap.com.br.SentinelTrack.Application.services.PatioService;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
 import jakarta.validation.Valid;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -12,18 +14,27 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/motos")
 public class MotoWebController {
 
+    private static final int LIMITE_BUSCA_PLACA = 20;
+
     private final MotoService motoService;
     private final PatioService patioService;
+    private final EstatisticaService estatisticaService;
 
-    public MotoWebController(MotoService motoService, PatioService patioService) {
+    public MotoWebController(MotoService motoService, PatioService patioService,
+                             EstatisticaService estatisticaService) {
         this.motoService = motoService;
         this.patioService = patioService;
+        this.estatisticaService = estatisticaService;
     }
 
     @GetMapping
@@ -36,23 +47,29 @@ public class MotoWebController {
         
         // Aplicar filtros
         if (status != null && !status.trim().isEmpty()) {
-            motos = motoService.buscarPorStatus(status);
+            // Status desconhecido não corresponde a nenhuma moto
+            motos = MotoStatus.buscar(status)
+                    .map(motoService::buscarPorStatus)
+                    .orElseGet(ArrayList::new);
         } else if (idPatio != null) {
             motos = motoService.buscarPorPatio(idPatio);
         } else if (busca != null && !busca.trim().isEmpty()) {
             motos = motoService.buscarPorModelo(busca.trim());
-            // Tentar buscar por placa também
-            motoService.buscarPorPlaca(busca.trim()).ifPresent(motos::add);
+            // Placas que começam com o termo, em qualquer formato (antigo ou Mercosul)
+            Set<Long> encontradas = motos.stream().map(MotoDTO::getId).collect(Collectors.toSet());
+            motoService.buscarPorPrefixoPlaca(busca.trim(), LIMITE_BUSCA_PLACA).stream()
+                    .filter(moto -> !encontradas.contains(moto.getId()))
+                    .forEach(motos::add);
         } else {
             motos = motoService.listarTodas();
         }
         
         // Estatísticas
-        List<MotoDTO> todasMotos = motoService.listarTodas();
-        long totalMotos = todasMotos.size();
-        long motosDisponiveis = todasMotos.stream().filter(m -> "DISPONIVEL".equals(m.getStatus())).count();
-        long motosEmUso = todasMotos.stream().filter(m -> "EM_USO".equals(m.getStatus())).count();
-        long motosManutencao = todasMotos.stream().filter(m -> "MANUTENCAO".equals(m.getStatus())).count();
+        Map<MotoStatus, Long> contagemPorStatus = estatisticaService.contarPorStatus();
+        long totalMotos = contagemPorStatus.values().stream().mapToLong(Long::longValue).sum();
+        long motosDisponiveis = contagemPorStatus.getOrDefault(MotoStatus.DISPONIVEL, 0L);
+        long motosEmUso = contagemPorStatus.getOrDefault(MotoStatus.EM_USO, 0L);
+        long motosManutencao = contagemPorStatus.getOrDefault(MotoStatus.MANUTENCAO, 0L);
         
         model.addAttribute("motos", motos);
         model.addAttribute("patios", patioService.listar());
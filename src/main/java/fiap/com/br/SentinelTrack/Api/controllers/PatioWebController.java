@@ -1,6 +1,7 @@
 package fiap.com.br.SentinelTrack.Api.controllers;
 
 import fiap.com.br.SentinelTrack.Application.dto.CreatePatioDTO;
+import fiap.com.br.SentinelTrack.Application.services.EstatisticaService;
 import fiap.com.br.SentinelTrack.Application.services.PatioService;
 import jakarta.validation.Valid;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,9 +16,11 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class PatioWebController {
 
     private final PatioService patioService;
+    private final EstatisticaService estatisticaService;
 
-    public PatioWebController(PatioService patioService) {
+    public PatioWebController(PatioService patioService, EstatisticaService estatisticaService) {
         this.patioService = patioService;
+        this.estatisticaService = estatisticaService;
     }
 
     @GetMapping
@@ -27,6 +30,7 @@ public class PatioWebController {
             : patioService.listarTodos();
         
         model.addAttribute("patios", patios);
+        model.addAttribute("motosPorPatio", estatisticaService.contarPorPatio());
         model.addAttribute("busca", busca);
         return "patios/list";
     }
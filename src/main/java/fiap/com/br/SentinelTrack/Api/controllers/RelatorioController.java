@@ -1,15 +1,23 @@
 package fiap.com.br.SentinelTrack.Api.controllers;
 
-import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
-import fiap.com.br.SentinelTrack.Application.dto.PatioDTO;
-import fiap.com.br.SentinelTrack.Application.services.MotoService;
-import fiap.com.br.SentinelTrack.Application.services.PatioService;
+import fiap.com.br.SentinelTrack.Application.dto.EstatisticasFrotaDTO;
+import fiap.com.br.SentinelTrack.Application.services.EstatisticaService;
+import fiap.com.br.SentinelTrack.Application.services.MotoExportService;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,44 +28,37 @@ import java.util.stream.Collectors;
 @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
 public class RelatorioController {
 
-    private final MotoService motoService;
-    private final PatioService patioService;
+    private final EstatisticaService estatisticaService;
+    private final MotoExportService motoExportService;
 
-    public RelatorioController(MotoService motoService, PatioService patioService) {
-        this.motoService = motoService;
-        this.patioService = patioService;
+    public RelatorioController(EstatisticaService estatisticaService, MotoExportService motoExportService) {
+        this.estatisticaService = estatisticaService;
+        this.motoExportService = motoExportService;
     }
 
     @GetMapping
     public String index(Model model) {
-        List<MotoDTO> motos = motoService.listarTodas();
-        List<PatioDTO> patios = patioService.listar();
+        EstatisticasFrotaDTO estatisticas = estatisticaService.obterEstatisticas();
         
         // Estatísticas gerais
-        long totalMotos = motos.size();
-        long motosDisponiveis = motos.stream().filter(m -> "DISPONIVEL".equals(m.getStatus())).count();
-        long motosEmUso = motos.stream().filter(m -> "EM_USO".equals(m.getStatus())).count();
-        long motosManutencao = motos.stream().filter(m -> "MANUTENCAO".equals(m.getStatus())).count();
+        long totalMotos = estatisticas.getTotalMotos();
+        long motosDisponiveis = estatisticas.totalPorStatus(MotoStatus.DISPONIVEL);
+        long motosEmUso = estatisticas.totalPorStatus(MotoStatus.EM_USO);
+        long motosManutencao = estatisticas.totalPorStatus(MotoStatus.MANUTENCAO);
         
         // Taxas percentuais
-        double taxaDisponiveis = totalMotos > 0 ? (motosDisponiveis * 100.0 / totalMotos) : 0;
-        double taxaEmUso = totalMotos > 0 ? (motosEmUso * 100.0 / totalMotos) : 0;
-        double taxaManutencao = totalMotos > 0 ? (motosManutencao * 100.0 / totalMotos) : 0;
+        double taxaDisponiveis = estatisticas.percentualPorStatus(MotoStatus.DISPONIVEL);
+        double taxaEmUso = estatisticas.percentualPorStatus(MotoStatus.EM_USO);
+        double taxaManutencao = estatisticas.percentualPorStatus(MotoStatus.MANUTENCAO);
         
         // Distribuição por pátio
-        Map<Long, String> patioNomes = patios.stream()
-            .collect(Collectors.toMap(PatioDTO::getId, PatioDTO::getNome));
-        
-        Map<Long, Long> distribuicao = motos.stream()
-            .collect(Collectors.groupingBy(MotoDTO::getIdPatio, Collectors.counting()));
-        
-        List<Map<String, Object>> distribuicaoPatios = distribuicao.entrySet().stream()
-            .map(entry -> {
+        List<Map<String, Object>> distribuicaoPatios = estatisticas.getDistribuicaoPatios().stream()
+            .map(patio -> {
                 Map<String, Object> item = new HashMap<>();
-                item.put("nome", patioNomes.getOrDefault(entry.getKey(), "Desconhecido"));
-                item.put("quantidade", entry.getValue());
+                item.put("nome", patio.getNomePatio());
+                item.put("quantidade", patio.getTotalMotos());
                 item.put("percentual", totalMotos > 0 ? 
-                    String.format("%.1f", (entry.getValue() * 100.0 / totalMotos)) : "0.0");
+                    String.format("%.1f", (patio.getTotalMotos() * 100.0 / totalMotos)) : "0.0");
                 return item;
             })
             .collect(Collectors.toList());
@@ -73,4 +74,24 @@ public class RelatorioController {
         
         return "relatorios/index";
     }
+
+    /**
+     * Download do relatório de motos em CSV, escrito em streaming na resposta
+     */
+    @GetMapping("/motos.csv")
+    public void exportarCsv(@RequestParam(required = false) String status, HttpServletResponse response) throws IOException {
+        MotoStatus filtroStatus = null;
+        if (status != null && !status.isBlank()) {
+            filtroStatus = MotoStatus.buscar(status).orElse(null);
+            if (filtroStatus == null) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Status inválido: " + status);
+                return;
+            }
+        }
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"relatorio-motos.csv\"");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        motoExportService.exportarCsv(filtroStatus, null, writer);
+        writer.flush();
+    }
 }
@@ -0,0 +1,53 @@
+package fiap.com.br.SentinelTrack.Api.controllers;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import fiap.com.br.SentinelTrack.Domain.repositories.VersaoColecao;
+
+/**
+ * Requisições condicionais (If-None-Match / If-Modified-Since) das listagens mobile
+ * 
+ * A ETag combina a versão (total + maior UPDATED_AT) das coleções que compõem a
+ * resposta, obtida por uma consulta agregada: o 304 é respondido sem carregar nem
+ * serializar linhas. Cada URL (filtros, cursor) tem sua própria entrada no cliente,
+ * então a ETag não precisa incluir os parâmetros. Last-Modified não reflete remoções;
+ * clientes devem preferir a ETag.
+ */
+final class RespostaCondicional {
+
+    // Resposta pode ser guardada pelo cliente, mas sempre revalidada
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private RespostaCondicional() {
+    }
+
+    /**
+     * Define ETag, Last-Modified e Cache-Control na resposta
+     * @return true se o cliente já tem a versão atual (resposta 304 já preparada)
+     */
+    static boolean naoModificado(ServletWebRequest request, String recurso, VersaoColecao... versoes) {
+        StringBuilder etag = new StringBuilder("\"").append(recurso);
+        long ultimaAtualizacao = -1;
+
+        for (VersaoColecao versao : versoes) {
+            etag.append('-').append(versao.getTotal() != null ? versao.getTotal() : 0L);
+            if (versao.getUltimaAtualizacao() != null) {
+                Instant instante = versao.getUltimaAtualizacao().atZone(ZoneId.systemDefault()).toInstant();
+                etag.append('.').append(ChronoUnit.MICROS.between(Instant.EPOCH, instante));
+                ultimaAtualizacao = Math.max(ultimaAtualizacao, instante.toEpochMilli());
+            }
+        }
+        etag.append('"');
+
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        }
+        return request.checkNotModified(etag.toString(), ultimaAtualizacao);
+    }
+}
@@ -0,0 +1,63 @@
+package fiap.com.br.SentinelTrack.Api.controllers;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import fiap.com.br.SentinelTrack.Application.dto.LeituraTelemetriaDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResultadoTelemetriaDTO;
+import fiap.com.br.SentinelTrack.Application.services.TelemetriaService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controller REST para ingestão de telemetria dos sensores IoT das motos
+ */
+@RestController
+@RequestMapping("/api/iot")
+@Slf4j
+public class TelemetriaController {
+
+    // Sugestão de espera ao cliente quando o buffer está cheio
+    private static final String ESPERA_REENVIO_SEGUNDOS = "1";
+
+    private final TelemetriaService telemetriaService;
+
+    public TelemetriaController(TelemetriaService telemetriaService) {
+        this.telemetriaService = telemetriaService;
+    }
+
+    /**
+     * Recebe um lote de leituras (idMoto ou placa, latitude, longitude, bateria, instante)
+     * POST /api/iot/telemetry
+     * 
+     * 202 com as leituras aceitas para gravação (inválidas são rejeitadas individualmente);
+     * 429 com Retry-After quando o buffer está cheio: nenhuma leitura do lote foi aceita
+     */
+    @PostMapping(value = "/telemetry", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> receber(@RequestBody List<LeituraTelemetriaDTO> leituras) {
+        try {
+            ResultadoTelemetriaDTO resultado = telemetriaService.receber(leituras);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "success", resultado.getRejeitadas() == 0,
+                "resultado", resultado
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            // Debug: sob sobrecarga sustentada cada envio seria um aviso (a métrica já conta as recusas)
+            log.debug("Lote de telemetria recusado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, ESPERA_REENVIO_SEGUNDOS)
+                .body(Map.of("success", false, "error", e.getMessage()));
+        }
+    }
+}
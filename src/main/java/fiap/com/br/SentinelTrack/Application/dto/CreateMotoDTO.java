@@ -20,6 +20,11 @@ public class CreateMotoDTO {
     private String placa;
     
     @NotBlank(message = "Status é obrigatório")
+    @Pattern(
+        regexp = "^\\s*(DISPONIVEL|EM_USO|MANUTENCAO)\\s*$",
+        flags = Pattern.Flag.CASE_INSENSITIVE,
+        message = "Status inválido. Use DISPONIVEL, EM_USO ou MANUTENCAO"
+    )
     private String status;
     
     @NotNull(message = "ID do pátio é obrigatório")
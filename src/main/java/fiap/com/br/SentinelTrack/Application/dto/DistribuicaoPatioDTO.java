@@ -0,0 +1,18 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Quantidade de motos de um pátio, total e por status
+ */
+@Data
+public class DistribuicaoPatioDTO {
+    private Long idPatio;
+    private String nomePatio;
+    private long totalMotos;
+    private Map<MotoStatus, Long> motosPorStatus = new EnumMap<>(MotoStatus.class);
+}
@@ -0,0 +1,28 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estatísticas consolidadas da frota (calculadas via agregação no banco)
+ */
+@Data
+public class EstatisticasFrotaDTO {
+    private long totalMotos;
+    private long totalPatios;
+    private Map<MotoStatus, Long> motosPorStatus = new EnumMap<>(MotoStatus.class);
+    private List<DistribuicaoPatioDTO> distribuicaoPatios = new ArrayList<>();
+
+    public long totalPorStatus(MotoStatus status) {
+        return motosPorStatus.getOrDefault(status, 0L);
+    }
+
+    public double percentualPorStatus(MotoStatus status) {
+        return totalMotos > 0 ? (totalPorStatus(status) * 100.0 / totalMotos) : 0;
+    }
+}
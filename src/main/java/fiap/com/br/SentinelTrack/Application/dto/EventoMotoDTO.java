@@ -0,0 +1,40 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de alteração de moto publicado pelo MotoService (entregue via SSE após o commit)
+ * tipo: CRIADA, ATUALIZADA, STATUS_ALTERADO, REMOVIDA ou IMPORTACAO (recarregar a lista:
+ * importação em lote ou, com idPatio, remoção do pátio com suas motos)
+ */
+@Data
+public class EventoMotoDTO {
+    public static final String CRIADA = "CRIADA";
+    public static final String ATUALIZADA = "ATUALIZADA";
+    public static final String STATUS_ALTERADO = "STATUS_ALTERADO";
+    public static final String REMOVIDA = "REMOVIDA";
+    public static final String IMPORTACAO = "IMPORTACAO";
+
+    private String tipo;
+    private Long idMoto;
+    private Long idPatio;
+    private Long idPatioAnterior;
+    private String status;
+    private String statusAnterior;
+    private MotoDTO moto;
+    private LocalDateTime instante = LocalDateTime.now();
+
+    public static EventoMotoDTO de(String tipo, MotoDTO moto) {
+        EventoMotoDTO evento = new EventoMotoDTO();
+        evento.setTipo(tipo);
+        if (moto != null) {
+            evento.setIdMoto(moto.getId());
+            evento.setIdPatio(moto.getIdPatio());
+            evento.setStatus(moto.getStatus());
+            evento.setMoto(moto);
+        }
+        return evento;
+    }
+}
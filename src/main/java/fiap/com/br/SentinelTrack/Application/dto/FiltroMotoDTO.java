@@ -0,0 +1,15 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import lombok.Data;
+
+/**
+ * Filtros da listagem paginada de motos
+ */
+@Data
+public class FiltroMotoDTO {
+    private MotoStatus status;
+    private Long idPatio;
+    private String modelo;
+    private boolean decrescente;
+}
@@ -0,0 +1,22 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Leitura enviada por um sensor IoT: moto (ID ou placa), posição, bateria e instante da medição
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeituraTelemetriaDTO {
+    private Long idMoto;
+    private String placa;
+    private Double latitude;
+    private Double longitude;
+    private Integer bateria;
+    private LocalDateTime instante;
+}
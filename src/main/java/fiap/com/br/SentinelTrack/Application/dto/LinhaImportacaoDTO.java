@@ -0,0 +1,18 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de uma linha da importação em lote de motos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LinhaImportacaoDTO {
+    private int linha;
+    private String placa;
+    private boolean importada;
+    private String motivo;
+}
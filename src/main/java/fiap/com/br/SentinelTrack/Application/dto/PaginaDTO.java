@@ -0,0 +1,47 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados paginada por cursor (keyset)
+ * O cliente envia proximoCursor na próxima requisição enquanto temMais for true
+ */
+@Data
+public class PaginaDTO<T> {
+    public static final int TAMANHO_PADRAO = 50;
+    public static final int TAMANHO_MAXIMO = 500;
+
+    private List<T> itens;
+    private int tamanho;
+    private Long proximoCursor;
+    private boolean temMais;
+
+    /**
+     * Aplica o tamanho padrão e o limite máximo ao tamanho pedido pelo cliente
+     */
+    public static int normalizarTamanho(Integer tamanho) {
+        if (tamanho == null || tamanho <= 0) {
+            return TAMANHO_PADRAO;
+        }
+        return Math.min(tamanho, TAMANHO_MAXIMO);
+    }
+
+    /**
+     * Monta a página a partir de uma consulta que buscou tamanho + 1 registros
+     * (o registro extra indica se existe próxima página e é descartado)
+     */
+    public static <T> PaginaDTO<T> de(List<T> registros, int tamanho, Function<T, Long> extratorId) {
+        PaginaDTO<T> pagina = new PaginaDTO<>();
+        boolean temMais = registros.size() > tamanho;
+        List<T> itens = temMais ? registros.subList(0, tamanho) : registros;
+
+        pagina.setItens(itens);
+        pagina.setTamanho(itens.size());
+        pagina.setTemMais(temMais);
+        pagina.setProximoCursor(itens.isEmpty() ? null : extratorId.apply(itens.get(itens.size() - 1)));
+        return pagina;
+    }
+}
@@ -0,0 +1,22 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Última posição conhecida de uma moto (telemetria mais recente)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PosicaoMotoDTO {
+    private Long idMoto;
+    private double latitude;
+    private double longitude;
+    private Integer bateria;
+    private LocalDateTime registradoEm;
+    private LocalDateTime recebidoEm;
+}
@@ -0,0 +1,19 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moto ou pátio removido desde a última sincronização
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RemocaoDTO {
+    private String tipo;
+    private Long id;
+    private LocalDateTime removidoEm;
+}
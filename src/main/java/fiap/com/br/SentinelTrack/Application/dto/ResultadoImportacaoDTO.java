@@ -0,0 +1,18 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Relatório da importação em lote de motos, com o resultado de cada linha
+ */
+@Data
+public class ResultadoImportacaoDTO {
+    private int totalLinhas;
+    private int importadas;
+    private int rejeitadas;
+    private long tempoMs;
+    private List<LinhaImportacaoDTO> linhas = new ArrayList<>();
+}
@@ -0,0 +1,18 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado do envio de um lote de telemetria: leituras aceitas para gravação e rejeitadas
+ * (somente as primeiras rejeições são detalhadas)
+ */
+@Data
+public class ResultadoTelemetriaDTO {
+    private int recebidas;
+    private int aceitas;
+    private int rejeitadas;
+    private List<String> erros = new ArrayList<>();
+}
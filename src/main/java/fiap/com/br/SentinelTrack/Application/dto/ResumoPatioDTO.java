@@ -0,0 +1,31 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resumo de um pátio para listagens: dados básicos e contagens de motos,
+ * sem carregar a lista de motos
+ */
+@Data
+public class ResumoPatioDTO {
+    private Long id;
+    private String nome;
+    private BigDecimal areaM2;
+    private long totalMotos;
+    private Map<MotoStatus, Long> motosPorStatus = new EnumMap<>(MotoStatus.class);
+
+    /**
+     * Densidade de ocupação em motos por m² (null quando a área não está cadastrada)
+     */
+    public Double getDensidadeOcupacao() {
+        if (areaM2 == null || areaM2.signum() <= 0) {
+            return null;
+        }
+        return totalMotos / areaM2.doubleValue();
+    }
+}
@@ -0,0 +1,24 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lote de alterações da sincronização incremental
+ * 
+ * O cliente aplica motos e pátios (upsert por ID), depois as remoções, guarda o
+ * watermark e repete enquanto temMais for true. Com completa = true os dados locais
+ * devem ser descartados antes de aplicar o lote (primeira sincronização ou
+ * watermark anterior à retenção das remoções).
+ */
+@Data
+public class SincronizacaoDTO {
+    private List<MotoDTO> motos = new ArrayList<>();
+    private List<PatioDTO> patios = new ArrayList<>();
+    private List<RemocaoDTO> removidos = new ArrayList<>();
+    private String watermark;
+    private boolean temMais;
+    private boolean completa;
+}
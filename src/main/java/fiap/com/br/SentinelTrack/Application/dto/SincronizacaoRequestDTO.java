@@ -0,0 +1,13 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.Data;
+
+/**
+ * Requisição de sincronização incremental do mobile
+ * watermark: valor devolvido na sincronização anterior (vazio na primeira)
+ */
+@Data
+public class SincronizacaoRequestDTO {
+    private String watermark;
+    private Integer tamanho;
+}
@@ -0,0 +1,16 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Placa sugerida na busca por prefixo (autocomplete)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SugestaoPlacaDTO {
+    private Long id;
+    private String placa;
+}
@@ -0,0 +1,15 @@
+package fiap.com.br.SentinelTrack.Application.dto;
+
+import lombok.Value;
+
+import java.util.Date;
+
+/**
+ * Dados do usuário extraídos de um token JWT já validado
+ */
+@Value
+public class UsuarioTokenDTO {
+    String email;
+    String role;
+    Date expiracao;
+}
@@ -3,6 +3,7 @@ package fiap.com.br.SentinelTrack.Application.mapper;
 import fiap.com.br.SentinelTrack.Application.dto.CreateMotoDTO;
 import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
 import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
 import org.springframework.stereotype.Component;
 
@@ -16,7 +17,7 @@ public class MotoMapper {
         dto.setId(moto.getId());
         dto.setModelo(moto.getModelo());
         dto.setPlaca(moto.getPlaca());
-        dto.setStatus(moto.getStatus());
+        dto.setStatus(moto.getStatus() != null ? moto.getStatus().name() : null);
         dto.setDataEntrada(moto.getDataEntrada());
         
         if (moto.getPatio() != null) {
@@ -33,7 +34,7 @@ public class MotoMapper {
         Moto moto = new Moto();
         moto.setModelo(createDTO.getModelo());
         moto.setPlaca(createDTO.getPlaca());
-        moto.setStatus(createDTO.getStatus());
+        moto.setStatus(MotoStatus.de(createDTO.getStatus()));
         moto.setDataEntrada(createDTO.getDataEntrada());
         moto.setPatio(patio);
         
@@ -45,7 +46,7 @@ public class MotoMapper {
         
         moto.setModelo(updateDTO.getModelo());
         moto.setPlaca(updateDTO.getPlaca());
-        moto.setStatus(updateDTO.getStatus());
+        moto.setStatus(MotoStatus.de(updateDTO.getStatus()));
         moto.setDataEntrada(updateDTO.getDataEntrada());
         if (patio != null) {
             moto.setPatio(patio);
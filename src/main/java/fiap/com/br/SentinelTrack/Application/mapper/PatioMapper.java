@@ -6,17 +6,11 @@ import fiap.com.br.SentinelTrack.Application.dto.PatioDTO;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
 import org.springframework.stereotype.Component;
 
-import java.util.stream.Collectors;
+import java.util.Collections;
 
 @Component
 public class PatioMapper {
     
-    private final MotoMapper motoMapper;
-    
-    public PatioMapper(MotoMapper motoMapper) {
-        this.motoMapper = motoMapper;
-    }
-    
     public PatioDTO toDTO(Patio patio) {
         if (patio == null) return null;
         
@@ -28,11 +22,9 @@ public class PatioMapper {
         dto.setAreaM2(patio.getAreaM2());
         dto.setIdLocalidade(patio.getIdLocalidade());
         
-        if (patio.getMotos() != null) {
-            dto.setMotos(patio.getMotos().stream()
-                    .map(motoMapper::toDTO)
-                    .collect(Collectors.toList()));
-        }
+        // As motos não são carregadas aqui (coleção LAZY): use o resumo do pátio
+        // ou a listagem paginada de motos por pátio
+        dto.setMotos(Collections.emptyList());
         
         return dto;
     }
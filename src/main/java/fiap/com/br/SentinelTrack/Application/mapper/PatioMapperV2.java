@@ -6,7 +6,7 @@ import fiap.com.br.SentinelTrack.Application.dto.UpdatePatioDTO;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
 import org.springframework.stereotype.Component;
 
-import java.util.stream.Collectors;
+import java.util.Collections;
 
 /**
  * Mapper profissional para Patio
@@ -15,12 +15,6 @@ import java.util.stream.Collectors;
 @Component
 public class PatioMapperV2 {
     
-    private final MotoMapper motoMapper;
-    
-    public PatioMapperV2(MotoMapper motoMapper) {
-        this.motoMapper = motoMapper;
-    }
-    
     /**
      * Converte entidade para DTO de resposta
      */
@@ -35,11 +29,9 @@ public class PatioMapperV2 {
         dto.setAreaM2(patio.getAreaM2());
         dto.setIdLocalidade(patio.getIdLocalidade());
         
-        if (patio.getMotos() != null) {
-            dto.setMotos(patio.getMotos().stream()
-                    .map(motoMapper::toDTO)
-                    .collect(Collectors.toList()));
-        }
+        // As motos não são carregadas aqui (coleção LAZY): use o resumo do pátio
+        // ou a listagem paginada de motos por pátio
+        dto.setMotos(Collections.emptyList());
         
         return dto;
     }
@@ -0,0 +1,87 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffer circular limitado e sem trava: várias threads produzem (requisições), uma consome (gravação)
+ *
+ * Um produtor reserva com CAS um intervalo contíguo de posições para o lote inteiro
+ * (tudo ou nada) e publica cada leitura na sua posição. O consumidor lê em ordem
+ * até encontrar uma posição ainda não publicada, limpa as lidas e só então avança
+ * a cabeça, liberando espaço para os produtores.
+ */
+final class BufferTelemetria<T> {
+
+    private final AtomicReferenceArray<T> posicoes;
+    private final int mascara;
+    // Próxima posição a reservar (produtores) e a consumir (somente o consumidor escreve)
+    private final AtomicLong cauda = new AtomicLong();
+    private final AtomicLong cabeca = new AtomicLong();
+
+    /**
+     * @param capacidade arredondada para a próxima potência de 2
+     */
+    BufferTelemetria(int capacidade) {
+        int tamanho = Integer.highestOneBit(Math.max(2, capacidade) - 1) << 1;
+        this.posicoes = new AtomicReferenceArray<>(tamanho);
+        this.mascara = tamanho - 1;
+    }
+
+    /**
+     * Enfileira o lote inteiro ou nada
+     * @return false se não há espaço para todos os itens
+     */
+    boolean oferecer(List<T> itens) {
+        int quantidade = itens.size();
+        if (quantidade == 0) {
+            return true;
+        }
+        long inicio;
+        do {
+            inicio = cauda.get();
+            if (inicio + quantidade - cabeca.get() > posicoes.length()) {
+                return false;
+            }
+        } while (!cauda.compareAndSet(inicio, inicio + quantidade));
+
+        for (int i = 0; i < quantidade; i++) {
+            posicoes.set((int) ((inicio + i) & mascara), itens.get(i));
+        }
+        return true;
+    }
+
+    /**
+     * Move até maximo itens publicados para destino, na ordem de reserva (somente o consumidor)
+     * @return quantidade movida
+     */
+    int drenar(List<T> destino, int maximo) {
+        long posicao = cabeca.get();
+        int movidos = 0;
+        while (movidos < maximo) {
+            int indice = (int) (posicao & mascara);
+            T item = posicoes.get(indice);
+            if (item == null) {
+                break;
+            }
+            posicoes.set(indice, null);
+            destino.add(item);
+            posicao++;
+            movidos++;
+        }
+        cabeca.set(posicao);
+        return movidos;
+    }
+
+    /**
+     * Itens reservados e ainda não consumidos (aproximado sob concorrência)
+     */
+    int ocupacao() {
+        return (int) Math.max(0, cauda.get() - cabeca.get());
+    }
+
+    int capacidade() {
+        return posicoes.length();
+    }
+}
@@ -0,0 +1,237 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Application.dto.DistribuicaoPatioDTO;
+import fiap.com.br.SentinelTrack.Application.dto.EstatisticasFrotaDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PatioDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResumoPatioDTO;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+
+/**
+ * Contadores da frota em memória (pátio x status), para os dashboards
+ *
+ * Carregados do banco ao subir a aplicação e ajustados pelas escritas do MotoService
+ * somente após o commit. Uma reconciliação periódica recarrega os valores do banco,
+ * corrigindo escritas feitas por fora do serviço (outras instâncias, SQL manual).
+ * Como os ajustes são somas (não idempotentes), a reconciliação só troca os
+ * contadores por uma leitura durante a qual nenhum ajuste chegou
+ * (EstadoRecarregavel.recarregarSeConsistente); senão tenta de novo e, persistindo
+ * as escritas, fica para a próxima rodada. Um commit visto pela leitura cujo ajuste
+ * só chega depois da troca ainda é contado duas vezes; a rodada seguinte corrige.
+ * Nomes e total de pátios vêm do
+ * DiretorioPatios em cache. Cada pátio tem um contador por status, indexado pelo
+ * ordinal de MotoStatus.
+ */
+@Service
+@Slf4j
+public class ContadoresFrota {
+
+    // Leituras do banco tentadas por reconciliação antes de desistir da rodada
+    private static final int TENTATIVAS_RECONCILIACAO = 3;
+
+    private final MotoRepository motoRepository;
+    private final DiretorioPatios diretorio;
+
+    // ID do pátio -> quantidade por status (índice = ordinal); trocado por inteiro a cada recarga
+    private final EstadoRecarregavel<Map<Long, LongAdder[]>> contagens;
+
+    public ContadoresFrota(MotoRepository motoRepository, DiretorioPatios diretorio) {
+        this.motoRepository = motoRepository;
+        this.diretorio = diretorio;
+        this.contagens = new EstadoRecarregavel<>(this::carregar);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        contagens.recarregarSeConsistente();
+        log.info("Contadores da frota carregados: {} motos", totalMotos(contagens.atualOuNulo()));
+    }
+
+    /**
+     * Recarrega os contadores do banco; divergências indicam escritas por fora do MotoService
+     */
+    @Scheduled(fixedDelayString = "${frota.contadores.reconciliacao-ms:300000}",
+               initialDelayString = "${frota.contadores.reconciliacao-ms:300000}")
+    public void reconciliar() {
+        for (int tentativa = 1; tentativa <= TENTATIVAS_RECONCILIACAO; tentativa++) {
+            Map<Long, LongAdder[]> anteriores = contagens.atualOuNulo();
+            if (contagens.recarregarSeConsistente()) {
+                // Depois da troca os contadores anteriores não recebem mais ajustes
+                Map<Long, LongAdder[]> atuais = contagens.atualOuNulo();
+                if (anteriores != null && !valores(anteriores).equals(valores(atuais))) {
+                    log.warn("Contadores da frota divergiam do banco e foram reconciliados ({} -> {} motos)",
+                            totalMotos(anteriores), totalMotos(atuais));
+                }
+                return;
+            }
+        }
+        log.debug("Reconciliação dos contadores adiada: escritas concorrentes em todas as leituras");
+    }
+
+    public void registrarEntrada(Long idPatio, MotoStatus status) {
+        contagens.aplicarAposCommit(atuais -> ajustar(atuais, idPatio, status, 1));
+    }
+
+    /**
+     * Entradas em lote (importação): um único ajuste após o commit
+     */
+    public void registrarEntradas(List<Moto> motos) {
+        if (motos.isEmpty()) {
+            return;
+        }
+        contagens.aplicarAposCommit(atuais -> {
+            motos.forEach(moto -> ajustar(atuais, moto.getPatio().getId(), moto.getStatus(), 1));
+            return atuais;
+        });
+    }
+
+    public void registrarSaida(Long idPatio, MotoStatus status) {
+        contagens.aplicarAposCommit(atuais -> ajustar(atuais, idPatio, status, -1));
+    }
+
+    public void registrarAlteracao(Long idPatioAnterior, MotoStatus statusAnterior, Long idPatioAtual, MotoStatus statusAtual) {
+        if (Objects.equals(idPatioAnterior, idPatioAtual) && statusAnterior == statusAtual) {
+            return;
+        }
+        contagens.aplicarAposCommit(atuais -> {
+            ajustar(atuais, idPatioAnterior, statusAnterior, -1);
+            return ajustar(atuais, idPatioAtual, statusAtual, 1);
+        });
+    }
+
+    /**
+     * Estatísticas no mesmo formato do EstatisticaService, sem consultar o banco
+     * Pátios removidos (ausentes do diretório) são ignorados até a próxima reconciliação
+     */
+    public EstatisticasFrotaDTO estatisticas() {
+        Map<Long, LongAdder[]> atuais = contagensCarregadas();
+        Map<Long, String> nomes = diretorio.nomesPorId();
+
+        EstatisticasFrotaDTO estatisticas = new EstatisticasFrotaDTO();
+        List<DistribuicaoPatioDTO> distribuicao = new ArrayList<>();
+        long totalMotos = 0;
+
+        for (Map.Entry<Long, String> patio : nomes.entrySet()) {
+            Map<MotoStatus, Long> porStatus = contarPorStatus(atuais.get(patio.getKey()));
+            if (porStatus.isEmpty()) {
+                continue;
+            }
+
+            DistribuicaoPatioDTO dto = new DistribuicaoPatioDTO();
+            dto.setIdPatio(patio.getKey());
+            dto.setNomePatio(patio.getValue());
+            dto.setMotosPorStatus(porStatus);
+            for (Map.Entry<MotoStatus, Long> status : porStatus.entrySet()) {
+                dto.setTotalMotos(dto.getTotalMotos() + status.getValue());
+                estatisticas.getMotosPorStatus().merge(status.getKey(), status.getValue(), Long::sum);
+            }
+            totalMotos += dto.getTotalMotos();
+            distribuicao.add(dto);
+        }
+
+        estatisticas.setTotalMotos(totalMotos);
+        estatisticas.setTotalPatios(nomes.size());
+        estatisticas.setDistribuicaoPatios(distribuicao);
+        return estatisticas;
+    }
+
+    /**
+     * Resumos dos pátios informados com as contagens em memória (equivalente a PatioService.listarResumos)
+     */
+    public List<ResumoPatioDTO> resumirPatios(List<PatioDTO> patios) {
+        Map<Long, LongAdder[]> atuais = contagensCarregadas();
+        List<ResumoPatioDTO> resumos = new ArrayList<>(patios.size());
+
+        for (PatioDTO patio : patios) {
+            ResumoPatioDTO resumo = new ResumoPatioDTO();
+            resumo.setId(patio.getId());
+            resumo.setNome(patio.getNome());
+            resumo.setAreaM2(patio.getAreaM2());
+            resumo.setMotosPorStatus(contarPorStatus(atuais.get(patio.getId())));
+            resumo.setTotalMotos(resumo.getMotosPorStatus().values().stream().mapToLong(Long::longValue).sum());
+            resumos.add(resumo);
+        }
+        return resumos;
+    }
+
+    private Map<Long, LongAdder[]> contagensCarregadas() {
+        Map<Long, LongAdder[]> atuais = contagens.atualOuNulo();
+        if (atuais == null) {
+            // Requisição antes do ApplicationReadyEvent
+            contagens.recarregarSeConsistente();
+            atuais = contagens.atualOuNulo();
+        }
+        return atuais;
+    }
+
+    private Map<Long, LongAdder[]> carregar() {
+        Map<Long, LongAdder[]> novas = new ConcurrentHashMap<>();
+        for (MotoRepository.ContagemPorPatioEStatus contagem : motoRepository.contarPorPatioEStatus()) {
+            novas.computeIfAbsent(contagem.getIdPatio(), id -> novosContadores())[contagem.getStatus().ordinal()]
+                    .add(contagem.getTotal());
+        }
+        return novas;
+    }
+
+    private static Map<Long, LongAdder[]> ajustar(Map<Long, LongAdder[]> atuais, Long idPatio, MotoStatus status, long delta) {
+        if (idPatio != null && status != null) {
+            atuais.computeIfAbsent(idPatio, id -> novosContadores())[status.ordinal()].add(delta);
+        }
+        return atuais;
+    }
+
+    // Contadores criados todos de uma vez: o array nunca muda depois de publicado no mapa
+    private static LongAdder[] novosContadores() {
+        LongAdder[] contadores = new LongAdder[MotoStatus.quantidade()];
+        Arrays.setAll(contadores, i -> new LongAdder());
+        return contadores;
+    }
+
+    private static Map<MotoStatus, Long> contarPorStatus(LongAdder[] contadores) {
+        Map<MotoStatus, Long> porStatus = new EnumMap<>(MotoStatus.class);
+        if (contadores != null) {
+            for (int i = 0; i < contadores.length; i++) {
+                long total = contadores[i].sum();
+                if (total > 0) {
+                    porStatus.put(MotoStatus.porIndice(i), total);
+                }
+            }
+        }
+        return porStatus;
+    }
+
+    private static Map<Long, Map<MotoStatus, Long>> valores(Map<Long, LongAdder[]> contagens) {
+        Map<Long, Map<MotoStatus, Long>> valores = new LinkedHashMap<>();
+        contagens.forEach((idPatio, contadores) -> {
+            Map<MotoStatus, Long> porStatus = contarPorStatus(contadores);
+            if (!porStatus.isEmpty()) {
+                valores.put(idPatio, porStatus);
+            }
+        });
+        return valores;
+    }
+
+    private static long totalMotos(Map<Long, LongAdder[]> contagens) {
+        return contagens.values().stream()
+                .flatMap(Arrays::stream)
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+}
@@ -0,0 +1,34 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import fiap.com.br.SentinelTrack.Infrastructure.config.CacheConfig;
+
+/**
+ * Diretório ID -> nome dos pátios, em cache (ordenado por nome)
+ * Usado para validar o pátio nas escritas de motos e montar seletores sem consultar ST_PATIO
+ */
+@Service
+public class DiretorioPatios {
+
+    private final PatioRepository repository;
+
+    public DiretorioPatios(PatioRepository repository) {
+        this.repository = repository;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CACHE_DIRETORIO_PATIOS, key = "'todos'")
+    public Map<Long, String> nomesPorId() {
+        Map<Long, String> nomes = new LinkedHashMap<>();
+        for (PatioRepository.NomePatio patio : repository.listarNomes()) {
+            nomes.put(patio.getId(), patio.getNome());
+        }
+        return Collections.unmodifiableMap(nomes);
+    }
+}
@@ -0,0 +1,142 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Estado em memória derivado do banco (índices, filtros, contadores), ajustado
+ * pelas escritas após o commit e recarregado periodicamente do banco
+ *
+ * Ajustes são aplicados sob uma trava; leitores só leem a referência volátil.
+ * A recarga lê o banco fora da trava (a leitura pode demorar) e, enquanto isso,
+ * registra os ajustes que chegam. Terminada a leitura, sob a trava:
+ * - recarregar: reaplica os ajustes registrados sobre o estado novo e faz a troca.
+ *   Um ajuste cujo commit a leitura já viu é aplicado duas vezes, então os ajustes
+ *   precisam ser idempotentes (incluir/remover chave, ligar bit);
+ * - recarregarSeConsistente: só troca se nenhum ajuste chegou durante a leitura,
+ *   para estados cujos ajustes não são idempotentes (contadores).
+ * Ajustes que chegam antes de qualquer carga são descartados: a carga já enxerga o commit.
+ * Recargas são serializadas entre si.
+ */
+final class EstadoRecarregavel<E> {
+
+    private final Supplier<E> carga;
+    private final ReentrantLock trava = new ReentrantLock();
+    private final ReentrantLock recarga = new ReentrantLock();
+
+    private volatile E estado;
+    // Ajustes recebidos durante a leitura de uma recarga; null fora dela (protegido pela trava)
+    private List<UnaryOperator<E>> pendentes;
+
+    EstadoRecarregavel(Supplier<E> carga) {
+        this.carga = carga;
+    }
+
+    /**
+     * Estado atual, carregando-o se ainda não houve carga (requisição antes do ApplicationReadyEvent)
+     */
+    E atual() {
+        E atual = estado;
+        return atual != null ? atual : recarregar();
+    }
+
+    /**
+     * Estado atual sem disparar carga (null antes da carga inicial)
+     */
+    E atualOuNulo() {
+        return estado;
+    }
+
+    /**
+     * Ajuste que devolve o estado (o mesmo, alterado, ou um novo que o substitui)
+     */
+    void aplicar(UnaryOperator<E> ajuste) {
+        trava.lock();
+        try {
+            E atual = estado;
+            if (atual != null) {
+                estado = ajuste.apply(atual);
+            }
+            if (pendentes != null) {
+                pendentes.add(ajuste);
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    void aplicarAposCommit(UnaryOperator<E> ajuste) {
+        Transacoes.aposCommit(() -> aplicar(ajuste));
+    }
+
+    /**
+     * Recarrega do banco reaplicando os ajustes concorrentes (ajustes idempotentes)
+     */
+    E recarregar() {
+        recarga.lock();
+        try {
+            E novo = ler();
+            trava.lock();
+            try {
+                for (UnaryOperator<E> ajuste : pendentes) {
+                    novo = ajuste.apply(novo);
+                }
+                pendentes = null;
+                estado = novo;
+                return novo;
+            } finally {
+                trava.unlock();
+            }
+        } finally {
+            recarga.unlock();
+        }
+    }
+
+    /**
+     * Recarrega do banco somente se nenhum ajuste chegou durante a leitura; na
+     * carga inicial troca de qualquer forma (ainda não há estado a preservar)
+     * @return false se a leitura não foi consistente e o estado atual foi mantido
+     */
+    boolean recarregarSeConsistente() {
+        recarga.lock();
+        try {
+            E novo = ler();
+            trava.lock();
+            try {
+                boolean consistente = pendentes.isEmpty() || estado == null;
+                pendentes = null;
+                if (consistente) {
+                    estado = novo;
+                }
+                return consistente;
+            } finally {
+                trava.unlock();
+            }
+        } finally {
+            recarga.unlock();
+        }
+    }
+
+    private E ler() {
+        trava.lock();
+        try {
+            pendentes = new ArrayList<>();
+        } finally {
+            trava.unlock();
+        }
+        try {
+            return carga.get();
+        } catch (RuntimeException e) {
+            trava.lock();
+            try {
+                pendentes = null;
+            } finally {
+                trava.unlock();
+            }
+            throw e;
+        }
+    }
+}
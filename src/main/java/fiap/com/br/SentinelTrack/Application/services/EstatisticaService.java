@@ -0,0 +1,88 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Application.dto.DistribuicaoPatioDTO;
+import fiap.com.br.SentinelTrack.Application.dto.EstatisticasFrotaDTO;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+
+/**
+ * Service de estatísticas da frota
+ * As contagens são feitas com GROUP BY no banco, sem carregar as motos em memória
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class EstatisticaService {
+
+    private final MotoRepository motoRepository;
+    private final PatioRepository patioRepository;
+
+    public EstatisticaService(MotoRepository motoRepository, PatioRepository patioRepository) {
+        this.motoRepository = motoRepository;
+        this.patioRepository = patioRepository;
+    }
+
+    /**
+     * Estatísticas completas: totais, contagem por status e distribuição por pátio
+     * @return EstatisticasFrotaDTO
+     */
+    public EstatisticasFrotaDTO obterEstatisticas() {
+        log.debug("Calculando estatísticas da frota");
+
+        EstatisticasFrotaDTO estatisticas = new EstatisticasFrotaDTO();
+        Map<Long, DistribuicaoPatioDTO> distribuicao = new LinkedHashMap<>();
+        long totalMotos = 0;
+
+        for (MotoRepository.ContagemPorPatioEStatus contagem : motoRepository.contarPorPatioEStatus()) {
+            long total = contagem.getTotal();
+            totalMotos += total;
+            estatisticas.getMotosPorStatus().merge(contagem.getStatus(), total, Long::sum);
+
+            DistribuicaoPatioDTO patio = distribuicao.computeIfAbsent(contagem.getIdPatio(), id -> {
+                DistribuicaoPatioDTO dto = new DistribuicaoPatioDTO();
+                dto.setIdPatio(id);
+                dto.setNomePatio(contagem.getNomePatio());
+                return dto;
+            });
+            patio.setTotalMotos(patio.getTotalMotos() + total);
+            patio.getMotosPorStatus().merge(contagem.getStatus(), total, Long::sum);
+        }
+
+        estatisticas.setTotalMotos(totalMotos);
+        estatisticas.setTotalPatios(patioRepository.count());
+        estatisticas.setDistribuicaoPatios(new ArrayList<>(distribuicao.values()));
+        return estatisticas;
+    }
+
+    /**
+     * Contagem de motos por pátio
+     * @return Mapa ID do pátio → quantidade
+     */
+    public Map<Long, Long> contarPorPatio() {
+        Map<Long, Long> contagem = new LinkedHashMap<>();
+        motoRepository.contarPorPatio()
+                .forEach(c -> contagem.put(c.getIdPatio(), c.getTotal()));
+        return contagem;
+    }
+
+    /**
+     * Contagem de motos por status
+     * @return Mapa status → quantidade (na ordem de MotoStatus)
+     */
+    public Map<MotoStatus, Long> contarPorStatus() {
+        Map<MotoStatus, Long> contagem = new EnumMap<>(MotoStatus.class);
+        motoRepository.contarPorStatus()
+                .forEach(c -> contagem.put(c.getStatus(), c.getTotal()));
+        return contagem;
+    }
+}
@@ -0,0 +1,292 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.VersaoColecao;
+
+/**
+ * Filtro de Bloom das placas cadastradas, para descartar sem consultar o banco as
+ * placas que certamente não são da frota (leitores de portão, câmeras)
+ *
+ * As placas entram pela forma canônica Mercosul (IndicePlacas.canonica), então uma
+ * única verificação cobre os dois formatos. Cadastros e alterações entram após o
+ * commit e são reaplicados sobre uma reconstrução em andamento (EstadoRecarregavel);
+ * remoções não apagam bits (só custam falsos positivos) e saem na reconstrução
+ * periódica, que também redimensiona o filtro para a frota atual. Importações
+ * reconstroem após o commit.
+ *
+ * Escritas de outras instâncias: a cada placas.filtro.sincronizacao-ms a versão da
+ * coleção (total + maior UPDATED_AT) é comparada com a última vista e, se mudou, só
+ * as placas alteradas desde então entram no filtro (IDX_MOTO_UPDATED_AT), com a
+ * janela de segurança da sincronização para transações confirmadas depois. Uma
+ * placa cadastrada em outra instância pode ser recusada até a próxima verificação.
+ */
+@Service
+@Slf4j
+public class FiltroPlacas implements MeterBinder {
+
+    // Folga para cadastros entre reconstruções sem degradar a taxa de falsos positivos
+    private static final double FOLGA_CAPACIDADE = 1.5;
+    private static final int CAPACIDADE_MINIMA = 1024;
+
+    private final MotoRepository motoRepository;
+    private final double taxaFalsosPositivos;
+    private final Duration janelaSeguranca;
+
+    // Trocado por inteiro a cada reconstrução
+    private final EstadoRecarregavel<Bloom> filtro;
+
+    // Versão do banco já refletida no filtro (reconstrução ou última sincronização)
+    private volatile Long totalVisto;
+    private volatile LocalDateTime ultimaAtualizacaoVista;
+
+    private final LongAdder descartadas = new LongAdder();
+    private final LongAdder falsosPositivos = new LongAdder();
+    private final LongAdder reconstrucoes = new LongAdder();
+    private final LongAdder tempoReconstrucaoNanos = new LongAdder();
+
+    public FiltroPlacas(MotoRepository motoRepository,
+                        @Value("${placas.filtro.taxa-falsos-positivos:0.01}") double taxaFalsosPositivos,
+                        @Value("${sincronizacao.janela-seguranca-ms:35000}") long janelaSegurancaMs) {
+        this.motoRepository = motoRepository;
+        this.taxaFalsosPositivos = taxaFalsosPositivos;
+        this.janelaSeguranca = Duration.ofMillis(janelaSegurancaMs);
+        this.filtro = new EstadoRecarregavel<>(this::carregar);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        reconstruir();
+        Bloom atual = filtro.atualOuNulo();
+        log.info("Filtro de placas carregado: {} placas, {} bits", atual.elementos.sum(), atual.totalBits);
+    }
+
+    /**
+     * Reconstrói o filtro do banco: remove placas excluídas e cobre escritas feitas por fora do MotoService
+     */
+    @Scheduled(fixedDelayString = "${placas.indice.reconciliacao-ms:300000}",
+               initialDelayString = "${placas.indice.reconciliacao-ms:300000}")
+    public void reconstruir() {
+        long inicio = System.nanoTime();
+        filtro.recarregar();
+        reconstrucoes.increment();
+        tempoReconstrucaoNanos.add(System.nanoTime() - inicio);
+    }
+
+    /**
+     * Inclui as placas gravadas por outras instâncias desde a última versão vista;
+     * sem mudança de versão custa uma consulta de agregado
+     */
+    @Scheduled(fixedDelayString = "${placas.filtro.sincronizacao-ms:5000}",
+               initialDelayString = "${placas.filtro.sincronizacao-ms:5000}")
+    public void sincronizar() {
+        LocalDateTime desde = ultimaAtualizacaoVista;
+        if (filtro.atualOuNulo() == null) {
+            return;
+        }
+        VersaoColecao versao = motoRepository.versao();
+        if (Objects.equals(versao.getTotal(), totalVisto)
+                && Objects.equals(versao.getUltimaAtualizacao(), desde)) {
+            return;
+        }
+        // Frota vazia na última versão vista: não há UPDATED_AT de referência, lê todas
+        List<MotoRepository.PlacaMoto> alteradas = desde != null
+                ? motoRepository.listarPlacasAlteradas(desde.minus(janelaSeguranca))
+                : motoRepository.listarPlacas();
+        filtro.aplicar(atual -> {
+            alteradas.forEach(moto -> adicionar(atual, moto.getPlaca()));
+            return atual;
+        });
+        totalVisto = versao.getTotal();
+        ultimaAtualizacaoVista = versao.getUltimaAtualizacao() != null ? versao.getUltimaAtualizacao() : desde;
+    }
+
+    public void registrar(String placa) {
+        if (placa != null) {
+            filtro.aplicarAposCommit(atual -> adicionar(atual, placa));
+        }
+    }
+
+    /**
+     * Importação em lote: reconstrói o filtro após o commit
+     */
+    public void reconstruirAposCommit() {
+        Transacoes.aposCommit(this::reconstruir);
+    }
+
+    /**
+     * false somente se a placa (em qualquer formato) certamente não está cadastrada
+     */
+    public boolean talvezCadastrada(String placa) {
+        Bloom atual = filtro.atualOuNulo();
+        // Antes da carga inicial não há como afirmar a ausência: segue para o banco
+        if (atual == null || atual.talvezContem(chave(placa))) {
+            return true;
+        }
+        descartadas.increment();
+        return false;
+    }
+
+    /**
+     * Placa que o banco não encontrou: conta como falso positivo só se o filtro a
+     * aprovou (antes da carga inicial o filtro não opinou)
+     */
+    public void registrarFalsoPositivo(String placa) {
+        Bloom atual = filtro.atualOuNulo();
+        if (atual != null && atual.talvezContem(chave(placa))) {
+            falsosPositivos.increment();
+        }
+    }
+
+    /**
+     * Proporção observada de placas inexistentes que passaram pelo filtro
+     */
+    public double taxaFalsosPositivosObservada() {
+        long totalFalsos = falsosPositivos.sum();
+        long total = totalFalsos + descartadas.sum();
+        return total == 0 ? 0.0 : (double) totalFalsos / total;
+    }
+
+    /**
+     * Taxa teórica com a ocupação atual: (1 - e^(-kn/m))^k
+     */
+    public double taxaFalsosPositivosEstimada() {
+        Bloom atual = filtro.atualOuNulo();
+        return atual == null ? 0.0 : atual.taxaEstimada();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("placas.filtro.consultas", descartadas, LongAdder::sum)
+                .tag("resultado", "descartada")
+                .description("Buscas por placa por resultado do filtro de Bloom")
+                .register(registry);
+        FunctionCounter.builder("placas.filtro.consultas", falsosPositivos, LongAdder::sum)
+                .tag("resultado", "falso_positivo")
+                .description("Buscas por placa por resultado do filtro de Bloom")
+                .register(registry);
+        Gauge.builder("placas.filtro.taxa.falsos.positivos", this, FiltroPlacas::taxaFalsosPositivosObservada)
+                .tag("tipo", "observada")
+                .description("Proporção de placas inexistentes que chegaram ao banco")
+                .register(registry);
+        Gauge.builder("placas.filtro.taxa.falsos.positivos", this, FiltroPlacas::taxaFalsosPositivosEstimada)
+                .tag("tipo", "estimada")
+                .description("Proporção de placas inexistentes que chegaram ao banco")
+                .register(registry);
+        FunctionTimer.builder("placas.filtro.reconstrucao", this,
+                        f -> f.reconstrucoes.sum(),
+                        f -> f.tempoReconstrucaoNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Reconstrução do filtro de placas a partir do banco")
+                .register(registry);
+    }
+
+    private Bloom carregar() {
+        // Versão lida antes das placas: o que for gravado durante a leitura entra na próxima sincronização
+        VersaoColecao versao = motoRepository.versao();
+        List<MotoRepository.PlacaMoto> placas = motoRepository.listarPlacas();
+        Bloom novo = new Bloom(Math.max(CAPACIDADE_MINIMA, (long) (placas.size() * FOLGA_CAPACIDADE)), taxaFalsosPositivos);
+        for (MotoRepository.PlacaMoto moto : placas) {
+            novo.adicionar(chave(moto.getPlaca()));
+        }
+        totalVisto = versao.getTotal();
+        ultimaAtualizacaoVista = versao.getUltimaAtualizacao();
+        return novo;
+    }
+
+    // Ligar bits é idempotente: pode ser reaplicado sobre uma reconstrução
+    private static Bloom adicionar(Bloom atual, String placa) {
+        atual.adicionar(chave(placa));
+        return atual;
+    }
+
+    private static String chave(String placa) {
+        return IndicePlacas.canonica(IndicePlacas.normalizar(placa));
+    }
+
+    /**
+     * Vetor de bits com k funções de hash por hashing duplo (h1 + i*h2) sobre um hash de 64 bits
+     */
+    static final class Bloom {
+        private final AtomicLongArray bits;
+        private final long totalBits;
+        private final int funcoes;
+        private final LongAdder elementos = new LongAdder();
+
+        Bloom(long capacidade, double taxaFalsosPositivos) {
+            // m = -n ln p / (ln 2)^2 ; k = m/n ln 2
+            long m = (long) Math.ceil(-capacidade * Math.log(taxaFalsosPositivos) / (Math.log(2) * Math.log(2)));
+            int palavras = (int) Math.max(1, (m + 63) / 64);
+            this.bits = new AtomicLongArray(palavras);
+            this.totalBits = palavras * 64L;
+            this.funcoes = Math.max(1, (int) Math.round((double) totalBits / capacidade * Math.log(2)));
+        }
+
+        void adicionar(String chave) {
+            long hash = hash64(chave);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < funcoes; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % totalBits;
+                long mascara = 1L << bit;
+                int palavra = (int) (bit >>> 6);
+                long atual;
+                do {
+                    atual = bits.get(palavra);
+                } while ((atual & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara));
+            }
+            elementos.increment();
+        }
+
+        boolean talvezContem(String chave) {
+            long hash = hash64(chave);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < funcoes; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % totalBits;
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double taxaEstimada() {
+            return Math.pow(1 - Math.exp(-(double) funcoes * elementos.sum() / totalBits), funcoes);
+        }
+
+        // FNV-1a de 64 bits seguido da finalização do MurmurHash3 (espalha os bits para h1/h2)
+        private static long hash64(String chave) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < chave.length(); i++) {
+                hash ^= chave.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -16,6 +17,7 @@ import fiap.com.br.SentinelTrack.Application.dto.UpdatePatioDTO;
 import fiap.com.br.SentinelTrack.Application.mapper.FixedPatioMapper;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
 import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import fiap.com.br.SentinelTrack.Infrastructure.config.CacheConfig;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -33,11 +35,17 @@ public class FixedPatioService {
 
     private final PatioRepository repository;
     private final FixedPatioMapper mapper;
+    private final IndiceNomesPatios indiceNomes;
+    private final RemocaoPatio remocaoPatio;
 
     public FixedPatioService(PatioRepository repository, 
-                           @Qualifier("fixedPatioMapper") FixedPatioMapper mapper) {
+                           @Qualifier("fixedPatioMapper") FixedPatioMapper mapper,
+                           IndiceNomesPatios indiceNomes,
+                           RemocaoPatio remocaoPatio) {
         this.repository = repository;
         this.mapper = mapper;
+        this.indiceNomes = indiceNomes;
+        this.remocaoPatio = remocaoPatio;
     }
 
     /**
@@ -68,6 +76,7 @@ public class FixedPatioService {
     /**
      * Cria novo pátio
      */
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public PatioDTO criar(@Valid CreatePatioDTO createDTO) {
         log.info("Criando novo pátio: {}", createDTO.getNome());
         
@@ -81,6 +90,7 @@ public class FixedPatioService {
     /**
      * Atualiza pátio existente
      */
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public PatioDTO atualizar(@NotNull @Positive Long id, @Valid UpdatePatioDTO updateDTO) {
         log.info("Atualizando pátio ID: {}", id);
         
@@ -97,6 +107,7 @@ public class FixedPatioService {
     /**
      * SOBRECARGA: Atualiza com CreatePatioDTO (compatibilidade)
      */
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public PatioDTO atualizar(@NotNull @Positive Long id, @Valid CreatePatioDTO updateDTO) {
         log.info("Atualizando pátio ID: {} (CreateDTO)", id);
         
@@ -113,6 +124,7 @@ public class FixedPatioService {
     /**
      * Remove pátio
      */
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public void deletar(@NotNull @Positive Long id) {
         log.info("Removendo pátio ID: {}", id);
         
@@ -120,12 +132,13 @@ public class FixedPatioService {
             throw new PatioNotFoundException(id);
         }
         
+        remocaoPatio.prepararRemocao(id);
         repository.deleteById(id);
         log.info("Pátio removido com sucesso. ID: {}", id);
     }
 
     /**
-     * Busca pátios por nome
+     * Busca pátios por trecho do nome (índice de trigramas), em ordem de relevância
      */
     @Transactional(readOnly = true)
     public List<PatioDTO> buscarPorNome(String nome) {
@@ -135,8 +148,10 @@ public class FixedPatioService {
             return listarTodos();
         }
         
-        return repository.findByNomeContainingIgnoreCase(nome.trim())
+        List<Long> ids = indiceNomes.buscar(nome.trim());
+        return repository.findAllById(ids)
                 .stream()
+                .sorted(IndiceNomesPatios.naOrdem(ids))
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
     }
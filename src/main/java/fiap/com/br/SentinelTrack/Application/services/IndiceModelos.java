@@ -0,0 +1,83 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+
+/**
+ * Índice de trigramas dos modelos de moto distintos, para a busca por modelo
+ *
+ * A busca por substring resolve em memória quais modelos casam com o termo e o
+ * banco lê só as motos desses modelos (MODELO IN, via IDX_MOTO_MODELO), em vez de
+ * um LIKE '%termo%' que percorre ST_MOTO inteira. Modelos novos entram após o
+ * commit; importações e uma reconciliação periódica recarregam o vocabulário do
+ * banco (modelos sem motos só saem na recarga e não trazem resultados até lá).
+ */
+@Service
+@Slf4j
+public class IndiceModelos {
+
+    private final MotoRepository motoRepository;
+    // Vocabulário imutável: cada inclusão troca o índice por um novo
+    private final EstadoRecarregavel<IndiceTrigramas> indice;
+
+    public IndiceModelos(MotoRepository motoRepository) {
+        this.motoRepository = motoRepository;
+        this.indice = new EstadoRecarregavel<>(this::carregar);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        log.info("Índice de modelos carregado: {} modelos", indice.recarregar().tamanho());
+    }
+
+    /**
+     * Recarrega o vocabulário do banco; cobre escritas feitas por fora do MotoService
+     */
+    @Scheduled(fixedDelayString = "${modelos.indice.reconciliacao-ms:300000}",
+               initialDelayString = "${modelos.indice.reconciliacao-ms:300000}")
+    public void reconciliar() {
+        indice.recarregar();
+    }
+
+    public void registrar(String modelo) {
+        if (modelo != null) {
+            indice.aplicarAposCommit(atual -> incluir(atual, modelo));
+        }
+    }
+
+    /**
+     * Importação em lote: recarrega o vocabulário após o commit
+     */
+    public void recarregarAposCommit() {
+        Transacoes.aposCommit(this::reconciliar);
+    }
+
+    /**
+     * Modelos cadastrados que contêm o termo (sem diferenciar maiúsculas e acentos),
+     * do mais para o menos relevante
+     */
+    public List<String> buscar(String termo) {
+        return indice.atual().buscar(termo);
+    }
+
+    private IndiceTrigramas carregar() {
+        return new IndiceTrigramas(motoRepository.listarModelos());
+    }
+
+    private static IndiceTrigramas incluir(IndiceTrigramas atual, String modelo) {
+        if (atual.contem(modelo)) {
+            return atual;
+        }
+        List<String> modelos = new ArrayList<>(atual.textos());
+        modelos.add(modelo);
+        return new IndiceTrigramas(modelos);
+    }
+}
@@ -0,0 +1,75 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+
+/**
+ * Índice de trigramas dos nomes de pátio, para a busca por nome dos serviços de pátio
+ *
+ * Montado a partir do DiretorioPatios em cache e refeito quando o diretório muda
+ * (as escritas de pátios invalidam o cache). A busca devolve os IDs em ordem de
+ * relevância e o banco lê só esses pátios por chave primária, em vez de um
+ * LIKE '%nome%' sobre ST_PATIO.
+ */
+@Service
+public class IndiceNomesPatios {
+
+    private final DiretorioPatios diretorio;
+
+    private volatile Indexado atual;
+
+    public IndiceNomesPatios(DiretorioPatios diretorio) {
+        this.diretorio = diretorio;
+    }
+
+    /**
+     * IDs dos pátios cujo nome contém o termo, do mais para o menos relevante
+     */
+    public List<Long> buscar(String nome) {
+        Map<Long, String> nomes = diretorio.nomesPorId();
+        Indexado indexado = atual;
+        // O diretório em cache é a mesma instância até ser invalidado
+        if (indexado == null || indexado.nomes() != nomes) {
+            indexado = Indexado.de(nomes);
+            atual = indexado;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (String encontrado : indexado.indice().buscar(nome)) {
+            ids.addAll(indexado.idsPorNome().get(encontrado));
+        }
+        return ids;
+    }
+
+    /**
+     * Ordena pátios lidos do banco (findAllById) na ordem dos IDs devolvidos pela busca
+     */
+    public static Comparator<Patio> naOrdem(List<Long> ids) {
+        Map<Long, Integer> posicoes = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            posicoes.putIfAbsent(ids.get(i), i);
+        }
+        return Comparator.comparingInt(patio -> posicoes.getOrDefault(patio.getId(), Integer.MAX_VALUE));
+    }
+
+    private record Indexado(Map<Long, String> nomes, IndiceTrigramas indice, Map<String, List<Long>> idsPorNome) {
+
+        // Nomes repetidos entre pátios são um único texto no índice
+        static Indexado de(Map<Long, String> nomes) {
+            Map<String, List<Long>> idsPorNome = new HashMap<>();
+            nomes.forEach((id, nome) -> {
+                if (nome != null) {
+                    idsPorNome.computeIfAbsent(nome, n -> new ArrayList<>()).add(id);
+                }
+            });
+            return new Indexado(nomes, new IndiceTrigramas(idsPorNome.keySet()), idsPorNome);
+        }
+    }
+}
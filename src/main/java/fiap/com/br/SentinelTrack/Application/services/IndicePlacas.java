@@ -0,0 +1,304 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Application.dto.SugestaoPlacaDTO;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.VersaoColecao;
+
+/**
+ * Índice das placas da frota em memória, para busca por prefixo (autocomplete e
+ * leitores de placa nos pátios) e equivalência entre os formatos antigo e Mercosul
+ *
+ * Cada placa é indexada pela forma canônica Mercosul (o 5º caractere numérico do
+ * formato antigo vira a letra correspondente: ABC1234 -> ABC1C34) seguida da placa
+ * gravada, em um mapa ordenado: um prefixo é um intervalo do mapa, O(log n + k).
+ * Ajustado pelas escritas do MotoService após o commit; importações e uma
+ * reconciliação periódica recarregam o índice do banco, reaplicando as escritas
+ * que chegam durante a leitura (EstadoRecarregavel). As motos gravadas por outras
+ * instâncias entram pela sincronização (placas.indice.sincronizacao-ms): se a versão
+ * da coleção mudou, só as placas alteradas desde a última vista são indexadas; placas
+ * trocadas ou removidas em outra instância só saem na reconciliação.
+ * buscarEquivalente confirma no banco as placas que não encontra; motoCadastrada
+ * (telemetria, volume alto e IDs vindos dos sensores) responde só pelo índice.
+ */
+@Service
+@Slf4j
+public class IndicePlacas {
+
+    public static final int LIMITE_MAXIMO_SUGESTOES = 50;
+
+    // Separa a forma canônica da placa gravada na chave (ordena antes de letras e dígitos)
+    private static final char SEPARADOR = ' ';
+    private static final char FIM_INTERVALO = Character.MAX_VALUE;
+
+    private final MotoRepository motoRepository;
+    private final Duration janelaSeguranca;
+
+    // Trocado por inteiro a cada recarga
+    private final EstadoRecarregavel<Indice> placas;
+
+    // Versão do banco já refletida no índice (recarga ou última sincronização)
+    private volatile Long totalVisto;
+    private volatile LocalDateTime ultimaAtualizacaoVista;
+
+    public IndicePlacas(MotoRepository motoRepository,
+                        @Value("${sincronizacao.janela-seguranca-ms:35000}") long janelaSegurancaMs) {
+        this.motoRepository = motoRepository;
+        this.janelaSeguranca = Duration.ofMillis(janelaSegurancaMs);
+        this.placas = new EstadoRecarregavel<>(this::carregar);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        log.info("Índice de placas carregado: {} placas", placas.recarregar().porPlaca.size());
+    }
+
+    /**
+     * Recarrega o índice do banco; cobre escritas feitas por fora do MotoService
+     */
+    @Scheduled(fixedDelayString = "${placas.indice.reconciliacao-ms:300000}",
+               initialDelayString = "${placas.indice.reconciliacao-ms:300000}")
+    public void reconciliar() {
+        placas.recarregar();
+    }
+
+    /**
+     * Indexa as motos gravadas por outras instâncias desde a última versão vista;
+     * sem mudança de versão custa uma consulta de agregado
+     */
+    @Scheduled(fixedDelayString = "${placas.indice.sincronizacao-ms:5000}",
+               initialDelayString = "${placas.indice.sincronizacao-ms:5000}")
+    public void sincronizar() {
+        LocalDateTime desde = ultimaAtualizacaoVista;
+        if (placas.atualOuNulo() == null) {
+            return;
+        }
+        VersaoColecao versao = motoRepository.versao();
+        if (Objects.equals(versao.getTotal(), totalVisto)
+                && Objects.equals(versao.getUltimaAtualizacao(), desde)) {
+            return;
+        }
+        // Frota vazia na última versão vista: não há UPDATED_AT de referência, lê todas
+        List<MotoRepository.PlacaMoto> alteradas = desde != null
+                ? motoRepository.listarPlacasAlteradas(desde.minus(janelaSeguranca))
+                : motoRepository.listarPlacas();
+        placas.aplicar(atual -> {
+            alteradas.forEach(moto -> indexar(atual, moto.getId(), moto.getPlaca()));
+            return atual;
+        });
+        totalVisto = versao.getTotal();
+        ultimaAtualizacaoVista = versao.getUltimaAtualizacao() != null ? versao.getUltimaAtualizacao() : desde;
+    }
+
+    public void registrar(Long id, String placa) {
+        placas.aplicarAposCommit(atual -> indexar(atual, id, placa));
+    }
+
+    public void remover(Long id, String placa) {
+        placas.aplicarAposCommit(atual -> desindexar(atual, id, placa));
+    }
+
+    /**
+     * Motos removidas em cascata com o pátio: um único ajuste após o commit
+     */
+    public void removerTodas(List<MotoRepository.PlacaMoto> motos) {
+        if (motos.isEmpty()) {
+            return;
+        }
+        placas.aplicarAposCommit(atual -> {
+            motos.forEach(moto -> desindexar(atual, moto.getId(), moto.getPlaca()));
+            return atual;
+        });
+    }
+
+    public void registrarAlteracao(Long id, String placaAnterior, String placaAtual) {
+        if (Objects.equals(placaAnterior, placaAtual)) {
+            return;
+        }
+        placas.aplicarAposCommit(atual -> indexar(desindexar(atual, id, placaAnterior), id, placaAtual));
+    }
+
+    /**
+     * Importação em lote (IDs não são lidos de volta): recarrega o índice após o commit
+     */
+    public void recarregarAposCommit() {
+        Transacoes.aposCommit(this::reconciliar);
+    }
+
+    /**
+     * Placas que começam com o prefixo, em qualquer um dos formatos, em ordem alfabética
+     * @param prefixo parte inicial da placa (maiúsculas, hífen e espaços são ignorados)
+     * @param limite quantidade máxima (até LIMITE_MAXIMO_SUGESTOES)
+     */
+    public List<SugestaoPlacaDTO> sugerir(String prefixo, int limite) {
+        String chave = canonica(normalizar(prefixo));
+        int maximo = Math.max(1, Math.min(limite, LIMITE_MAXIMO_SUGESTOES));
+        List<SugestaoPlacaDTO> sugestoes = new ArrayList<>(Math.min(maximo, 16));
+        if (chave.isEmpty()) {
+            return sugestoes;
+        }
+
+        for (Map.Entry<String, Long> entrada : intervalo(chave).entrySet()) {
+            String indexada = entrada.getKey();
+            sugestoes.add(new SugestaoPlacaDTO(entrada.getValue(), indexada.substring(indexada.indexOf(SEPARADOR) + 1)));
+            if (sugestoes.size() == maximo) {
+                break;
+            }
+        }
+        return sugestoes;
+    }
+
+    /**
+     * ID da moto cuja placa é a informada ou a mesma no outro formato (ABC1234 = ABC1C34)
+     * Fora do índice, consulta o banco pelos dois formatos: a placa pode ter sido
+     * gravada por outra instância ou durante uma recarga.
+     */
+    public Optional<Long> buscarEquivalente(String placa) {
+        String normalizada = normalizar(placa);
+        if (normalizada.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, Long> candidatas = intervalo(canonica(normalizada) + SEPARADOR);
+        Long exata = candidatas.get(canonica(normalizada) + SEPARADOR + normalizada);
+        if (exata != null) {
+            return Optional.of(exata);
+        }
+        if (!candidatas.isEmpty()) {
+            return candidatas.values().stream().findFirst();
+        }
+        return buscarNoBanco(normalizada);
+    }
+
+    /**
+     * Se a moto existe (leituras de telemetria por ID), só pelo índice: um sensor
+     * enviando IDs desconhecidos não gera uma consulta ao banco por ID
+     */
+    public boolean motoCadastrada(Long id) {
+        if (id == null || id <= 0) {
+            return false;
+        }
+        return placas.atual().ids.contains(id);
+    }
+
+    /**
+     * Placa em maiúsculas, só letras e dígitos (remove hífen e espaços digitados)
+     */
+    static String normalizar(String placa) {
+        if (placa == null) {
+            return "";
+        }
+        StringBuilder normalizada = new StringBuilder(placa.length());
+        for (int i = 0; i < placa.length(); i++) {
+            char c = placa.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalizada.append(Character.toUpperCase(c));
+            }
+        }
+        return normalizada.toString();
+    }
+
+    /**
+     * Forma Mercosul de uma placa (ou prefixo) normalizada: no formato antigo o
+     * 5º caractere é um dígito, que no Mercosul vira a letra de mesma posição (0 = A)
+     */
+    static String canonica(String normalizada) {
+        if (normalizada.length() < 5 || !Character.isDigit(normalizada.charAt(4))) {
+            return normalizada;
+        }
+        char[] caracteres = normalizada.toCharArray();
+        caracteres[4] = (char) ('A' + (caracteres[4] - '0'));
+        return new String(caracteres);
+    }
+
+    /**
+     * Forma antiga de uma placa normalizada no formato Mercosul (a letra A-J na
+     * 5ª posição volta a ser o dígito); as demais ficam como estão
+     */
+    static String antiga(String normalizada) {
+        if (normalizada.length() < 5 || normalizada.charAt(4) < 'A' || normalizada.charAt(4) > 'J') {
+            return normalizada;
+        }
+        char[] caracteres = normalizada.toCharArray();
+        caracteres[4] = (char) ('0' + (caracteres[4] - 'A'));
+        return new String(caracteres);
+    }
+
+    /**
+     * A placa normalizada e a mesma nos formatos Mercosul e antigo (sem repetições)
+     */
+    static Set<String> formatos(String normalizada) {
+        return new LinkedHashSet<>(List.of(normalizada, canonica(normalizada), antiga(normalizada)));
+    }
+
+    private Optional<Long> buscarNoBanco(String normalizada) {
+        Long equivalente = null;
+        for (MotoRepository.PlacaMoto moto : motoRepository.listarPlacas(formatos(normalizada))) {
+            if (normalizada.equals(moto.getPlaca())) {
+                return Optional.of(moto.getId());
+            }
+            equivalente = moto.getId();
+        }
+        return Optional.ofNullable(equivalente);
+    }
+
+    private Map<String, Long> intervalo(String prefixo) {
+        return placas.atual().porPlaca.subMap(prefixo, true, prefixo + FIM_INTERVALO, false);
+    }
+
+    private Indice carregar() {
+        // Versão lida antes das placas: o que for gravado durante a leitura entra na próxima sincronização
+        VersaoColecao versao = motoRepository.versao();
+        Indice novo = new Indice();
+        for (MotoRepository.PlacaMoto moto : motoRepository.listarPlacas()) {
+            indexar(novo, moto.getId(), moto.getPlaca());
+        }
+        totalVisto = versao.getTotal();
+        ultimaAtualizacaoVista = versao.getUltimaAtualizacao();
+        return novo;
+    }
+
+    // Inclusão e remoção são idempotentes: podem ser reaplicadas sobre uma recarga
+    private static Indice indexar(Indice atual, Long id, String placa) {
+        if (id != null && placa != null) {
+            atual.porPlaca.put(chave(placa), id);
+            atual.ids.add(id);
+        }
+        return atual;
+    }
+
+    private static Indice desindexar(Indice atual, Long id, String placa) {
+        if (id != null && placa != null && atual.porPlaca.remove(chave(placa), id)) {
+            atual.ids.remove(id);
+        }
+        return atual;
+    }
+
+    private static String chave(String placa) {
+        String normalizada = normalizar(placa);
+        return canonica(normalizada) + SEPARADOR + normalizada;
+    }
+
+    private static final class Indice {
+        // Forma canônica + SEPARADOR + placa -> ID da moto
+        private final ConcurrentSkipListMap<String, Long> porPlaca = new ConcurrentSkipListMap<>();
+        private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,164 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas para busca por substring, imutável
+ *
+ * Cada texto distinto (modelo de moto, nome de pátio) é normalizado (minúsculas, sem
+ * acentos, espaços simples) e decomposto em trigramas; cada trigrama aponta para a
+ * lista ordenada dos textos que o contêm. Uma consulta intersecta as listas dos seus
+ * trigramas, começando pela menor, e confirma o substring só nos candidatos.
+ * Consultas com menos de 3 caracteres percorrem o vocabulário, que é pequeno.
+ *
+ * Resultados ordenados por relevância: igual, começa com, início de palavra, meio do texto;
+ * em cada faixa, textos mais curtos primeiro.
+ */
+final class IndiceTrigramas {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final int[] VAZIA = new int[0];
+
+    private final String[] textos;
+    private final String[] normalizados;
+    // Trigrama (3 chars em um long) -> posições em textos, em ordem crescente
+    private final Map<Long, int[]> listas;
+
+    IndiceTrigramas(Collection<String> vocabulario) {
+        List<String> distintos = new ArrayList<>(new LinkedHashSet<>(vocabulario));
+        distintos.removeIf(texto -> texto == null || texto.isBlank());
+        textos = distintos.toArray(String[]::new);
+        normalizados = new String[textos.length];
+
+        Map<Long, List<Integer>> construcao = new HashMap<>();
+        for (int i = 0; i < textos.length; i++) {
+            normalizados[i] = normalizar(textos[i]);
+            for (long trigrama : trigramas(normalizados[i])) {
+                List<Integer> lista = construcao.computeIfAbsent(trigrama, t -> new ArrayList<>());
+                if (lista.isEmpty() || lista.get(lista.size() - 1) != i) {
+                    lista.add(i);
+                }
+            }
+        }
+
+        listas = new HashMap<>(construcao.size() * 2);
+        construcao.forEach((trigrama, lista) -> listas.put(trigrama, lista.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    int tamanho() {
+        return textos.length;
+    }
+
+    List<String> textos() {
+        return List.of(textos);
+    }
+
+    boolean contem(String texto) {
+        return Arrays.asList(textos).contains(texto);
+    }
+
+    /**
+     * Textos do vocabulário que contêm a consulta (sem diferenciar maiúsculas e acentos),
+     * do mais para o menos relevante; consulta vazia devolve todo o vocabulário
+     */
+    List<String> buscar(String consulta) {
+        String termo = normalizar(consulta);
+        List<Integer> encontrados = new ArrayList<>();
+        if (termo.length() < 3) {
+            for (int i = 0; i < normalizados.length; i++) {
+                if (normalizados[i].contains(termo)) {
+                    encontrados.add(i);
+                }
+            }
+        } else {
+            for (int candidato : candidatos(termo)) {
+                // Trigramas em comum não garantem a ordem: confirma o substring
+                if (normalizados[candidato].contains(termo)) {
+                    encontrados.add(candidato);
+                }
+            }
+        }
+
+        encontrados.sort(Comparator.<Integer>comparingInt(i -> relevancia(normalizados[i], termo))
+                .thenComparingInt(i -> normalizados[i].length())
+                .thenComparing(i -> normalizados[i]));
+        List<String> resultado = new ArrayList<>(encontrados.size());
+        encontrados.forEach(i -> resultado.add(textos[i]));
+        return resultado;
+    }
+
+    private int[] candidatos(String termo) {
+        long[] doTermo = trigramas(termo);
+        int[][] selecionadas = new int[doTermo.length][];
+        for (int i = 0; i < doTermo.length; i++) {
+            selecionadas[i] = listas.getOrDefault(doTermo[i], VAZIA);
+            if (selecionadas[i].length == 0) {
+                return VAZIA;
+            }
+        }
+        Arrays.sort(selecionadas, Comparator.comparingInt(lista -> lista.length));
+
+        int[] resultado = selecionadas[0];
+        for (int i = 1; i < selecionadas.length && resultado.length > 0; i++) {
+            resultado = intersectar(resultado, selecionadas[i]);
+        }
+        return resultado;
+    }
+
+    private static int[] intersectar(int[] a, int[] b) {
+        int[] comum = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                comum[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(comum, n);
+    }
+
+    private static long[] trigramas(String texto) {
+        if (texto.length() < 3) {
+            return new long[0];
+        }
+        long[] trigramas = new long[texto.length() - 2];
+        for (int i = 0; i < trigramas.length; i++) {
+            trigramas[i] = ((long) texto.charAt(i) << 32) | ((long) texto.charAt(i + 1) << 16) | texto.charAt(i + 2);
+        }
+        return trigramas;
+    }
+
+    private static int relevancia(String texto, String termo) {
+        if (texto.equals(termo)) {
+            return 0;
+        }
+        if (texto.startsWith(termo)) {
+            return 1;
+        }
+        return texto.contains(" " + termo) ? 2 : 3;
+    }
+
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
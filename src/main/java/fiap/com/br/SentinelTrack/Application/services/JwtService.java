@@ -1,34 +1,51 @@
 package fiap.com.br.SentinelTrack.Application.services;
 
+import fiap.com.br.SentinelTrack.Application.dto.UsuarioTokenDTO;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * Serviço JWT para autenticação segura
  * Challenge 2025 - 4º Sprint
+ * 
+ * A chave HMAC e o parser são criados uma única vez (ambos são imutáveis e thread-safe)
  */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret:SentinelTrackSecretKeyForChallenge2025VerySecureAndLongEnoughForHS256}")
-    private String secretKey;
-
-    @Value("${jwt.expiration:86400000}") // 24 horas em millisegundos
-    private Long jwtExpiration;
+    private final Long jwtExpiration;
+    private final SecretKey signInKey;
+    private final JwtParser parser;
+
+    public JwtService(
+            @Value("${jwt.secret:SentinelTrackSecretKeyForChallenge2025VerySecureAndLongEnoughForHS256}") String secretKey,
+            @Value("${jwt.expiration:86400000}") Long jwtExpiration) { // 24 horas em millisegundos
+        this.jwtExpiration = jwtExpiration;
+        this.signInKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
+    }
 
     /**
      * Gera token JWT para usuário
      */
+    @Timed(value = "jwt.assinatura", description = "Tempo de geração e assinatura do token JWT")
     public String generateToken(String email, String role) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
@@ -40,15 +57,35 @@ public class JwtService {
      * Cria o token JWT
      */
     private String createToken(Map<String, Object> claims, String subject) {
+        long agora = System.currentTimeMillis();
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(agora))
+                .setExpiration(new Date(agora + jwtExpiration))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Valida assinatura e expiração com um único parse do token
+     * @return dados do usuário, ou vazio se o token for inválido, estiver expirado ou não tiver subject
+     */
+    public Optional<UsuarioTokenDTO> validar(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            if (claims.getSubject() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new UsuarioTokenDTO(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    claims.getExpiration()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extrai email do token
      */
@@ -80,45 +117,26 @@ public class JwtService {
 
     /**
      * Extrai todos os claims
+     * O parser rejeita tokens expirados (ExpiredJwtException)
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload();
     }
 
-    /**
-     * Verifica se token expirou
-     */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     /**
      * Valida token
      */
     public Boolean validateToken(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
+        return validar(token)
+                .map(usuario -> email != null && email.equals(usuario.getEmail()))
+                .orElse(false);
     }
 
     /**
      * Verifica se token é válido
      */
     public Boolean isTokenValid(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /**
-     * Gera chave de assinatura
-     */
-    private SecretKey getSignInKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+        return validar(token).isPresent();
     }
 }
@@ -0,0 +1,126 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exportação da frota em CSV ou NDJSON (um JSON por linha)
+ * 
+ * Lê ST_MOTO por cursor (Stream) e escreve cada linha direto na saída,
+ * desanexando a entidade em seguida: o heap não cresce com o tamanho da frota
+ * e os primeiros bytes saem antes do fim da consulta.
+ */
+@Service
+@Slf4j
+public class MotoExportService {
+
+    static final String CABECALHO_CSV = "id,modelo,placa,status,idPatio,nomePatio,dataEntrada";
+
+    private final MotoRepository motoRepository;
+    private final MotoMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public MotoExportService(MotoRepository motoRepository, MotoMapper mapper, ObjectMapper objectMapper) {
+        this.motoRepository = motoRepository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportarCsv(MotoStatus status, Long idPatio, Writer writer) throws IOException {
+        SimpleDateFormat formatoData = new SimpleDateFormat("yyyy-MM-dd");
+        writer.write(CABECALHO_CSV);
+        writer.write('\n');
+        writer.flush();
+
+        StringBuilder linha = new StringBuilder(128);
+        return percorrer(status, idPatio, moto -> {
+            linha.setLength(0);
+            linha.append(moto.getId()).append(',')
+                 .append(escaparCsv(moto.getModelo())).append(',')
+                 .append(moto.getPlaca()).append(',')
+                 .append(moto.getStatus().name()).append(',')
+                 .append(moto.getPatio().getId()).append(',')
+                 .append(escaparCsv(moto.getPatio().getNome())).append(',')
+                 .append(moto.getDataEntrada() != null ? formatoData.format(moto.getDataEntrada()) : "")
+                 .append('\n');
+            try {
+                writer.append(linha);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public long exportarNdjson(MotoStatus status, Long idPatio, OutputStream saida) throws IOException {
+        try (SequenceWriter sequencia = objectMapper.writerFor(MotoDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(saida)) {
+            long total = percorrer(status, idPatio, moto -> {
+                try {
+                    sequencia.write(mapper.toDTO(moto));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            sequencia.flush();
+            if (total > 0) {
+                saida.write('\n');
+            }
+            return total;
+        }
+    }
+
+    private long percorrer(MotoStatus status, Long idPatio, Consumer<Moto> escritor) throws IOException {
+        long inicio = System.currentTimeMillis();
+        long total = 0;
+        try (Stream<Moto> motos = motoRepository.streamPorFiltro(status, idPatio)) {
+            for (Moto moto : (Iterable<Moto>) motos::iterator) {
+                escritor.accept(moto);
+                entityManager.detach(moto);
+                total++;
+            }
+        } catch (UncheckedIOException e) {
+            // Cliente desconectou no meio da exportação
+            throw e.getCause();
+        }
+        log.info("Exportação de motos concluída: {} registros em {} ms", total, System.currentTimeMillis() - inicio);
+        return total;
+    }
+
+    private String escaparCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,268 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import fiap.com.br.SentinelTrack.Application.dto.CreateMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.LinhaImportacaoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResultadoImportacaoDTO;
+import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import fiap.com.br.SentinelTrack.Infrastructure.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Importação em lote de motos (JSON ou CSV)
+ * 
+ * Valida as linhas em memória, verifica placas e pátios com consultas em lote
+ * (IN de até TAMANHO_LOTE valores) e insere via batch JDBC. Linhas inválidas
+ * são rejeitadas individualmente; as válidas são importadas na mesma transação,
+ * limitada a sincronizacao.transacao-maxima-s para não gravar abaixo de um
+ * watermark de sincronização já entregue.
+ */
+@Service
+@Slf4j
+public class MotoImportService {
+
+    static final int TAMANHO_LOTE = 1000;
+    static final String CABECALHO_CSV = "modelo,placa,status,idPatio,dataEntrada";
+
+    private static final Pattern PADRAO_PLACA = Pattern.compile("^([A-Z]{3}[0-9]{4}|[A-Z]{3}[0-9][A-Z][0-9]{2})$");
+    private static final int TAMANHO_MAXIMO_MODELO = 50;
+
+    private final MotoRepository motoRepository;
+    private final PatioRepository patioRepository;
+    private final MotoMapper mapper;
+    private final ContadoresFrota contadores;
+    private final IndicePlacas indicePlacas;
+    private final IndiceModelos indiceModelos;
+    private final FiltroPlacas filtroPlacas;
+    private final ApplicationEventPublisher eventos;
+    private final int limiteLinhas;
+
+    public MotoImportService(MotoRepository motoRepository, PatioRepository patioRepository, MotoMapper mapper,
+                             ContadoresFrota contadores, IndicePlacas indicePlacas, IndiceModelos indiceModelos,
+                             FiltroPlacas filtroPlacas, ApplicationEventPublisher eventos,
+                             @Value("${importacao.motos.limite-linhas:100000}") int limiteLinhas) {
+        this.motoRepository = motoRepository;
+        this.patioRepository = patioRepository;
+        this.mapper = mapper;
+        this.contadores = contadores;
+        this.indicePlacas = indicePlacas;
+        this.indiceModelos = indiceModelos;
+        this.filtroPlacas = filtroPlacas;
+        this.eventos = eventos;
+        this.limiteLinhas = limiteLinhas;
+    }
+
+    @Transactional(timeoutString = "${sincronizacao.transacao-maxima-s:30}")
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MOTOS_RECENTES, allEntries = true)
+    public ResultadoImportacaoDTO importar(List<CreateMotoDTO> motos) {
+        List<Linha> linhas = new ArrayList<>(motos.size());
+        for (int i = 0; i < motos.size(); i++) {
+            CreateMotoDTO moto = motos.get(i);
+            linhas.add(new Linha(i + 1, moto, moto == null ? "Linha vazia" : null));
+        }
+        return processar(linhas);
+    }
+
+    /**
+     * Importa um CSV com cabeçalho "modelo,placa,status,idPatio,dataEntrada"
+     * (separador vírgula ou ponto e vírgula, data em yyyy-MM-dd)
+     */
+    @Transactional(timeoutString = "${sincronizacao.transacao-maxima-s:30}")
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MOTOS_RECENTES, allEntries = true)
+    public ResultadoImportacaoDTO importarCsv(Reader reader) throws IOException {
+        return processar(lerCsv(new BufferedReader(reader)));
+    }
+
+    private ResultadoImportacaoDTO processar(List<Linha> linhas) {
+        long inicio = System.currentTimeMillis();
+        if (linhas.size() > limiteLinhas) {
+            throw new IllegalArgumentException("Importação limitada a " + limiteLinhas + " linhas por requisição");
+        }
+
+        // 1. Validação em memória, incluindo placas repetidas no próprio arquivo
+        Set<String> placasVistas = new HashSet<>();
+        for (Linha linha : linhas) {
+            if (linha.erro == null) {
+                normalizar(linha.moto);
+                linha.erro = validar(linha.moto);
+            }
+            if (linha.erro == null && !placasVistas.add(linha.moto.getPlaca())) {
+                linha.erro = "Placa repetida no arquivo";
+            }
+        }
+
+        // 2. Placas já cadastradas e pátios existentes: uma consulta por lote
+        List<Linha> validas = linhas.stream().filter(l -> l.erro == null).toList();
+        Set<String> placasExistentes = consultarEmLotes(
+                validas.stream().map(l -> l.moto.getPlaca()).toList(), motoRepository::findPlacasExistentes);
+        Set<Long> patiosExistentes = consultarEmLotes(
+                validas.stream().map(l -> l.moto.getIdPatio()).distinct().toList(), patioRepository::findIdsExistentes);
+
+        List<Moto> motos = new ArrayList<>(validas.size());
+        for (Linha linha : validas) {
+            if (placasExistentes.contains(linha.moto.getPlaca())) {
+                linha.erro = "Já existe uma moto cadastrada com a placa: " + linha.moto.getPlaca();
+            } else if (!patiosExistentes.contains(linha.moto.getIdPatio())) {
+                linha.erro = "Pátio não encontrado: " + linha.moto.getIdPatio();
+            } else {
+                motos.add(mapper.toEntity(linha.moto, patioRepository.getReferenceById(linha.moto.getIdPatio())));
+            }
+        }
+
+        // 3. Inserção em batch JDBC
+        motoRepository.inserirEmLote(motos, TAMANHO_LOTE);
+        contadores.registrarEntradas(motos);
+        if (!motos.isEmpty()) {
+            indicePlacas.recarregarAposCommit();
+            indiceModelos.recarregarAposCommit();
+            filtroPlacas.reconstruirAposCommit();
+            // Um único evento para a importação: assinantes recarregam a lista em vez de receber milhares
+            eventos.publishEvent(EventoMotoDTO.de(EventoMotoDTO.IMPORTACAO, null));
+        }
+
+        ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+        resultado.setTotalLinhas(linhas.size());
+        resultado.setImportadas(motos.size());
+        resultado.setRejeitadas(linhas.size() - motos.size());
+        for (Linha linha : linhas) {
+            String placa = linha.moto != null ? linha.moto.getPlaca() : null;
+            resultado.getLinhas().add(new LinhaImportacaoDTO(linha.numero, placa, linha.erro == null, linha.erro));
+        }
+        resultado.setTempoMs(System.currentTimeMillis() - inicio);
+
+        log.info("Importação de motos: {} linhas, {} importadas, {} rejeitadas em {} ms",
+                resultado.getTotalLinhas(), resultado.getImportadas(), resultado.getRejeitadas(), resultado.getTempoMs());
+        return resultado;
+    }
+
+    private void normalizar(CreateMotoDTO moto) {
+        if (moto.getPlaca() != null) {
+            moto.setPlaca(moto.getPlaca().trim().toUpperCase());
+        }
+        if (moto.getStatus() != null) {
+            moto.setStatus(moto.getStatus().trim().toUpperCase());
+        }
+        if (moto.getModelo() != null) {
+            moto.setModelo(moto.getModelo().trim());
+        }
+    }
+
+    private String validar(CreateMotoDTO moto) {
+        if (moto.getModelo() == null || moto.getModelo().isEmpty()) {
+            return "Modelo é obrigatório";
+        }
+        if (moto.getModelo().length() > TAMANHO_MAXIMO_MODELO) {
+            return "Modelo deve ter no máximo " + TAMANHO_MAXIMO_MODELO + " caracteres";
+        }
+        if (moto.getPlaca() == null || moto.getPlaca().isEmpty()) {
+            return "Placa é obrigatória";
+        }
+        if (!PADRAO_PLACA.matcher(moto.getPlaca()).matches()) {
+            return "Formato de placa inválido. Use ABC1234 ou ABC1D23";
+        }
+        if (moto.getStatus() == null || moto.getStatus().isEmpty()) {
+            return "Status é obrigatório";
+        }
+        if (MotoStatus.buscar(moto.getStatus()).isEmpty()) {
+            return "Status inválido. Use DISPONIVEL, EM_USO ou MANUTENCAO";
+        }
+        if (moto.getIdPatio() == null) {
+            return "ID do pátio é obrigatório";
+        }
+        if (moto.getDataEntrada() == null) {
+            return "Data de entrada é obrigatória";
+        }
+        return null;
+    }
+
+    private <T> Set<T> consultarEmLotes(List<T> valores, Function<Collection<T>, List<T>> consulta) {
+        Set<T> encontrados = new HashSet<>();
+        for (int i = 0; i < valores.size(); i += TAMANHO_LOTE) {
+            encontrados.addAll(consulta.apply(valores.subList(i, Math.min(i + TAMANHO_LOTE, valores.size()))));
+        }
+        return encontrados;
+    }
+
+    private List<Linha> lerCsv(BufferedReader reader) throws IOException {
+        List<Linha> linhas = new ArrayList<>();
+        String cabecalho = reader.readLine();
+        if (cabecalho == null) {
+            return linhas;
+        }
+        String separador = cabecalho.contains(";") ? ";" : ",";
+        if (!cabecalho.replace(separador, ",").replace(" ", "").equalsIgnoreCase(CABECALHO_CSV)) {
+            throw new IllegalArgumentException("Cabeçalho do CSV deve ser: " + CABECALHO_CSV);
+        }
+
+        String texto;
+        int numero = 0;
+        while ((texto = reader.readLine()) != null) {
+            if (texto.isBlank()) {
+                continue;
+            }
+            numero++;
+            linhas.add(lerLinhaCsv(numero, texto, separador));
+            if (linhas.size() > limiteLinhas) {
+                throw new IllegalArgumentException("Importação limitada a " + limiteLinhas + " linhas por requisição");
+            }
+        }
+        return linhas;
+    }
+
+    private Linha lerLinhaCsv(int numero, String texto, String separador) {
+        String[] campos = texto.split(separador, -1);
+        CreateMotoDTO moto = new CreateMotoDTO();
+        if (campos.length != 5) {
+            return new Linha(numero, moto, "Linha deve ter 5 colunas: " + CABECALHO_CSV);
+        }
+        moto.setModelo(campos[0]);
+        moto.setPlaca(campos[1]);
+        moto.setStatus(campos[2]);
+        try {
+            moto.setIdPatio(Long.valueOf(campos[3].trim()));
+        } catch (NumberFormatException e) {
+            return new Linha(numero, moto, "ID do pátio inválido: " + campos[3]);
+        }
+        try {
+            moto.setDataEntrada(java.sql.Date.valueOf(LocalDate.parse(campos[4].trim())));
+        } catch (DateTimeParseException e) {
+            return new Linha(numero, moto, "Data de entrada inválida (use yyyy-MM-dd): " + campos[4]);
+        }
+        return new Linha(numero, moto, null);
+    }
+
+    private static final class Linha {
+        private final int numero;
+        private final CreateMotoDTO moto;
+        private String erro;
+
+        private Linha(int numero, CreateMotoDTO moto, String erro) {
+            this.numero = numero;
+            this.moto = moto;
+            this.erro = erro;
+        }
+    }
+}
@@ -1,33 +1,71 @@
 package fiap.com.br.SentinelTrack.Application.services;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
 
 import fiap.com.br.SentinelTrack.Api.exception.DuplicatePlacaException;
 import fiap.com.br.SentinelTrack.Api.exception.PatioNotFoundException;
 import fiap.com.br.SentinelTrack.Application.dto.CreateMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.FiltroMotoDTO;
 import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PaginaDTO;
+import fiap.com.br.SentinelTrack.Application.dto.SugestaoPlacaDTO;
 import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
 import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
 import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.VersaoColecao;
+import fiap.com.br.SentinelTrack.Infrastructure.config.CacheConfig;
 
 @Service
+@Transactional
+@Timed(value = "sentineltrack.servico", description = "Tempo de execução dos métodos de serviço")
 public class MotoService {
 
     private final MotoRepository motoRepository;
     private final PatioService patioService;
     private final MotoMapper mapper;
+    private final ContadoresFrota contadores;
+    private final IndicePlacas indicePlacas;
+    private final IndiceModelos indiceModelos;
+    private final FiltroPlacas filtroPlacas;
+    private final RegistroRemocoes remocoes;
+    // Eventos entregues aos assinantes SSE após o commit (TransmissorEventosMoto)
+    private final ApplicationEventPublisher eventos;
 
-    public MotoService(MotoRepository motoRepository, PatioService patioService, MotoMapper mapper) {
+    public MotoService(MotoRepository motoRepository, PatioService patioService, MotoMapper mapper,
+                       ContadoresFrota contadores, IndicePlacas indicePlacas, IndiceModelos indiceModelos,
+                       FiltroPlacas filtroPlacas, RegistroRemocoes remocoes, ApplicationEventPublisher eventos) {
         this.motoRepository = motoRepository;
         this.patioService = patioService;
         this.mapper = mapper;
+        this.contadores = contadores;
+        this.indicePlacas = indicePlacas;
+        this.indiceModelos = indiceModelos;
+        this.filtroPlacas = filtroPlacas;
+        this.remocoes = remocoes;
+        this.eventos = eventos;
     }
 
+    @Transactional(readOnly = true)
     public List<MotoDTO> listarTodas() {
         return motoRepository.findAll()
                 .stream()
@@ -35,16 +73,92 @@ public class MotoService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Lista motos paginando por cursor (ID_MOTO), com filtros opcionais
+     * O custo de cada página independe do tamanho da frota
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<MotoDTO> listarPagina(FiltroMotoDTO filtro, Long cursor, Integer tamanho) {
+        int tamanhoPagina = PaginaDTO.normalizarTamanho(tamanho);
+
+        List<MotoDTO> motos = motoRepository.buscarPorCursor(
+                        filtro.getStatus(), filtro.getIdPatio(), filtro.getModelo(),
+                        cursor, filtro.isDecrescente(), tamanhoPagina + 1)
+                .stream()
+                .map(mapper::toDTO)
+                .collect(Collectors.toList());
+
+        return PaginaDTO.de(motos, tamanhoPagina, MotoDTO::getId);
+    }
+
+    /**
+     * Versão das motos (geral ou de um pátio) para respostas condicionais:
+     * uma consulta agregada resolvida pelos índices de UPDATED_AT
+     */
+    @Transactional(readOnly = true)
+    public VersaoColecao versao(Long idPatio) {
+        return idPatio != null ? motoRepository.versaoPorPatio(idPatio) : motoRepository.versao();
+    }
+
+    // Em cache para os dashboards; invalidado (após o commit) pelas escritas de motos
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CACHE_MOTOS_RECENTES, key = "'top5'")
+    public List<MotoDTO> listarRecentes() {
+        return motoRepository.findTop5ByOrderByDataEntradaDesc()
+                .stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public Optional<MotoDTO> buscarPorId(Long id) {
         return motoRepository.findById(id)
                 .map(mapper::toDTO);
     }
 
+    /**
+     * Busca pela placa e pela mesma placa no outro formato (antigo/Mercosul) em um
+     * único SELECT no índice único de PLACA, preferindo a grafia exata.
+     * Placas que o filtro de Bloom garante não cadastradas nem chegam ao banco.
+     */
+    @Transactional(readOnly = true)
     public Optional<MotoDTO> buscarPorPlaca(String placa) {
-        return motoRepository.findByPlaca(placa)
-                .map(mapper::toDTO);
+        String normalizada = IndicePlacas.normalizar(placa);
+        if (!filtroPlacas.talvezCadastrada(normalizada)) {
+            return Optional.empty();
+        }
+
+        List<Moto> motos = motoRepository.findByPlacaIn(IndicePlacas.formatos(normalizada));
+        Optional<Moto> moto = motos.stream()
+                .filter(m -> normalizada.equals(m.getPlaca()))
+                .findFirst()
+                .or(() -> motos.stream().findFirst());
+        if (moto.isEmpty()) {
+            filtroPlacas.registrarFalsoPositivo(normalizada);
+        }
+        return moto.map(mapper::toDTO);
+    }
+
+    /**
+     * Motos cujas placas começam com o prefixo (em qualquer formato), em ordem de placa:
+     * IDs resolvidos pelo índice de placas e carregados em um único SELECT
+     */
+    @Transactional(readOnly = true)
+    public List<MotoDTO> buscarPorPrefixoPlaca(String prefixo, int limite) {
+        List<Long> ids = indicePlacas.sugerir(prefixo, limite).stream()
+                .map(SugestaoPlacaDTO::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return motoRepository.findByIdIn(ids)
+                .stream()
+                .map(mapper::toDTO)
+                .sorted(Comparator.comparing(MotoDTO::getPlaca))
+                .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<MotoDTO> buscarPorPatio(Long idPatio) {
         return motoRepository.findByPatioId(idPatio)
                 .stream()
@@ -52,61 +166,141 @@ public class MotoService {
                 .collect(Collectors.toList());
     }
 
-    public List<MotoDTO> buscarPorStatus(String status) {
+    @Transactional(readOnly = true)
+    public List<MotoDTO> buscarPorStatus(MotoStatus status) {
         return motoRepository.findByStatus(status)
                 .stream()
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Cadastra a moto com um único INSERT: o pátio vem do diretório em cache e a
+     * unicidade da placa é garantida pelo índice único de ST_MOTO.PLACA
+     * (correto também sob cadastros concorrentes da mesma placa)
+     */
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MOTOS_RECENTES, allEntries = true)
     public MotoDTO criar(CreateMotoDTO createDTO) {
-        Optional<Patio> patioOpt = patioService.buscarEntidadePorId(createDTO.getIdPatio());
-        if (patioOpt.isEmpty()) {
-            throw new PatioNotFoundException(createDTO.getIdPatio());
-        }
+        Patio patio = patioService.buscarEntidadePorId(createDTO.getIdPatio())
+                .orElseThrow(() -> new PatioNotFoundException(createDTO.getIdPatio()));
 
-        // Verificar se placa já existe
-        if (motoRepository.findByPlaca(createDTO.getPlaca()).isPresent()) {
-            throw new DuplicatePlacaException(createDTO.getPlaca());
-        }
+        Moto moto = gravar(mapper.toEntity(createDTO, patio), createDTO);
+        contadores.registrarEntrada(patio.getId(), moto.getStatus());
+        indicePlacas.registrar(moto.getId(), moto.getPlaca());
+        indiceModelos.registrar(moto.getModelo());
+        filtroPlacas.registrar(moto.getPlaca());
 
-        Moto moto = mapper.toEntity(createDTO, patioOpt.get());
-        Moto savedMoto = motoRepository.save(moto);
-        return mapper.toDTO(savedMoto);
+        MotoDTO dto = mapper.toDTO(moto);
+        eventos.publishEvent(EventoMotoDTO.de(EventoMotoDTO.CRIADA, dto));
+        return dto;
     }
 
+    /**
+     * Atualiza a moto com um SELECT (por ID, com pátio) e um UPDATE
+     */
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MOTOS_RECENTES, allEntries = true)
     public Optional<MotoDTO> atualizar(Long id, CreateMotoDTO updateDTO) {
         return motoRepository.findById(id)
                 .map(moto -> {
-                    // Verificar se a nova placa já existe em outra moto
-                    Optional<Moto> existingMoto = motoRepository.findByPlaca(updateDTO.getPlaca());
-                    if (existingMoto.isPresent() && !existingMoto.get().getId().equals(id)) {
-                        throw new DuplicatePlacaException(updateDTO.getPlaca());
-                    }
+                    Patio patio = patioService.buscarEntidadePorId(updateDTO.getIdPatio())
+                            .orElseThrow(() -> new PatioNotFoundException(updateDTO.getIdPatio()));
+
+                    Long idPatioAnterior = moto.getPatio() != null ? moto.getPatio().getId() : null;
+                    MotoStatus statusAnterior = moto.getStatus();
+                    String placaAnterior = moto.getPlaca();
 
-                    Optional<Patio> patioOpt = patioService.buscarEntidadePorId(updateDTO.getIdPatio());
-                    if (patioOpt.isEmpty()) {
-                        throw new PatioNotFoundException(updateDTO.getIdPatio());
+                    mapper.updateEntity(moto, updateDTO, patio);
+                    Moto atualizada = gravar(moto, updateDTO);
+                    contadores.registrarAlteracao(idPatioAnterior, statusAnterior, patio.getId(), atualizada.getStatus());
+                    indicePlacas.registrarAlteracao(atualizada.getId(), placaAnterior, atualizada.getPlaca());
+                    indiceModelos.registrar(atualizada.getModelo());
+                    if (!Objects.equals(placaAnterior, atualizada.getPlaca())) {
+                        filtroPlacas.registrar(atualizada.getPlaca());
                     }
 
-                    mapper.updateEntity(moto, updateDTO, patioOpt.get());
-                    Moto updatedMoto = motoRepository.save(moto);
-                    return mapper.toDTO(updatedMoto);
+                    MotoDTO dto = mapper.toDTO(atualizada);
+                    boolean statusAlterado = statusAnterior != null && statusAnterior != atualizada.getStatus();
+                    EventoMotoDTO evento = EventoMotoDTO.de(
+                            statusAlterado ? EventoMotoDTO.STATUS_ALTERADO : EventoMotoDTO.ATUALIZADA, dto);
+                    evento.setIdPatioAnterior(idPatioAnterior);
+                    evento.setStatusAnterior(statusAnterior != null ? statusAnterior.name() : null);
+                    eventos.publishEvent(evento);
+                    return dto;
                 });
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MOTOS_RECENTES, allEntries = true)
     public boolean deletar(Long id) {
-        if (motoRepository.existsById(id)) {
-            motoRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return motoRepository.findById(id)
+                .map(moto -> {
+                    remocoes.registrarMoto(moto.getId());
+                    motoRepository.delete(moto);
+                    contadores.registrarSaida(moto.getPatio() != null ? moto.getPatio().getId() : null, moto.getStatus());
+                    indicePlacas.remover(moto.getId(), moto.getPlaca());
+                    eventos.publishEvent(EventoMotoDTO.de(EventoMotoDTO.REMOVIDA, mapper.toDTO(moto)));
+                    return true;
+                })
+                .orElse(false);
     }
 
+    /**
+     * Busca por trecho do modelo: o IndiceModelos resolve os modelos que casam e o
+     * banco lê só as motos deles (IDX_MOTO_MODELO), em ordem de relevância do modelo
+     */
+    @Transactional(readOnly = true)
     public List<MotoDTO> buscarPorModelo(String modelo) {
-        return motoRepository.findByModeloContainingIgnoreCase(modelo)
+        List<String> modelos = indiceModelos.buscar(modelo);
+        if (modelos.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Integer> posicoes = new HashMap<>();
+        for (int i = 0; i < modelos.size(); i++) {
+            posicoes.put(modelos.get(i), i);
+        }
+        return motoRepository.findByModeloIn(modelos)
                 .stream()
+                .sorted(Comparator.comparingInt((Moto moto) -> posicoes.getOrDefault(moto.getModelo(), Integer.MAX_VALUE))
+                        .thenComparing(Moto::getId))
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Grava com flush imediato para que violações de constraint surjam aqui:
+     * placa duplicada vira DuplicatePlacaException e pátio removido (FK) vira PatioNotFoundException
+     */
+    private Moto gravar(Moto moto, CreateMotoDTO dados) {
+        try {
+            return motoRepository.saveAndFlush(moto);
+        } catch (DataIntegrityViolationException e) {
+            SQLException causa = causaSql(e);
+            if (causa != null && violouChaveUnica(causa)) {
+                throw new DuplicatePlacaException(dados.getPlaca());
+            }
+            if (causa != null && violouChaveEstrangeira(causa)) {
+                throw new PatioNotFoundException(dados.getIdPatio());
+            }
+            throw e;
+        }
+    }
+
+    private static SQLException causaSql(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sqlException) {
+                return sqlException;
+            }
+        }
+        return null;
+    }
+
+    // SQLState 23505 (H2/PostgreSQL) ou ORA-00001 (Oracle); ST_MOTO só tem a placa como chave única
+    private static boolean violouChaveUnica(SQLException e) {
+        return "23505".equals(e.getSQLState()) || e.getErrorCode() == 1;
+    }
+
+    // SQLState 23506 (H2) / 23503 (PostgreSQL) ou ORA-02291 (Oracle)
+    private static boolean violouChaveEstrangeira(SQLException e) {
+        return "23506".equals(e.getSQLState()) || "23503".equals(e.getSQLState()) || e.getErrorCode() == 2291;
+    }
 }
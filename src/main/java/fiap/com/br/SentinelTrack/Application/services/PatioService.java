@@ -1,50 +1,73 @@
 package fiap.com.br.SentinelTrack.Application.services;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 
 import fiap.com.br.SentinelTrack.Api.exception.PatioNotFoundException;
 import fiap.com.br.SentinelTrack.Application.dto.CreatePatioDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PaginaDTO;
 import fiap.com.br.SentinelTrack.Application.dto.PatioDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResumoPatioDTO;
 import fiap.com.br.SentinelTrack.Application.dto.UpdatePatioDTO;
 import fiap.com.br.SentinelTrack.Application.mapper.PatioMapper;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
 import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.VersaoColecao;
+import fiap.com.br.SentinelTrack.Infrastructure.config.CacheConfig;
 
 @Service
+@Timed(value = "sentineltrack.servico", description = "Tempo de execução dos métodos de serviço")
 public class PatioService {
 
     private final PatioRepository repository;
     private final PatioMapper mapper;
+    private final DiretorioPatios diretorio;
+    private final IndiceNomesPatios indiceNomes;
+    private final RemocaoPatio remocaoPatio;
 
-    public PatioService(PatioRepository repository, PatioMapper mapper) {
+    public PatioService(PatioRepository repository, PatioMapper mapper, DiretorioPatios diretorio,
+                        IndiceNomesPatios indiceNomes, RemocaoPatio remocaoPatio) {
         this.repository = repository;
         this.mapper = mapper;
+        this.diretorio = diretorio;
+        this.indiceNomes = indiceNomes;
+        this.remocaoPatio = remocaoPatio;
     }
 
+    @Cacheable(cacheNames = CacheConfig.CACHE_PATIOS, key = "'lista'")
     public List<PatioDTO> listarTodos() {
         return repository.findAll()
                 .stream()
                 .map(mapper::toDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    @Cacheable(cacheNames = CacheConfig.CACHE_PATIOS, key = "#id", unless = "#result == null")
     public Optional<PatioDTO> buscarPorId(Long id) {
         return repository.findById(id)
                 .map(mapper::toDTO);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public PatioDTO criar(CreatePatioDTO createDTO) {
         Patio patio = mapper.toEntity(createDTO);
         Patio savedPatio = repository.save(patio);
         return mapper.toDTO(savedPatio);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public Optional<PatioDTO> atualizar(Long id, CreatePatioDTO updateDTO) {
         return repository.findById(id)
                 .map(patio -> {
@@ -54,33 +77,97 @@ public class PatioService {
                 });
     }
 
+    // Tombstones e evento das motos removidas em cascata na mesma transação da remoção
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public boolean deletar(Long id) {
         if (repository.existsById(id)) {
+            remocaoPatio.prepararRemocao(id);
             repository.deleteById(id);
             return true;
         }
         return false;
     }
 
+    // Busca por trecho do nome via índice de trigramas, em ordem de relevância
     public List<PatioDTO> buscarPorNome(String nome) {
-        return repository.findByNomeContainingIgnoreCase(nome)
+        List<Long> ids = indiceNomes.buscar(nome);
+        return repository.findAllById(ids)
                 .stream()
+                .sorted(IndiceNomesPatios.naOrdem(ids))
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
     }
 
-    // Método público retorna DTOs
+    // Método público retorna DTOs (mesma entrada de cache de listarTodos)
+    @Cacheable(cacheNames = CacheConfig.CACHE_PATIOS, key = "'lista'")
     public List<PatioDTO> listar() {
         return repository.findAll()
+                .stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
+    // Versão dos pátios para respostas condicionais (ETag)
+    public VersaoColecao versao() {
+        return repository.versao();
+    }
+
+    // Listagem paginada por cursor (ID_PATIO)
+    public PaginaDTO<PatioDTO> listarPagina(Long cursor, Integer tamanho) {
+        int tamanhoPagina = PaginaDTO.normalizarTamanho(tamanho);
+
+        List<PatioDTO> patios = repository
+                .findByIdGreaterThanOrderByIdAsc(cursor != null ? cursor : 0L, PageRequest.of(0, tamanhoPagina + 1))
                 .stream()
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
+
+        return PaginaDTO.de(patios, tamanhoPagina, PatioDTO::getId);
+    }
+
+    // Resumo de todos os pátios (contagens de motos por status e densidade) em uma consulta agregada
+    public List<ResumoPatioDTO> listarResumos() {
+        Map<Long, ResumoPatioDTO> resumos = new LinkedHashMap<>();
+
+        for (PatioRepository.ResumoPorStatus linha : repository.resumirPorStatus()) {
+            ResumoPatioDTO resumo = resumos.computeIfAbsent(linha.getIdPatio(), id -> {
+                ResumoPatioDTO dto = new ResumoPatioDTO();
+                dto.setId(id);
+                dto.setNome(linha.getNome());
+                dto.setAreaM2(linha.getAreaM2());
+                return dto;
+            });
+            if (linha.getStatus() != null) {
+                resumo.setTotalMotos(resumo.getTotalMotos() + linha.getTotal());
+                resumo.getMotosPorStatus().put(linha.getStatus(), linha.getTotal());
+            }
+        }
+
+        return new ArrayList<>(resumos.values());
     }
 
+    /**
+     * Pátio desanexado com ID e nome vindos do diretório em cache: basta para
+     * vincular motos e montar o MotoDTO sem consultar ST_PATIO.
+     * Ausente do diretório (criado em outra instância depois do cache), consulta o banco.
+     * Não deve ser usado para alterar o pátio.
+     */
     public Optional<Patio> buscarEntidadePorId(Long id) {
-        return repository.findById(id);
+        if (id == null) {
+            return Optional.empty();
+        }
+        String nome = diretorio.nomesPorId().get(id);
+        if (nome == null) {
+            return repository.findById(id);
+        }
+        Patio patio = new Patio();
+        patio.setId(id);
+        patio.setNome(nome);
+        return Optional.of(patio);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public Patio salvar(Patio patio) {
         return repository.save(patio);
     }
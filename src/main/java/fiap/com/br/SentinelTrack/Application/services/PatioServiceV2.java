@@ -3,9 +3,12 @@ package fiap.com.br.SentinelTrack.Application.services;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 
 import fiap.com.br.SentinelTrack.Api.exception.PatioNotFoundException;
@@ -15,6 +18,7 @@ import fiap.com.br.SentinelTrack.Application.dto.UpdatePatioDTO;
 import fiap.com.br.SentinelTrack.Application.mapper.PatioMapper;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
 import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import fiap.com.br.SentinelTrack.Infrastructure.config.CacheConfig;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -26,16 +30,22 @@ import jakarta.validation.constraints.Positive;
  */
 @Service
 @Transactional
+@Timed(value = "sentineltrack.servico", description = "Tempo de execução dos métodos de serviço")
 @Validated
 @Slf4j
 public class PatioServiceV2 {
 
     private final PatioRepository repository;
     private final PatioMapper mapper;
+    private final IndiceNomesPatios indiceNomes;
+    private final RemocaoPatio remocaoPatio;
 
-    public PatioServiceV2(PatioRepository repository, PatioMapper mapper) {
+    public PatioServiceV2(PatioRepository repository, PatioMapper mapper, IndiceNomesPatios indiceNomes,
+                          RemocaoPatio remocaoPatio) {
         this.repository = repository;
         this.mapper = mapper;
+        this.indiceNomes = indiceNomes;
+        this.remocaoPatio = remocaoPatio;
     }
 
     /**
@@ -43,13 +53,14 @@ public class PatioServiceV2 {
      * @return Lista de PatioDTO
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CACHE_PATIOS, key = "'lista'")
     public List<PatioDTO> listarTodos() {
         log.debug("Listando todos os pátios");
         
         return repository.findAll()
                 .stream()
                 .map(mapper::toDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     /**
@@ -59,6 +70,7 @@ public class PatioServiceV2 {
      * @throws PatioNotFoundException se não encontrado
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CACHE_PATIOS, key = "#id")
     public PatioDTO buscarPorId(@NotNull @Positive Long id) {
         log.debug("Buscando pátio por ID: {}", id);
         
@@ -72,6 +84,7 @@ public class PatioServiceV2 {
      * @param createDTO Dados para criação
      * @return PatioDTO criado
      */
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public PatioDTO criar(@Valid CreatePatioDTO createDTO) {
         log.info("Criando novo pátio: {}", createDTO.getNome());
         
@@ -89,6 +102,7 @@ public class PatioServiceV2 {
      * @return PatioDTO atualizado
      * @throws PatioNotFoundException se não encontrado
      */
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public PatioDTO atualizar(@NotNull @Positive Long id, @Valid UpdatePatioDTO updateDTO) {
         log.info("Atualizando pátio ID: {}", id);
         
@@ -107,6 +121,7 @@ public class PatioServiceV2 {
      * @param id ID do pátio
      * @throws PatioNotFoundException se não encontrado
      */
+    @CacheEvict(cacheNames = {CacheConfig.CACHE_PATIOS, CacheConfig.CACHE_DIRETORIO_PATIOS}, allEntries = true)
     public void deletar(@NotNull @Positive Long id) {
         log.info("Removendo pátio ID: {}", id);
         
@@ -114,14 +129,15 @@ public class PatioServiceV2 {
             throw new PatioNotFoundException(id);
         }
         
+        remocaoPatio.prepararRemocao(id);
         repository.deleteById(id);
         log.info("Pátio removido com sucesso. ID: {}", id);
     }
 
     /**
      * Busca pátios por nome
-     * @param nome Nome para busca (case insensitive)
-     * @return Lista de PatioDTO
+     * @param nome Trecho do nome (sem diferenciar maiúsculas e acentos)
+     * @return Lista de PatioDTO, do mais para o menos relevante
      */
     @Transactional(readOnly = true)
     public List<PatioDTO> buscarPorNome(String nome) {
@@ -131,8 +147,10 @@ public class PatioServiceV2 {
             return listarTodos();
         }
         
-        return repository.findByNomeContainingIgnoreCase(nome.trim())
+        List<Long> ids = indiceNomes.buscar(nome.trim());
+        return repository.findAllById(ids)
                 .stream()
+                .sorted(IndiceNomesPatios.naOrdem(ids))
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
     }
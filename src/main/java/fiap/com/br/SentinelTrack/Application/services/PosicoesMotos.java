@@ -0,0 +1,358 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PosicaoMotoDTO;
+import fiap.com.br.SentinelTrack.Domain.models.LeituraTelemetria;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.TelemetriaRepository;
+
+/**
+ * Última posição de cada moto em memória (posição, bateria, último contato), para
+ * "onde está a moto X" e "motos do pátio Y" sem consultar ST_TELEMETRIA
+ *
+ * Tabela hash de endereçamento aberto (sondagem linear) sobre um único long[]:
+ * cada moto ocupa CAMPOS posições consecutivas, sem um objeto por moto. Atualizada
+ * em lote pela thread de gravação da telemetria (vale a leitura mais recente pelo
+ * instante da medição) e carregada ao subir a aplicação com a última leitura de
+ * cada moto cadastrada dentro de uma janela recente (telemetria.posicoes.janela-carga-horas),
+ * sem agrupar o histórico inteiro; motos sem leitura na janela aparecem na próxima.
+ * Leituras usam leitura otimista do StampedLock: não bloqueiam nem são bloqueadas
+ * pela gravação, e repetem com trava só se a tabela mudou no meio.
+ *
+ * Só entram motos da frota: a ingestão rejeita IDs desconhecidos antes do buffer
+ * (TelemetriaService) e a carga só lê motos de ST_MOTO. Uma leitura aceita antes
+ * da remoção da moto e gravada depois é descartada pelo registro de remoções
+ * recentes, em vez de recolocar a moto na tabela.
+ */
+@Service
+@Slf4j
+public class PosicoesMotos implements MeterBinder {
+
+    // Layout de cada entrada no slab (ID 0 = posição livre; IDs de moto são positivos)
+    private static final int CHAVE = 0;
+    private static final int LATITUDE = 1;
+    private static final int LONGITUDE = 2;
+    private static final int BATERIA = 3;
+    private static final int REGISTRADO_EM = 4;
+    private static final int RECEBIDO_EM = 5;
+    private static final int CAMPOS = 6;
+
+    private static final long SEM_BATERIA = -1;
+    private static final int CAPACIDADE_INICIAL = 1024;
+    // Leituras da carga inicial aplicadas por vez (libera a trava entre os blocos)
+    private static final int BLOCO_CARGA = 10_000;
+    // Tempo em que leituras de uma moto removida ainda podem sair do buffer de telemetria
+    private static final long RETENCAO_REMOVIDAS_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private final TelemetriaRepository telemetriaRepository;
+    private final MotoRepository motoRepository;
+    private final int janelaCargaHoras;
+    private final StampedLock trava = new StampedLock();
+
+    // Alterados somente com a trava de escrita
+    private long[] slab = new long[CAPACIDADE_INICIAL * CAMPOS];
+    private int tamanho;
+    // ID da moto removida -> instante da remoção (ms)
+    private final Map<Long, Long> removidas = new HashMap<>();
+
+    public PosicoesMotos(TelemetriaRepository telemetriaRepository, MotoRepository motoRepository,
+                         @Value("${telemetria.posicoes.janela-carga-horas:24}") int janelaCargaHoras) {
+        this.telemetriaRepository = telemetriaRepository;
+        this.motoRepository = motoRepository;
+        this.janelaCargaHoras = janelaCargaHoras;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        List<LeituraTelemetria> bloco = new ArrayList<>(BLOCO_CARGA);
+        telemetriaRepository.ultimasLeituras(LocalDateTime.now().minusHours(janelaCargaHoras), leitura -> {
+            bloco.add(leitura);
+            if (bloco.size() == BLOCO_CARGA) {
+                atualizar(bloco);
+                bloco.clear();
+            }
+        });
+        atualizar(bloco);
+        log.info("Posições das motos carregadas: {} motos", tamanho());
+    }
+
+    /**
+     * Aplica um lote de leituras já validadas contra a frota; leituras mais antigas
+     * que a posição atual e de motos removidas recentemente são ignoradas
+     */
+    public void atualizar(List<LeituraTelemetria> leituras) {
+        if (leituras.isEmpty()) {
+            return;
+        }
+        long stamp = trava.writeLock();
+        try {
+            expirarRemovidas();
+            for (LeituraTelemetria leitura : leituras) {
+                if (removidas.isEmpty() || !removidas.containsKey(leitura.idMoto())) {
+                    gravar(leitura);
+                }
+            }
+        } finally {
+            trava.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Moto removida: a posição deixa de ser informada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMoto(EventoMotoDTO evento) {
+        if (EventoMotoDTO.REMOVIDA.equals(evento.getTipo()) && evento.getIdMoto() != null) {
+            remover(evento.getIdMoto());
+        }
+    }
+
+    public void remover(long idMoto) {
+        long stamp = trava.writeLock();
+        try {
+            apagarMoto(idMoto, System.currentTimeMillis());
+        } finally {
+            trava.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Motos removidas em cascata com o pátio (RemocaoPatio): uma única trava de escrita
+     */
+    public void removerTodas(Collection<Long> idsMotos) {
+        long stamp = trava.writeLock();
+        try {
+            long agora = System.currentTimeMillis();
+            for (Long idMoto : idsMotos) {
+                apagarMoto(idMoto, agora);
+            }
+        } finally {
+            trava.unlockWrite(stamp);
+        }
+    }
+
+    // Chamado com a trava de escrita
+    private void apagarMoto(long idMoto, long agora) {
+        removidas.put(idMoto, agora);
+        int mascara = slab.length / CAMPOS - 1;
+        int posicao = localizar(slab, idMoto, mascara);
+        if (slab[posicao * CAMPOS + CHAVE] == idMoto) {
+            apagar(posicao, mascara);
+        }
+    }
+
+    public Optional<PosicaoMotoDTO> buscar(long idMoto) {
+        long stamp = trava.tryOptimisticRead();
+        PosicaoMotoDTO posicao = ler(slab, idMoto);
+        if (!trava.validate(stamp)) {
+            stamp = trava.readLock();
+            try {
+                posicao = ler(slab, idMoto);
+            } finally {
+                trava.unlockRead(stamp);
+            }
+        }
+        return Optional.ofNullable(posicao);
+    }
+
+    /**
+     * Posições das motos informadas que já reportaram telemetria, na ordem dos IDs
+     */
+    public List<PosicaoMotoDTO> buscarTodas(Collection<Long> idsMotos) {
+        long stamp = trava.tryOptimisticRead();
+        List<PosicaoMotoDTO> posicoes = lerTodas(slab, idsMotos);
+        if (!trava.validate(stamp)) {
+            stamp = trava.readLock();
+            try {
+                posicoes = lerTodas(slab, idsMotos);
+            } finally {
+                trava.unlockRead(stamp);
+            }
+        }
+        return posicoes;
+    }
+
+    /**
+     * Posições das motos de um pátio: os IDs vêm de ST_MOTO (IDX_MOTO_PATIO), as posições da memória
+     */
+    public List<PosicaoMotoDTO> buscarPorPatio(Long idPatio) {
+        return buscarTodas(motoRepository.listarIdsPorPatio(idPatio));
+    }
+
+    public int tamanho() {
+        long stamp = trava.readLock();
+        try {
+            return tamanho;
+        } finally {
+            trava.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("telemetria.posicoes", this, PosicoesMotos::tamanho)
+                .description("Motos com posição conhecida em memória")
+                .register(registry);
+    }
+
+    private void gravar(LeituraTelemetria leitura) {
+        // Cresce antes de passar de 70% de ocupação (sondagens longas degradam a busca)
+        if ((tamanho + 1) * 10L > (slab.length / CAMPOS) * 7L) {
+            redimensionar();
+        }
+        int mascara = slab.length / CAMPOS - 1;
+        int base = localizar(slab, leitura.idMoto(), mascara) * CAMPOS;
+        long registradoEm = paraMillis(leitura.registradoEm());
+
+        if (slab[base + CHAVE] == 0) {
+            slab[base + CHAVE] = leitura.idMoto();
+            tamanho++;
+        } else if (slab[base + REGISTRADO_EM] > registradoEm) {
+            // Leitura atrasada (reenvio, sensor offline): a posição atual é mais recente
+            return;
+        }
+        slab[base + LATITUDE] = Double.doubleToRawLongBits(leitura.latitude());
+        slab[base + LONGITUDE] = Double.doubleToRawLongBits(leitura.longitude());
+        slab[base + BATERIA] = leitura.bateria() != null ? leitura.bateria() : SEM_BATERIA;
+        slab[base + REGISTRADO_EM] = registradoEm;
+        slab[base + RECEBIDO_EM] = paraMillis(leitura.recebidoEm());
+    }
+
+    private void expirarRemovidas() {
+        if (!removidas.isEmpty()) {
+            long limite = System.currentTimeMillis() - RETENCAO_REMOVIDAS_MS;
+            removidas.values().removeIf(removidaEm -> removidaEm < limite);
+        }
+    }
+
+    private void redimensionar() {
+        long[] anterior = slab;
+        long[] novo = new long[anterior.length * 2];
+        int mascara = novo.length / CAMPOS - 1;
+        for (int base = 0; base < anterior.length; base += CAMPOS) {
+            if (anterior[base + CHAVE] != 0) {
+                int destino = localizar(novo, anterior[base + CHAVE], mascara) * CAMPOS;
+                System.arraycopy(anterior, base, novo, destino, CAMPOS);
+            }
+        }
+        slab = novo;
+    }
+
+    /**
+     * Remoção com deslocamento para trás: entradas seguintes da mesma sequência de
+     * sondagem ocupam o buraco, então a busca continua parando na primeira posição livre
+     */
+    private void apagar(int posicao, int mascara) {
+        int livre = posicao;
+        int atual = posicao;
+        while (true) {
+            atual = (atual + 1) & mascara;
+            long chave = slab[atual * CAMPOS + CHAVE];
+            if (chave == 0) {
+                break;
+            }
+            int ideal = indice(chave, mascara);
+            // Move se a posição ideal não está no intervalo circular (livre, atual]
+            boolean fica = livre <= atual
+                    ? ideal > livre && ideal <= atual
+                    : ideal > livre || ideal <= atual;
+            if (!fica) {
+                System.arraycopy(slab, atual * CAMPOS, slab, livre * CAMPOS, CAMPOS);
+                livre = atual;
+            }
+        }
+        for (int campo = 0; campo < CAMPOS; campo++) {
+            slab[livre * CAMPOS + campo] = 0;
+        }
+        tamanho--;
+    }
+
+    /**
+     * Posição da moto ou a posição livre onde ela entraria
+     */
+    private static int localizar(long[] tabela, long idMoto, int mascara) {
+        int posicao = indice(idMoto, mascara);
+        while (tabela[posicao * CAMPOS + CHAVE] != 0 && tabela[posicao * CAMPOS + CHAVE] != idMoto) {
+            posicao = (posicao + 1) & mascara;
+        }
+        return posicao;
+    }
+
+    // Tolera uma visão inconsistente da tabela (leitura otimista): sondagem limitada, validada depois
+    private static PosicaoMotoDTO ler(long[] tabela, long idMoto) {
+        int posicoes = tabela.length / CAMPOS;
+        int mascara = posicoes - 1;
+        int posicao = indice(idMoto, mascara);
+        for (int sondagens = 0; sondagens < posicoes; sondagens++) {
+            int base = posicao * CAMPOS;
+            long chave = tabela[base + CHAVE];
+            if (chave == 0) {
+                return null;
+            }
+            if (chave == idMoto) {
+                long bateria = tabela[base + BATERIA];
+                return new PosicaoMotoDTO(idMoto,
+                        Double.longBitsToDouble(tabela[base + LATITUDE]),
+                        Double.longBitsToDouble(tabela[base + LONGITUDE]),
+                        bateria == SEM_BATERIA ? null : (int) bateria,
+                        deMillis(tabela[base + REGISTRADO_EM]),
+                        deMillis(tabela[base + RECEBIDO_EM]));
+            }
+            posicao = (posicao + 1) & mascara;
+        }
+        return null;
+    }
+
+    private static List<PosicaoMotoDTO> lerTodas(long[] tabela, Collection<Long> idsMotos) {
+        List<PosicaoMotoDTO> posicoes = new ArrayList<>(idsMotos.size());
+        for (Long idMoto : idsMotos) {
+            PosicaoMotoDTO posicao = idMoto != null ? ler(tabela, idMoto) : null;
+            if (posicao != null) {
+                posicoes.add(posicao);
+            }
+        }
+        return posicoes;
+    }
+
+    // Espalha IDs sequenciais pela tabela (finalização do MurmurHash3)
+    private static int indice(long idMoto, int mascara) {
+        long hash = idMoto;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mascara;
+    }
+
+    // LocalDateTime sem fuso <-> milissegundos, sem depender do fuso do servidor
+    private static long paraMillis(LocalDateTime instante) {
+        return instante.toEpochSecond(ZoneOffset.UTC) * 1000 + instante.getNano() / 1_000_000;
+    }
+
+    private static LocalDateTime deMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000,
+                ZoneOffset.UTC);
+    }
+}
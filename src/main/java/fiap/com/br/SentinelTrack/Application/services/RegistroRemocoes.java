@@ -0,0 +1,46 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import fiap.com.br.SentinelTrack.Domain.models.Remocao;
+
+/**
+ * Grava os tombstones (ST_REMOCAO) das motos e pátios removidos pelos serviços
+ *
+ * Deve ser chamado na transação da remoção e antes dela: um rollback descarta os
+ * tombstones junto, e o pátio registra também as suas motos (removidas em cascata)
+ * com um único INSERT ... SELECT, sem carregar as entidades.
+ */
+@Component
+public class RegistroRemocoes {
+
+    private static final String INSERT_REMOCAO =
+            "INSERT INTO ST_REMOCAO (TIPO, ID_REGISTRO, REMOVIDO_EM) VALUES (?, ?, ?)";
+    private static final String INSERT_REMOCAO_MOTOS_DO_PATIO =
+            "INSERT INTO ST_REMOCAO (TIPO, ID_REGISTRO, REMOVIDO_EM) " +
+            "SELECT ?, ID_MOTO, ? FROM ST_MOTO WHERE ID_PATIO = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RegistroRemocoes(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void registrarMoto(Long idMoto) {
+        jdbcTemplate.update(INSERT_REMOCAO, Remocao.TIPO_MOTO, idMoto, agora());
+    }
+
+    public void registrarPatio(Long idPatio) {
+        Timestamp agora = agora();
+        jdbcTemplate.update(INSERT_REMOCAO_MOTOS_DO_PATIO, Remocao.TIPO_MOTO, agora, idPatio);
+        jdbcTemplate.update(INSERT_REMOCAO, Remocao.TIPO_PATIO, idPatio, agora);
+    }
+
+    private static Timestamp agora() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,50 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+
+/**
+ * Efeitos da remoção de um pátio sobre as motos removidas junto, em cascata
+ *
+ * Chamado pelos serviços de pátio na transação da remoção e antes dela (as motos
+ * ainda estão no banco): grava os tombstones, tira as placas do índice e as
+ * posições em memória após o commit e publica um único evento de recarga para o pátio, entregue via SSE
+ * após o commit, em vez de um evento por moto que esgotaria o buffer dos
+ * assinantes em pátios grandes. O filtro de placas não remove (só custa falsos
+ * positivos até a reconstrução).
+ */
+@Component
+public class RemocaoPatio {
+
+    private final MotoRepository motoRepository;
+    private final RegistroRemocoes remocoes;
+    private final IndicePlacas indicePlacas;
+    private final PosicoesMotos posicoes;
+    private final ApplicationEventPublisher eventos;
+
+    public RemocaoPatio(MotoRepository motoRepository, RegistroRemocoes remocoes, IndicePlacas indicePlacas,
+                        PosicoesMotos posicoes, ApplicationEventPublisher eventos) {
+        this.motoRepository = motoRepository;
+        this.remocoes = remocoes;
+        this.indicePlacas = indicePlacas;
+        this.posicoes = posicoes;
+        this.eventos = eventos;
+    }
+
+    public void prepararRemocao(Long idPatio) {
+        List<MotoRepository.PlacaMoto> motos = motoRepository.listarPlacasPorPatio(idPatio);
+        remocoes.registrarPatio(idPatio);
+        indicePlacas.removerTodas(motos);
+        List<Long> ids = motos.stream().map(MotoRepository.PlacaMoto::getId).toList();
+        Transacoes.aposCommit(() -> posicoes.removerTodas(ids));
+
+        EventoMotoDTO recarga = EventoMotoDTO.de(EventoMotoDTO.IMPORTACAO, null);
+        recarga.setIdPatio(idPatio);
+        eventos.publishEvent(recarga);
+    }
+}
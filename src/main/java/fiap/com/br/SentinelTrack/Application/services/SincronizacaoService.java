@@ -0,0 +1,184 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Application.dto.PaginaDTO;
+import fiap.com.br.SentinelTrack.Application.dto.RemocaoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.SincronizacaoDTO;
+import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
+import fiap.com.br.SentinelTrack.Application.mapper.PatioMapper;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+import fiap.com.br.SentinelTrack.Domain.models.Remocao;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.RemocaoRepository;
+
+/**
+ * Sincronização incremental (delta) do app mobile
+ *
+ * Motos, pátios e remoções são percorridos por cursor (UPDATED_AT/REMOVIDO_EM, ID),
+ * cada um limitado ao tamanho do lote, usando os índices de V6/V7. O watermark
+ * devolvido ao cliente codifica os três cursores. Só entram registros gravados até
+ * "agora - janela de segurança", para que transações ainda não confirmadas (com
+ * UPDATED_AT anterior ao commit) não sejam puladas. A janela cobre a duração máxima
+ * de uma transação de escrita (sincronizacao.transacao-maxima-s), limite imposto
+ * como timeout nas escritas longas (importação em lote, massa de carga). O custo
+ * de cada sincronização acompanha o volume de alterações, não o tamanho da frota.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class SincronizacaoService {
+
+    private static final String VERSAO_WATERMARK = "v1";
+    private static final Cursor INICIO = new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final MotoRepository motoRepository;
+    private final PatioRepository patioRepository;
+    private final RemocaoRepository remocaoRepository;
+    private final MotoMapper motoMapper;
+    private final PatioMapper patioMapper;
+    private final Duration janelaSeguranca;
+    private final Duration retencaoRemocoes;
+
+    public SincronizacaoService(MotoRepository motoRepository, PatioRepository patioRepository,
+                                RemocaoRepository remocaoRepository, MotoMapper motoMapper, PatioMapper patioMapper,
+                                @Value("${sincronizacao.janela-seguranca-ms:35000}") long janelaSegurancaMs,
+                                @Value("${sincronizacao.transacao-maxima-s:30}") long transacaoMaximaS,
+                                @Value("${sincronizacao.retencao-dias:30}") long retencaoDias) {
+        if (Duration.ofMillis(janelaSegurancaMs).compareTo(Duration.ofSeconds(transacaoMaximaS)) < 0) {
+            // Uma transação mais longa que a janela grava abaixo de um watermark já entregue
+            throw new IllegalStateException("sincronizacao.janela-seguranca-ms (" + janelaSegurancaMs
+                    + ") deve ser maior ou igual a sincronizacao.transacao-maxima-s (" + transacaoMaximaS + " s)");
+        }
+        this.motoRepository = motoRepository;
+        this.patioRepository = patioRepository;
+        this.remocaoRepository = remocaoRepository;
+        this.motoMapper = motoMapper;
+        this.patioMapper = patioMapper;
+        this.janelaSeguranca = Duration.ofMillis(janelaSegurancaMs);
+        this.retencaoRemocoes = Duration.ofDays(retencaoDias);
+    }
+
+    /**
+     * Próximo lote de alterações a partir do watermark (null/vazio = sincronização completa)
+     * @throws IllegalArgumentException se o watermark for inválido
+     */
+    public SincronizacaoDTO sincronizar(String watermark, Integer tamanho) {
+        int tamanhoLote = PaginaDTO.normalizarTamanho(tamanho);
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime limite = agora.minus(janelaSeguranca);
+
+        SincronizacaoDTO resultado = new SincronizacaoDTO();
+        Marca marca;
+        if (watermark == null || watermark.isBlank()) {
+            marca = Marca.completa(limite);
+            resultado.setCompleta(true);
+        } else {
+            marca = Marca.decodificar(watermark);
+            if (marca.remocoes().instante().isBefore(agora.minus(retencaoRemocoes))) {
+                // Remoções anteriores à retenção já foram descartadas: recomeça do zero
+                log.info("Watermark anterior à retenção de remoções, sincronização completa");
+                marca = Marca.completa(limite);
+                resultado.setCompleta(true);
+            }
+        }
+
+        List<Moto> motos = motoRepository.buscarAlteradas(marca.motos().instante(), marca.motos().id(),
+                limite, PageRequest.of(0, tamanhoLote + 1));
+        Cursor cursorMotos = avancar(motos, tamanhoLote, marca.motos(), limite, Moto::getAtualizadoEm, Moto::getId);
+        motos.stream().limit(tamanhoLote).map(motoMapper::toDTO).forEach(resultado.getMotos()::add);
+
+        List<Patio> patios = patioRepository.buscarAlterados(marca.patios().instante(), marca.patios().id(),
+                limite, PageRequest.of(0, tamanhoLote + 1));
+        Cursor cursorPatios = avancar(patios, tamanhoLote, marca.patios(), limite, Patio::getAtualizadoEm, Patio::getId);
+        patios.stream().limit(tamanhoLote).map(patioMapper::toDTO).forEach(resultado.getPatios()::add);
+
+        List<Remocao> remocoes = remocaoRepository.buscarPosteriores(marca.remocoes().instante(), marca.remocoes().id(),
+                limite, PageRequest.of(0, tamanhoLote + 1));
+        Cursor cursorRemocoes = avancar(remocoes, tamanhoLote, marca.remocoes(), limite, Remocao::getRemovidoEm, Remocao::getId);
+        remocoes.stream().limit(tamanhoLote)
+                .map(r -> new RemocaoDTO(r.getTipo(), r.getIdRegistro(), r.getRemovidoEm()))
+                .forEach(resultado.getRemovidos()::add);
+
+        resultado.setTemMais(motos.size() > tamanhoLote || patios.size() > tamanhoLote || remocoes.size() > tamanhoLote);
+        resultado.setWatermark(new Marca(cursorMotos, cursorPatios, cursorRemocoes).codificar());
+        return resultado;
+    }
+
+    /**
+     * Descarta tombstones mais antigos que a retenção; clientes com watermark
+     * anterior recebem uma sincronização completa
+     */
+    @Scheduled(cron = "${sincronizacao.limpeza-cron:0 30 3 * * *}")
+    @Transactional
+    public void limparRemocoesAntigas() {
+        int removidas = remocaoRepository.excluirAnteriores(LocalDateTime.now().minus(retencaoRemocoes));
+        log.info("Limpeza de remoções: {} registros antigos excluídos", removidas);
+    }
+
+    /**
+     * Cursor após o lote: o último registro entregue quando há mais, senão o limite
+     * (tudo até o limite já foi entregue)
+     */
+    private static <T> Cursor avancar(List<T> registros, int tamanhoLote, Cursor atual, LocalDateTime limite,
+                                      Function<T, LocalDateTime> instante, Function<T, Long> id) {
+        if (registros.size() > tamanhoLote) {
+            T ultimo = registros.get(tamanhoLote - 1);
+            return new Cursor(instante.apply(ultimo), id.apply(ultimo));
+        }
+        return limite.isAfter(atual.instante()) ? new Cursor(limite, Long.MAX_VALUE) : atual;
+    }
+
+    record Cursor(LocalDateTime instante, long id) {
+    }
+
+    /**
+     * Watermark opaco para o cliente: os três cursores em Base64 (URL-safe)
+     */
+    record Marca(Cursor motos, Cursor patios, Cursor remocoes) {
+
+        // Sincronização completa: todas as motos e pátios; remoções anteriores não interessam
+        static Marca completa(LocalDateTime limite) {
+            return new Marca(INICIO, INICIO, new Cursor(limite, Long.MAX_VALUE));
+        }
+
+        String codificar() {
+            String texto = String.join("|", VERSAO_WATERMARK,
+                    motos.instante().toString(), Long.toString(motos.id()),
+                    patios.instante().toString(), Long.toString(patios.id()),
+                    remocoes.instante().toString(), Long.toString(remocoes.id()));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Marca decodificar(String watermark) {
+            try {
+                String[] partes = new String(Base64.getUrlDecoder().decode(watermark.trim()), StandardCharsets.UTF_8)
+                        .split("\\|");
+                if (partes.length != 7 || !VERSAO_WATERMARK.equals(partes[0])) {
+                    throw new IllegalArgumentException("Watermark inválido");
+                }
+                return new Marca(
+                        new Cursor(LocalDateTime.parse(partes[1]), Long.parseLong(partes[2])),
+                        new Cursor(LocalDateTime.parse(partes[3]), Long.parseLong(partes[4])),
+                        new Cursor(LocalDateTime.parse(partes[5]), Long.parseLong(partes[6])));
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Watermark inválido", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Application.dto.LeituraTelemetriaDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResultadoTelemetriaDTO;
+import fiap.com.br.SentinelTrack.Domain.models.LeituraTelemetria;
+import fiap.com.br.SentinelTrack.Domain.repositories.TelemetriaRepository;
+
+/**
+ * Ingestão de telemetria dos sensores IoT das motos
+ *
+ * A requisição (autenticada pela chave do dispositivo, ver SecurityConfig) só
+ * valida as leituras e as coloca no BufferTelemetria. Placa e ID são resolvidos
+ * pelo IndicePlacas; IDs só pelo índice em memória, sem consulta ao banco. Leituras
+ * de motos fora da frota são rejeitadas antes de entrar no buffer. Uma thread dedicada drena o
+ * buffer, atualiza as PosicoesMotos e grava em ST_TELEMETRIA em batches JDBC. Com
+ * o buffer cheio o lote é recusado por inteiro (o cliente reenvia depois) em vez de
+ * segurar a requisição ou crescer a memória. No desligamento as leituras pendentes
+ * são gravadas.
+ */
+@Service
+@Slf4j
+public class TelemetriaService implements MeterBinder {
+
+    // Rejeições detalhadas por resposta
+    private static final int MAXIMO_ERROS_DETALHADOS = 20;
+    // Tolerância para relógios de sensores adiantados
+    private static final Duration TOLERANCIA_FUTURO = Duration.ofMinutes(5);
+    // Espera da thread de gravação com o buffer vazio (os produtores a acordam antes)
+    private static final long ESPERA_VAZIO_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final TelemetriaRepository repository;
+    private final IndicePlacas indicePlacas;
+    private final PosicoesMotos posicoes;
+    private final BufferTelemetria<LeituraTelemetria> buffer;
+    private final int tamanhoLoteGravacao;
+    private final int maximoLeiturasPorEnvio;
+
+    private volatile Thread gravador;
+    private volatile boolean ativo;
+
+    private final LongAdder aceitas = new LongAdder();
+    private final LongAdder rejeitadas = new LongAdder();
+    private final LongAdder recusadas = new LongAdder();
+    private final LongAdder gravadas = new LongAdder();
+    private final LongAdder perdidas = new LongAdder();
+    private final LongAdder lotesGravados = new LongAdder();
+    private final LongAdder tempoGravacaoNanos = new LongAdder();
+
+    public TelemetriaService(TelemetriaRepository repository, IndicePlacas indicePlacas, PosicoesMotos posicoes,
+                             @Value("${telemetria.buffer.capacidade:65536}") int capacidadeBuffer,
+                             @Value("${telemetria.gravacao.lote:1000}") int tamanhoLoteGravacao,
+                             @Value("${telemetria.max-leituras-por-envio:5000}") int maximoLeiturasPorEnvio) {
+        this.repository = repository;
+        this.indicePlacas = indicePlacas;
+        this.posicoes = posicoes;
+        this.buffer = new BufferTelemetria<>(capacidadeBuffer);
+        this.tamanhoLoteGravacao = tamanhoLoteGravacao;
+        // Um envio nunca pode exceder o buffer inteiro (seria recusado para sempre)
+        this.maximoLeiturasPorEnvio = Math.min(maximoLeiturasPorEnvio, buffer.capacidade());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        ativo = true;
+        Thread thread = new Thread(this::executarGravacao, "telemetria-gravador");
+        // Não impede a JVM de sair; no desligamento normal o @PreDestroy esvazia o buffer
+        thread.setDaemon(true);
+        gravador = thread;
+        thread.start();
+        log.info("Gravação de telemetria iniciada (buffer de {} leituras, lotes de {})",
+                buffer.capacidade(), tamanhoLoteGravacao);
+    }
+
+    /**
+     * Valida o lote e enfileira as leituras válidas para gravação
+     * @throws IllegalArgumentException se o lote estiver vazio ou exceder o máximo por envio
+     * @throws IllegalStateException se o buffer não comporta as leituras (nada é enfileirado)
+     */
+    public ResultadoTelemetriaDTO receber(List<LeituraTelemetriaDTO> leituras) {
+        if (leituras == null || leituras.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma leitura enviada");
+        }
+        if (leituras.size() > maximoLeiturasPorEnvio) {
+            throw new IllegalArgumentException("Máximo de " + maximoLeiturasPorEnvio + " leituras por envio");
+        }
+
+        ResultadoTelemetriaDTO resultado = new ResultadoTelemetriaDTO();
+        resultado.setRecebidas(leituras.size());
+        LocalDateTime agora = LocalDateTime.now();
+        List<LeituraTelemetria> validas = new ArrayList<>(leituras.size());
+        // Um sensor envia várias leituras da mesma moto: cada ID é verificado uma vez por envio
+
+        for (int i = 0; i < leituras.size(); i++) {
+            LeituraTelemetriaDTO leitura = leituras.get(i);
+            String erro = validar(leitura, agora);
+            Optional<Long> idMoto = erro == null ? resolverMoto(leitura) : Optional.empty();
+            if (erro == null && idMoto.isEmpty()) {
+                erro = "moto não encontrada";
+            }
+            if (erro != null) {
+                resultado.setRejeitadas(resultado.getRejeitadas() + 1);
+                if (resultado.getErros().size() < MAXIMO_ERROS_DETALHADOS) {
+                    resultado.getErros().add("Leitura " + (i + 1) + ": " + erro);
+                }
+                continue;
+            }
+            validas.add(new LeituraTelemetria(idMoto.get(), leitura.getLatitude(), leitura.getLongitude(),
+                    leitura.getBateria(), leitura.getInstante() != null ? leitura.getInstante() : agora, agora));
+        }
+
+        if (!buffer.oferecer(validas)) {
+            recusadas.add(validas.size());
+            throw new IllegalStateException("Buffer de telemetria cheio, reenvie o lote");
+        }
+        Thread thread = gravador;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+
+        aceitas.add(validas.size());
+        rejeitadas.add(resultado.getRejeitadas());
+        resultado.setAceitas(validas.size());
+        return resultado;
+    }
+
+    /**
+     * Grava um lote do buffer, se houver (usado pela thread de gravação)
+     * @return quantidade de leituras retiradas do buffer
+     */
+    int gravarPendentes() {
+        List<LeituraTelemetria> lote = new ArrayList<>(Math.min(tamanhoLoteGravacao, 1024));
+        if (buffer.drenar(lote, tamanhoLoteGravacao) == 0) {
+            return 0;
+        }
+
+        // Posição atual vale mesmo se a gravação do histórico falhar
+        posicoes.atualizar(lote);
+
+        long inicio = System.nanoTime();
+        try {
+            repository.inserirEmLote(lote);
+            gravadas.add(lote.size());
+        } catch (RuntimeException e) {
+            // Sem nova tentativa: um lote que falha de novo travaria a ingestão inteira
+            perdidas.add(lote.size());
+            log.error("Falha ao gravar {} leituras de telemetria: {}", lote.size(), e.getMessage());
+        } finally {
+            lotesGravados.increment();
+            tempoGravacaoNanos.add(System.nanoTime() - inicio);
+        }
+        return lote.size();
+    }
+
+    public int ocupacaoBuffer() {
+        return buffer.ocupacao();
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        ativo = false;
+        Thread thread = gravador;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        contador(registry, aceitas, "aceita");
+        contador(registry, rejeitadas, "rejeitada");
+        contador(registry, recusadas, "recusada");
+        contador(registry, gravadas, "gravada");
+        contador(registry, perdidas, "perdida");
+        Gauge.builder("telemetria.buffer.ocupacao", this, TelemetriaService::ocupacaoBuffer)
+                .description("Leituras de telemetria aguardando gravação")
+                .register(registry);
+        FunctionTimer.builder("telemetria.gravacao", this,
+                        servico -> servico.lotesGravados.sum(),
+                        servico -> servico.tempoGravacaoNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Gravação de um lote de telemetria (batch JDBC)")
+                .register(registry);
+    }
+
+    private static void contador(MeterRegistry registry, LongAdder valor, String resultado) {
+        FunctionCounter.builder("telemetria.leituras", valor, LongAdder::sum)
+                .tag("resultado", resultado)
+                .description("Leituras de telemetria por resultado da ingestão")
+                .register(registry);
+    }
+
+    private void executarGravacao() {
+        // Ao encerrar, continua até esvaziar o buffer
+        while (ativo || buffer.ocupacao() > 0) {
+            try {
+                if (gravarPendentes() == 0) {
+                    if (!ativo) {
+                        // Reservas ainda não publicadas por produtores interrompidos
+                        break;
+                    }
+                    LockSupport.parkNanos(ESPERA_VAZIO_NANOS);
+                }
+            } catch (RuntimeException e) {
+                log.error("Erro inesperado na gravação de telemetria", e);
+            }
+        }
+        log.info("Gravação de telemetria encerrada");
+    }
+
+    private static String validar(LeituraTelemetriaDTO leitura, LocalDateTime agora) {
+        if (leitura == null) {
+            return "leitura vazia";
+        }
+        if (leitura.getIdMoto() == null && (leitura.getPlaca() == null || leitura.getPlaca().isBlank())) {
+            return "idMoto ou placa é obrigatório";
+        }
+        if (leitura.getLatitude() == null || leitura.getLatitude() < -90 || leitura.getLatitude() > 90) {
+            return "latitude deve estar entre -90 e 90";
+        }
+        if (leitura.getLongitude() == null || leitura.getLongitude() < -180 || leitura.getLongitude() > 180) {
+            return "longitude deve estar entre -180 e 180";
+        }
+        if (leitura.getBateria() != null && (leitura.getBateria() < 0 || leitura.getBateria() > 100)) {
+            return "bateria deve estar entre 0 e 100";
+        }
+        if (leitura.getInstante() != null && leitura.getInstante().isAfter(agora.plus(TOLERANCIA_FUTURO))) {
+            return "instante no futuro";
+        }
+        return null;
+    }
+
+    private Optional<Long> resolverMoto(LeituraTelemetriaDTO leitura) {
+        Long idMoto = leitura.getIdMoto();
+        if (idMoto != null) {
+            return indicePlacas.motoCadastrada(idMoto) ? Optional.of(idMoto) : Optional.empty();
+        }
+        return indicePlacas.buscarEquivalente(leitura.getPlaca());
+    }
+}
@@ -0,0 +1,426 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+
+/**
+ * Difusão via Server-Sent Events dos eventos de moto publicados pelo MotoService
+ *
+ * Eventos chegam somente após o commit e vão para os assinantes do pátio (ou de
+ * todos os pátios). Cada assinante tem um buffer limitado: eventos pendentes da
+ * mesma moto são combinados (vale o estado mais recente) e, com o buffer cheio,
+ * o mais antigo é descartado e o cliente recebe um evento "resync" para recarregar
+ * a lista. O envio roda em um pool próprio e limitado (sse.motos.threads), um dreno
+ * por assinante por vez, sem bloquear quem publicou nem ocupar o applicationTaskExecutor;
+ * a fila do pool nunca passa do limite de conexões.
+ *
+ * Assinantes que ficam para trás são desconectados: o envio que passa de
+ * sse.motos.timeout-envio-ms (socket lento) tem a thread interrompida, e quem perde
+ * mais que um buffer inteiro sem receber o resync é encerrado. O cliente reconecta
+ * e recarrega a lista.
+ */
+@Service
+@Slf4j
+public class TransmissorEventosMoto implements MeterBinder {
+
+    // Chave de agrupamento dos eventos sem moto (ex.: importação em lote)
+    private static final long CHAVE_GERAL = Long.MIN_VALUE;
+    // Eventos enviados por rodada de dreno antes de devolver a thread ao executor
+    private static final int ENVIOS_POR_RODADA = 64;
+
+    private final TaskExecutor executor;
+    private final int capacidadeBuffer;
+    private final int maximoConexoes;
+    private final long timeoutMs;
+    private final long timeoutEnvioNanos;
+
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    // Vagas reservadas antes de criar o assinante: o limite vale sob assinaturas simultâneas
+    private final AtomicInteger conexoes = new AtomicInteger();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final LongAdder enviados = new LongAdder();
+    private final LongAdder coalescidos = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder desconectadosPorAtraso = new LongAdder();
+
+    @Autowired
+    public TransmissorEventosMoto(@Value("${sse.motos.buffer:256}") int capacidadeBuffer,
+                                  @Value("${sse.motos.max-conexoes:1000}") int maximoConexoes,
+                                  @Value("${sse.motos.timeout-ms:1800000}") long timeoutMs,
+                                  @Value("${sse.motos.threads:4}") int threads,
+                                  @Value("${sse.motos.timeout-envio-ms:5000}") long timeoutEnvioMs) {
+        this(criarExecutor(threads, maximoConexoes), capacidadeBuffer, maximoConexoes, timeoutMs, timeoutEnvioMs);
+    }
+
+    TransmissorEventosMoto(TaskExecutor executor, int capacidadeBuffer, int maximoConexoes,
+                           long timeoutMs, long timeoutEnvioMs) {
+        this.executor = executor;
+        this.capacidadeBuffer = capacidadeBuffer;
+        this.maximoConexoes = maximoConexoes;
+        this.timeoutMs = timeoutMs;
+        this.timeoutEnvioNanos = TimeUnit.MILLISECONDS.toNanos(timeoutEnvioMs);
+    }
+
+    /**
+     * Nova assinatura; idPatio nulo recebe eventos de todos os pátios
+     * @throws IllegalStateException se o limite de conexões foi atingido
+     */
+    public SseEmitter assinar(Long idPatio) {
+        if (conexoes.incrementAndGet() > maximoConexoes) {
+            conexoes.decrementAndGet();
+            throw new IllegalStateException("Limite de conexões de eventos atingido");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante assinante = new Assinante(emitter, idPatio);
+        emitter.onCompletion(() -> liberar(assinante));
+        emitter.onTimeout(() -> liberar(assinante));
+        emitter.onError(erro -> liberar(assinante));
+        assinantes.add(assinante);
+
+        try {
+            emitter.send(SseEmitter.event().name("conectado").data(idPatio != null ? idPatio : "todos"));
+        } catch (IOException e) {
+            encerrar(assinante, e);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publicar(EventoMotoDTO evento) {
+        for (Assinante assinante : assinantes) {
+            if (assinante.interessado(evento)) {
+                if (assinante.enfileirar(evento)) {
+                    desconectarAtrasado(assinante, "buffer de eventos esgotado");
+                } else {
+                    agendarDreno(assinante);
+                }
+            }
+        }
+    }
+
+    /**
+     * Comentário periódico para manter a conexão aberta em proxies e detectar clientes desconectados
+     */
+    @Scheduled(fixedRateString = "${sse.motos.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Assinante assinante : assinantes) {
+            assinante.heartbeatPendente.set(true);
+            agendarDreno(assinante);
+        }
+    }
+
+    /**
+     * Desconecta assinantes com um envio parado além do tempo limite (cliente que não lê o socket)
+     */
+    @Scheduled(fixedDelayString = "${sse.motos.verificacao-envio-ms:1000}")
+    public void verificarEnvios() {
+        long agora = System.nanoTime();
+        for (Assinante assinante : assinantes) {
+            if (assinante.interromperEnvioAtrasado(agora, timeoutEnvioNanos)) {
+                desconectarAtrasado(assinante, "envio excedeu o tempo limite");
+            }
+        }
+    }
+
+    public int conexoes() {
+        return conexoes.get();
+    }
+
+    @PreDestroy
+    public void encerrarEnvios() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.motos.conexoes", this, TransmissorEventosMoto::conexoes)
+                .description("Conexões SSE abertas no stream de eventos de motos")
+                .register(registry);
+        FunctionCounter.builder("sse.motos.eventos", enviados, LongAdder::sum)
+                .tag("resultado", "enviado")
+                .description("Eventos de motos por resultado da entrega")
+                .register(registry);
+        FunctionCounter.builder("sse.motos.eventos", coalescidos, LongAdder::sum)
+                .tag("resultado", "coalescido")
+                .description("Eventos de motos por resultado da entrega")
+                .register(registry);
+        FunctionCounter.builder("sse.motos.eventos", descartados, LongAdder::sum)
+                .tag("resultado", "descartado")
+                .description("Eventos de motos por resultado da entrega")
+                .register(registry);
+        FunctionCounter.builder("sse.motos.desconexoes", desconectadosPorAtraso, LongAdder::sum)
+                .tag("motivo", "atraso")
+                .description("Assinantes SSE desconectados pelo servidor")
+                .register(registry);
+    }
+
+    // Uma tarefa pendente por assinante (flag drenando): a fila comporta todas as conexões
+    private static TaskExecutor criarExecutor(int threads, int maximoConexoes) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(threads);
+        pool.setMaxPoolSize(threads);
+        pool.setQueueCapacity(maximoConexoes);
+        pool.setThreadNamePrefix("sse-motos-");
+        pool.setDaemon(true);
+        pool.initialize();
+        return pool;
+    }
+
+    private void agendarDreno(Assinante assinante) {
+        if (assinante.ativo.get() && assinante.drenando.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drenar(assinante));
+            } catch (TaskRejectedException e) {
+                assinante.drenando.set(false);
+                encerrar(assinante, e);
+            }
+        }
+    }
+
+    private void drenar(Assinante assinante) {
+        try {
+            for (int i = 0; i < ENVIOS_POR_RODADA && assinante.ativo.get(); i++) {
+                if (!enviarProximo(assinante)) {
+                    break;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            encerrar(assinante, e);
+            return;
+        } finally {
+            assinante.drenando.set(false);
+        }
+        // Itens enfileirados após a última verificação (ou rodada esgotada) ganham outro dreno
+        if (assinante.temPendencias()) {
+            agendarDreno(assinante);
+        }
+    }
+
+    /**
+     * Envia o próximo item pendente (resync, evento ou heartbeat)
+     * @return false se não havia nada para enviar
+     */
+    private boolean enviarProximo(Assinante assinante) throws IOException {
+        int perdidos = assinante.perdidos.getAndSet(0);
+        if (perdidos > 0) {
+            assinante.enviar(SseEmitter.event().name("resync").data(Map.of("descartados", perdidos)));
+            return true;
+        }
+
+        EventoMotoDTO evento = assinante.proximo();
+        if (evento != null) {
+            assinante.enviar(SseEmitter.event()
+                    .id(Long.toString(sequencia.incrementAndGet()))
+                    .name(evento.getTipo().toLowerCase())
+                    .data(evento, MediaType.APPLICATION_JSON));
+            enviados.increment();
+            return true;
+        }
+
+        if (assinante.heartbeatPendente.getAndSet(false)) {
+            assinante.enviar(SseEmitter.event().comment("ping"));
+            return true;
+        }
+        return false;
+    }
+
+    private void desconectarAtrasado(Assinante assinante, String motivo) {
+        if (assinante.ativo.get()) {
+            desconectadosPorAtraso.increment();
+            encerrar(assinante, new IOException("Assinante SSE atrasado: " + motivo));
+        }
+    }
+
+    private void encerrar(Assinante assinante, Exception causa) {
+        if (liberar(assinante)) {
+            log.debug("Assinante SSE desconectado: {}", causa.getMessage());
+            assinante.emitter.completeWithError(causa);
+        }
+    }
+
+    /**
+     * Retira o assinante e devolve sua vaga, uma única vez por assinante
+     * @return false se já tinha sido retirado
+     */
+    private boolean liberar(Assinante assinante) {
+        if (!assinante.ativo.compareAndSet(true, false)) {
+            return false;
+        }
+        assinantes.remove(assinante);
+        conexoes.decrementAndGet();
+        return true;
+    }
+
+    private final class Assinante {
+        private final SseEmitter emitter;
+        private final Long idPatio;
+        private final ReentrantLock trava = new ReentrantLock();
+        // ID da moto -> evento pendente (ordem de chegada)
+        private final LinkedHashMap<Long, EventoMotoDTO> pendentes = new LinkedHashMap<>();
+        private final AtomicBoolean ativo = new AtomicBoolean(true);
+        private final AtomicBoolean drenando = new AtomicBoolean();
+        private final AtomicBoolean heartbeatPendente = new AtomicBoolean();
+        private final AtomicInteger perdidos = new AtomicInteger();
+        // Thread e início (nanoTime) do envio em andamento; protegidos pela trava
+        private Thread remetente;
+        private long envioDesde;
+
+        private Assinante(SseEmitter emitter, Long idPatio) {
+            this.emitter = emitter;
+            this.idPatio = idPatio;
+        }
+
+        private boolean interessado(EventoMotoDTO evento) {
+            return idPatio == null
+                    || evento.getIdPatio() == null
+                    || idPatio.equals(evento.getIdPatio())
+                    || idPatio.equals(evento.getIdPatioAnterior());
+        }
+
+        /**
+         * @return true se o assinante perdeu mais que um buffer inteiro sem receber o resync
+         */
+        private boolean enfileirar(EventoMotoDTO evento) {
+            long chave = evento.getIdMoto() != null ? evento.getIdMoto() : CHAVE_GERAL;
+            trava.lock();
+            try {
+                EventoMotoDTO anterior = pendentes.remove(chave);
+                boolean atrasado = false;
+                if (anterior != null) {
+                    coalescidos.increment();
+                    evento = combinar(anterior, evento);
+                } else if (pendentes.size() >= capacidadeBuffer) {
+                    Iterator<EventoMotoDTO> maisAntigo = pendentes.values().iterator();
+                    maisAntigo.next();
+                    maisAntigo.remove();
+                    descartados.increment();
+                    atrasado = perdidos.incrementAndGet() > capacidadeBuffer;
+                }
+                pendentes.put(chave, evento);
+                return atrasado;
+            } finally {
+                trava.unlock();
+            }
+        }
+
+        private void enviar(SseEmitter.SseEventBuilder evento) throws IOException {
+            trava.lock();
+            try {
+                remetente = Thread.currentThread();
+                envioDesde = System.nanoTime();
+            } finally {
+                trava.unlock();
+            }
+            try {
+                emitter.send(evento);
+            } finally {
+                trava.lock();
+                try {
+                    remetente = null;
+                } finally {
+                    trava.unlock();
+                }
+            }
+        }
+
+        /**
+         * Interrompe a thread de um envio em andamento há mais que o limite; sob a trava,
+         * a interrupção nunca atinge a thread depois que ela saiu deste envio
+         */
+        private boolean interromperEnvioAtrasado(long agora, long limiteNanos) {
+            trava.lock();
+            try {
+                if (remetente == null || agora - envioDesde <= limiteNanos) {
+                    return false;
+                }
+                remetente.interrupt();
+                return true;
+            } finally {
+                trava.unlock();
+            }
+        }
+
+        private EventoMotoDTO proximo() {
+            trava.lock();
+            try {
+                Iterator<EventoMotoDTO> iterador = pendentes.values().iterator();
+                if (!iterador.hasNext()) {
+                    return null;
+                }
+                EventoMotoDTO evento = iterador.next();
+                iterador.remove();
+                return evento;
+            } finally {
+                trava.unlock();
+            }
+        }
+
+        private boolean temPendencias() {
+            trava.lock();
+            try {
+                return !pendentes.isEmpty() || perdidos.get() > 0 || heartbeatPendente.get();
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Combina dois eventos pendentes da mesma moto: prevalece o estado mais recente,
+     * preservando o estado anterior ao primeiro (criação seguida de alteração continua criação).
+     * Devolve um novo evento: o publicado é compartilhado entre os assinantes.
+     */
+    static EventoMotoDTO combinar(EventoMotoDTO anterior, EventoMotoDTO atual) {
+        if (EventoMotoDTO.REMOVIDA.equals(atual.getTipo()) || EventoMotoDTO.IMPORTACAO.equals(atual.getTipo())) {
+            return atual;
+        }
+
+        EventoMotoDTO combinado = EventoMotoDTO.de(atual.getTipo(), atual.getMoto());
+        combinado.setIdMoto(atual.getIdMoto());
+        combinado.setInstante(atual.getInstante());
+        if (EventoMotoDTO.CRIADA.equals(anterior.getTipo())) {
+            combinado.setTipo(EventoMotoDTO.CRIADA);
+            return combinado;
+        }
+
+        combinado.setIdPatioAnterior(anterior.getIdPatioAnterior() != null ? anterior.getIdPatioAnterior() : atual.getIdPatioAnterior());
+        combinado.setStatusAnterior(anterior.getStatusAnterior() != null ? anterior.getStatusAnterior() : atual.getStatusAnterior());
+        boolean statusMudou = combinado.getStatusAnterior() != null
+                && !Objects.equals(combinado.getStatusAnterior(), combinado.getStatus());
+        combinado.setTipo(statusMudou ? EventoMotoDTO.STATUS_ALTERADO : EventoMotoDTO.ATUALIZADA);
+        return combinado;
+    }
+}
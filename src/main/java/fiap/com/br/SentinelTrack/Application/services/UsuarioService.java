@@ -0,0 +1,70 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import fiap.com.br.SentinelTrack.Domain.models.Role;
+import fiap.com.br.SentinelTrack.Domain.models.Usuario;
+import fiap.com.br.SentinelTrack.Domain.repositories.RoleRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.UsuarioRepository;
+import fiap.com.br.SentinelTrack.Infrastructure.security.UserDetailsCache;
+
+/**
+ * Escritas de usuários e perfis
+ *
+ * Toda alteração limpa o UserDetailsCache somente após o commit: em rollback o
+ * cache continua válido, e um leitor concorrente não recoloca no cache o estado
+ * anterior ao commit. O cache inteiro é limpo porque uma troca de username deixaria
+ * a entrada antiga válida, e o nome de um perfil (ou a lista de perfis de um
+ * usuário) vira authority no UserDetails.
+ */
+@Service
+@Transactional
+@Slf4j
+public class UsuarioService {
+
+    private final UsuarioRepository usuarioRepository;
+    private final RoleRepository roleRepository;
+    private final UserDetailsCache userDetailsCache;
+
+    public UsuarioService(UsuarioRepository usuarioRepository, RoleRepository roleRepository,
+                          UserDetailsCache userDetailsCache) {
+        this.usuarioRepository = usuarioRepository;
+        this.roleRepository = roleRepository;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    /**
+     * Cria ou atualiza o usuário, inclusive senha, status e perfis
+     */
+    public Usuario salvar(Usuario usuario) {
+        Usuario salvo = usuarioRepository.save(usuario);
+        invalidarCache();
+        return salvo;
+    }
+
+    public void remover(Long idUsuario) {
+        usuarioRepository.deleteById(idUsuario);
+        invalidarCache();
+    }
+
+    public Role salvarPerfil(Role perfil) {
+        Role salvo = roleRepository.save(perfil);
+        invalidarCache();
+        return salvo;
+    }
+
+    public void removerPerfil(Long idPerfil) {
+        roleRepository.deleteById(idPerfil);
+        invalidarCache();
+    }
+
+    /**
+     * Escritas em lote feitas por fora do serviço (JDBC, ex.: GeradorDadosCarga):
+     * limpa o cache após o commit da transação corrente
+     */
+    public void invalidarCache() {
+        Transacoes.aposCommit(userDetailsCache::invalidarTodos);
+    }
+}
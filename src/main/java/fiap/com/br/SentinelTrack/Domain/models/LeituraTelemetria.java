@@ -0,0 +1,13 @@
+package fiap.com.br.SentinelTrack.Domain.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Leitura de telemetria de uma moto já validada, como gravada em ST_TELEMETRIA
+ * Imutável: circula entre a requisição e a thread de gravação sem cópia
+ *
+ * @param bateria percentual de carga (0-100) ou null quando o sensor não informa
+ */
+public record LeituraTelemetria(long idMoto, double latitude, double longitude, Integer bateria,
+                                LocalDateTime registradoEm, LocalDateTime recebidoEm) {
+}
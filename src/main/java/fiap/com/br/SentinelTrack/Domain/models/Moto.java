@@ -1,6 +1,8 @@
 package fiap.com.br.SentinelTrack.Domain.models;
 
+import java.time.LocalDateTime;
 import java.util.Date;
+import org.hibernate.annotations.UpdateTimestamp;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -26,8 +28,9 @@ public class Moto {
         )
         private String placa;
 
-        @Column(name = "STATUS", nullable = false)
-        private String status;
+        @Column(name = "STATUS", nullable = false, length = 1)
+        @Convert(converter = MotoStatusConverter.class)
+        private MotoStatus status;
 
         @ManyToOne(fetch = FetchType.LAZY)
         @JoinColumn(name = "ID_PATIO", nullable = false)
@@ -37,4 +40,9 @@ public class Moto {
         @Column(name = "DATA_ENTRADA", nullable = false)
         @Temporal(TemporalType.DATE)
         private Date dataEntrada;
+
+        // Atualizado a cada INSERT/UPDATE; compõe a versão das listagens (ETag)
+        @UpdateTimestamp
+        @Column(name = "UPDATED_AT")
+        private LocalDateTime atualizadoEm;
 }
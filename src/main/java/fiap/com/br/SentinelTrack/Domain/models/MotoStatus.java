@@ -0,0 +1,77 @@
+package fiap.com.br.SentinelTrack.Domain.models;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Status de uma moto na frota
+ *
+ * Gravado em ST_MOTO.STATUS como um código de um caractere (MotoStatusConverter),
+ * restrito pela check constraint de V8. Na API e nas telas continua o nome do enum.
+ */
+public enum MotoStatus {
+
+    DISPONIVEL('D'),
+    EM_USO('U'),
+    MANUTENCAO('M');
+
+    private static final MotoStatus[] VALORES = values();
+
+    private final char codigo;
+
+    MotoStatus(char codigo) {
+        this.codigo = codigo;
+    }
+
+    public char getCodigo() {
+        return codigo;
+    }
+
+    /**
+     * Status pelo nome, sem diferenciar maiúsculas e ignorando espaços nas pontas
+     * @throws IllegalArgumentException se o status não existir
+     */
+    public static MotoStatus de(String valor) {
+        return buscar(valor).orElseThrow(() -> new IllegalArgumentException(
+                "Status inválido: " + valor + ". Use DISPONIVEL, EM_USO ou MANUTENCAO"));
+    }
+
+    /**
+     * Como de(String), mas vazio para valores desconhecidos (filtros de consulta)
+     */
+    public static Optional<MotoStatus> buscar(String valor) {
+        if (valor != null) {
+            String nome = valor.trim().toUpperCase(Locale.ROOT);
+            for (MotoStatus status : VALORES) {
+                if (status.name().equals(nome)) {
+                    return Optional.of(status);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Status pelo código gravado no banco
+     * @throws IllegalArgumentException se o código não existir
+     */
+    public static MotoStatus doCodigo(char codigo) {
+        for (MotoStatus status : VALORES) {
+            if (status.codigo == codigo) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Código de status desconhecido: " + codigo);
+    }
+
+    /**
+     * Total de status, para contadores indexados por ordinal()
+     */
+    public static int quantidade() {
+        return VALORES.length;
+    }
+
+    public static MotoStatus porIndice(int indice) {
+        return VALORES[indice];
+    }
+}
@@ -0,0 +1,21 @@
+package fiap.com.br.SentinelTrack.Domain.models;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Converte MotoStatus para o código de um caractere gravado em ST_MOTO.STATUS
+ */
+@Converter(autoApply = true)
+public class MotoStatusConverter implements AttributeConverter<MotoStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(MotoStatus status) {
+        return status != null ? String.valueOf(status.getCodigo()) : null;
+    }
+
+    @Override
+    public MotoStatus convertToEntityAttribute(String codigo) {
+        return codigo != null && !codigo.isEmpty() ? MotoStatus.doCodigo(codigo.charAt(0)) : null;
+    }
+}
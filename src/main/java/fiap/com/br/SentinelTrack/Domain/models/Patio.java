@@ -1,10 +1,12 @@
 package fiap.com.br.SentinelTrack.Domain.models;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity(name = "patio")
 @Table(name = "ST_PATIO")
@@ -30,6 +32,11 @@ public class Patio {
     @Column(name = "ID_LOCALIDADE", nullable = false)
     private Long idLocalidade;
 
+    // Atualizado a cada INSERT/UPDATE; compõe a versão das listagens (ETag)
+    @UpdateTimestamp
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime atualizadoEm;
+
     @OneToMany(mappedBy = "patio", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<Moto> motos;
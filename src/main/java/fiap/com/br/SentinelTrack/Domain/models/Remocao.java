@@ -0,0 +1,32 @@
+package fiap.com.br.SentinelTrack.Domain.models;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Registro de remoção (tombstone) de motos e pátios
+ * Permite que a sincronização incremental do mobile informe o que foi excluído
+ */
+@Entity(name = "remocao")
+@Table(name = "ST_REMOCAO")
+@Data
+public class Remocao {
+
+    public static final String TIPO_MOTO = "MOTO";
+    public static final String TIPO_PATIO = "PATIO";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID_REMOCAO")
+    private Long id;
+
+    @Column(name = "TIPO", nullable = false)
+    private String tipo;
+
+    @Column(name = "ID_REGISTRO", nullable = false)
+    private Long idRegistro;
+
+    @Column(name = "REMOVIDO_EM", nullable = false)
+    private LocalDateTime removidoEm;
+}
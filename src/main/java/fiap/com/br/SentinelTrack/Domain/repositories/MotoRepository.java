@@ -1,16 +1,129 @@
 package fiap.com.br.SentinelTrack.Domain.repositories;
 
 import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MotoRepository extends JpaRepository<Moto, Long> {
+public interface MotoRepository extends JpaRepository<Moto, Long>, MotoRepositoryCustom {
+
+    // Consultas de listagem carregam o pátio no mesmo SELECT (evita N+1 no MotoMapper.toDTO)
+    @Override
+    @EntityGraph(attributePaths = "patio")
+    List<Moto> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "patio")
+    Optional<Moto> findById(Long id);
+
+    @EntityGraph(attributePaths = "patio")
     Optional<Moto> findByPlaca(String placa);
+
+    @EntityGraph(attributePaths = "patio")
     List<Moto> findByPatioId(Long patioId);
-    List<Moto> findByStatus(String status);
-    List<Moto> findByModeloContainingIgnoreCase(String modelo);
+
+    @EntityGraph(attributePaths = "patio")
+    List<Moto> findByStatus(MotoStatus status);
+
+    // Motos dos modelos encontrados pelo IndiceModelos (usa IDX_MOTO_MODELO)
+    @EntityGraph(attributePaths = "patio")
+    List<Moto> findByModeloIn(Collection<String> modelos);
+
+    @EntityGraph(attributePaths = "patio")
+    List<Moto> findTop5ByOrderByDataEntradaDesc();
+
+    @EntityGraph(attributePaths = "patio")
+    List<Moto> findByIdIn(Collection<Long> ids);
+
+    // Placas já cadastradas dentre as informadas (checagem de duplicidade em lote)
+    @Query("SELECT m.placa FROM moto m WHERE m.placa IN :placas")
+    List<String> findPlacasExistentes(@Param("placas") Collection<String> placas);
+
+    // Carga do índice de placas em memória (IndicePlacas)
+    @Query("SELECT m.id AS id, m.placa AS placa FROM moto m")
+    List<PlacaMoto> listarPlacas();
+
+    // Placas fora do índice em memória (gravadas por outra instância ou durante uma recarga)
+    @Query("SELECT m.id AS id, m.placa AS placa FROM moto m WHERE m.placa IN :placas")
+    List<PlacaMoto> listarPlacas(@Param("placas") Collection<String> placas);
+
+    // Placas gravadas a partir do instante (sincronização do filtro de placas, usa IDX_MOTO_UPDATED_AT)
+    @Query("SELECT m.id AS id, m.placa AS placa FROM moto m WHERE m.atualizadoEm >= :desde")
+    List<PlacaMoto> listarPlacasAlteradas(@Param("desde") LocalDateTime desde);
+
+    // Busca por placa em todos os formatos equivalentes (antigo/Mercosul) em um único SELECT
+    @EntityGraph(attributePaths = "patio")
+    List<Moto> findByPlacaIn(Collection<String> placas);
+
+    // Placas das motos de um pátio (removidas em cascata com ele)
+    @Query("SELECT m.id AS id, m.placa AS placa FROM moto m WHERE m.patio.id = :idPatio")
+    List<PlacaMoto> listarPlacasPorPatio(@Param("idPatio") Long idPatio);
+
+    // IDs das motos de um pátio (posições em memória, sem carregar as entidades)
+    @Query("SELECT m.id FROM moto m WHERE m.patio.id = :idPatio")
+    List<Long> listarIdsPorPatio(@Param("idPatio") Long idPatio);
+
+    // Carga do índice de modelos em memória (IndiceModelos)
+    @Query("SELECT DISTINCT m.modelo FROM moto m")
+    List<String> listarModelos();
+
+    // Versão da coleção de motos, geral ou de um pátio (ETag das listagens)
+    @Query("SELECT COUNT(m) AS total, MAX(m.atualizadoEm) AS ultimaAtualizacao FROM moto m")
+    VersaoColecao versao();
+
+    @Query("SELECT COUNT(m) AS total, MAX(m.atualizadoEm) AS ultimaAtualizacao FROM moto m WHERE m.patio.id = :idPatio")
+    VersaoColecao versaoPorPatio(@Param("idPatio") Long idPatio);
+
+    // Sincronização incremental: alteradas após o cursor (UPDATED_AT, ID) até o limite, em ordem
+    @EntityGraph(attributePaths = "patio")
+    @Query("SELECT m FROM moto m WHERE m.atualizadoEm <= :ate AND " +
+           "(m.atualizadoEm > :desde OR (m.atualizadoEm = :desde AND m.id > :idDesde)) " +
+           "ORDER BY m.atualizadoEm, m.id")
+    List<Moto> buscarAlteradas(@Param("desde") LocalDateTime desde, @Param("idDesde") Long idDesde,
+                               @Param("ate") LocalDateTime ate, Pageable pageable);
+
+    // Agregações para dashboards e relatórios (executadas no banco)
+    @Query("SELECT m.status AS status, COUNT(m) AS total FROM moto m GROUP BY m.status")
+    List<ContagemPorStatus> contarPorStatus();
+
+    @Query("SELECT p.id AS idPatio, p.nome AS nomePatio, COUNT(m) AS total " +
+           "FROM moto m JOIN m.patio p GROUP BY p.id, p.nome")
+    List<ContagemPorPatio> contarPorPatio();
+
+    @Query("SELECT p.id AS idPatio, p.nome AS nomePatio, m.status AS status, COUNT(m) AS total " +
+           "FROM moto m JOIN m.patio p GROUP BY p.id, p.nome, m.status")
+    List<ContagemPorPatioEStatus> contarPorPatioEStatus();
+
+    interface PlacaMoto {
+        Long getId();
+        String getPlaca();
+    }
+
+    interface ContagemPorStatus {
+        MotoStatus getStatus();
+        Long getTotal();
+    }
+
+    interface ContagemPorPatio {
+        Long getIdPatio();
+        String getNomePatio();
+        Long getTotal();
+    }
+
+    interface ContagemPorPatioEStatus {
+        Long getIdPatio();
+        String getNomePatio();
+        MotoStatus getStatus();
+        Long getTotal();
+    }
 }
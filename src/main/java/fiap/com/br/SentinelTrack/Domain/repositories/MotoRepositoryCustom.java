@@ -0,0 +1,49 @@
+package fiap.com.br.SentinelTrack.Domain.repositories;
+
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de motos que não cabem em métodos derivados do Spring Data
+ */
+public interface MotoRepositoryCustom {
+
+    /**
+     * Busca paginada por cursor (keyset em ID_MOTO).
+     * Apenas os filtros informados (não nulos) entram no WHERE, para que o banco
+     * use os índices (STATUS, ID_MOTO), (ID_PATIO, ID_MOTO) e MODELO.
+     * O pátio vem no mesmo SELECT (JOIN FETCH).
+     *
+     * @param status status exato ou null
+     * @param idPatio ID do pátio ou null
+     * @param prefixoModelo prefixo do modelo (sensível a maiúsculas) ou null
+     * @param cursor último ID já retornado ou null para a primeira página
+     * @param decrescente ordena por ID decrescente quando true
+     * @param limite quantidade máxima de registros
+     */
+    List<Moto> buscarPorCursor(MotoStatus status, Long idPatio, String prefixoModelo,
+                               Long cursor, boolean decrescente, int limite);
+
+    /**
+     * Percorre as motos (com pátio) em ordem de ID por um cursor do banco,
+     * sem materializar a lista. Exige transação aberta; o chamador deve fechar
+     * o Stream e desanexar as entidades já processadas para manter o heap constante.
+     *
+     * @param status status exato ou null
+     * @param idPatio ID do pátio ou null
+     */
+    Stream<Moto> streamPorFiltro(MotoStatus status, Long idPatio);
+
+    /**
+     * Insere motos em lotes JDBC (addBatch/executeBatch), sem passar pelo
+     * contexto de persistência: com ID IDENTITY o Hibernate não agrupa INSERTs.
+     * Os IDs gerados não são lidos de volta; apenas o ID do pátio é usado.
+     *
+     * @param motos motos já validadas
+     * @param tamanhoLote quantidade de linhas por executeBatch
+     */
+    void inserirEmLote(List<Moto> motos, int tamanhoLote);
+}
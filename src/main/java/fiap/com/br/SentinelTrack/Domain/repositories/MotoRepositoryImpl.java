@@ -0,0 +1,109 @@
+package fiap.com.br.SentinelTrack.Domain.repositories;
+
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatusConverter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Implementação das consultas customizadas de MotoRepository
+ */
+public class MotoRepositoryImpl implements MotoRepositoryCustom {
+
+    private static final String INSERT_MOTO =
+            "INSERT INTO ST_MOTO (MODELO, PLACA, STATUS, ID_PATIO, DATA_ENTRADA, UPDATED_AT) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Linhas trazidas por ida ao banco no cursor de exportação (o padrão do driver Oracle é 10)
+    private static final int TAMANHO_FETCH_STREAM = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final MotoStatusConverter CONVERSOR_STATUS = new MotoStatusConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MotoRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Moto> buscarPorCursor(MotoStatus status, Long idPatio, String prefixoModelo,
+                                      Long cursor, boolean decrescente, int limite) {
+        StringBuilder jpql = new StringBuilder("SELECT m FROM moto m JOIN FETCH m.patio WHERE 1 = 1");
+        Map<String, Object> parametros = new HashMap<>();
+
+        if (cursor != null) {
+            jpql.append(decrescente ? " AND m.id < :cursor" : " AND m.id > :cursor");
+            parametros.put("cursor", cursor);
+        }
+        adicionarFiltros(jpql, parametros, status, idPatio, prefixoModelo);
+        jpql.append(decrescente ? " ORDER BY m.id DESC" : " ORDER BY m.id ASC");
+
+        TypedQuery<Moto> query = entityManager.createQuery(jpql.toString(), Moto.class);
+        parametros.forEach(query::setParameter);
+        query.setMaxResults(limite);
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<Moto> streamPorFiltro(MotoStatus status, Long idPatio) {
+        StringBuilder jpql = new StringBuilder("SELECT m FROM moto m JOIN FETCH m.patio WHERE 1 = 1");
+        Map<String, Object> parametros = new HashMap<>();
+        adicionarFiltros(jpql, parametros, status, idPatio, null);
+        jpql.append(" ORDER BY m.id ASC");
+
+        TypedQuery<Moto> query = entityManager.createQuery(jpql.toString(), Moto.class);
+        parametros.forEach(query::setParameter);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, TAMANHO_FETCH_STREAM);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+
+    private void adicionarFiltros(StringBuilder jpql, Map<String, Object> parametros,
+                                  MotoStatus status, Long idPatio, String prefixoModelo) {
+        if (status != null) {
+            jpql.append(" AND m.status = :status");
+            parametros.put("status", status);
+        }
+        if (idPatio != null) {
+            jpql.append(" AND m.patio.id = :idPatio");
+            parametros.put("idPatio", idPatio);
+        }
+        if (prefixoModelo != null) {
+            jpql.append(" AND m.modelo LIKE :modelo ESCAPE '\\'");
+            parametros.put("modelo", escaparLike(prefixoModelo) + "%");
+        }
+    }
+
+    @Override
+    public void inserirEmLote(List<Moto> motos, int tamanhoLote) {
+        // Mesmo relógio do @UpdateTimestamp das entidades (a versão das listagens usa MAX(UPDATED_AT))
+        Timestamp agora = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate(INSERT_MOTO, motos, tamanhoLote, (ps, moto) -> {
+            ps.setString(1, moto.getModelo());
+            ps.setString(2, moto.getPlaca());
+            ps.setString(3, CONVERSOR_STATUS.convertToDatabaseColumn(moto.getStatus()));
+            ps.setLong(4, moto.getPatio().getId());
+            ps.setDate(5, new Date(moto.getDataEntrada().getTime()));
+            ps.setTimestamp(6, agora);
+        });
+    }
+
+    private String escaparLike(String valor) {
+        return valor.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -1,12 +1,56 @@
 package fiap.com.br.SentinelTrack.Domain.repositories;
 
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PatioRepository extends JpaRepository<Patio, Long> {
-    List<Patio> findByNomeContainingIgnoreCase(String nome);
+    List<Patio> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT p.id FROM patio p WHERE p.id IN :ids")
+    List<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    // Resumo de todos os pátios com contagem de motos por status em uma única consulta
+    // (LEFT JOIN mantém pátios sem motos, com status nulo e total zero)
+    @Query("SELECT p.id AS idPatio, p.nome AS nome, p.areaM2 AS areaM2, m.status AS status, COUNT(m) AS total " +
+           "FROM patio p LEFT JOIN p.motos m " +
+           "GROUP BY p.id, p.nome, p.areaM2, m.status ORDER BY p.id")
+    List<ResumoPorStatus> resumirPorStatus();
+
+    // Versão da coleção de pátios (ETag das listagens)
+    @Query("SELECT COUNT(p) AS total, MAX(p.atualizadoEm) AS ultimaAtualizacao FROM patio p")
+    VersaoColecao versao();
+
+    // Sincronização incremental: alterados após o cursor (UPDATED_AT, ID) até o limite, em ordem
+    @Query("SELECT p FROM patio p WHERE p.atualizadoEm <= :ate AND " +
+           "(p.atualizadoEm > :desde OR (p.atualizadoEm = :desde AND p.id > :idDesde)) " +
+           "ORDER BY p.atualizadoEm, p.id")
+    List<Patio> buscarAlterados(@Param("desde") LocalDateTime desde, @Param("idDesde") Long idDesde,
+                                @Param("ate") LocalDateTime ate, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.nome AS nome FROM patio p ORDER BY p.nome")
+    List<NomePatio> listarNomes();
+
+    interface NomePatio {
+        Long getId();
+        String getNome();
+    }
+
+    interface ResumoPorStatus {
+        Long getIdPatio();
+        String getNome();
+        BigDecimal getAreaM2();
+        MotoStatus getStatus();
+        Long getTotal();
+    }
 }
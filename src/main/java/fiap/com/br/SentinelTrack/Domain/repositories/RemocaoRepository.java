@@ -0,0 +1,27 @@
+package fiap.com.br.SentinelTrack.Domain.repositories;
+
+import fiap.com.br.SentinelTrack.Domain.models.Remocao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RemocaoRepository extends JpaRepository<Remocao, Long> {
+
+    // Sincronização incremental: remoções após o cursor (REMOVIDO_EM, ID) até o limite, em ordem
+    @Query("SELECT r FROM remocao r WHERE r.removidoEm <= :ate AND " +
+           "(r.removidoEm > :desde OR (r.removidoEm = :desde AND r.id > :idDesde)) " +
+           "ORDER BY r.removidoEm, r.id")
+    List<Remocao> buscarPosteriores(@Param("desde") LocalDateTime desde, @Param("idDesde") Long idDesde,
+                                    @Param("ate") LocalDateTime ate, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM remocao r WHERE r.removidoEm < :antesDe")
+    int excluirAnteriores(@Param("antesDe") LocalDateTime antesDe);
+}
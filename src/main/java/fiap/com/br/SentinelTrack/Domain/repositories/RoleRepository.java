@@ -6,6 +6,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+// Escritas passam pelo UsuarioService (invalida o UserDetailsCache após o commit)
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
     Optional<Role> findByNome(String nome);
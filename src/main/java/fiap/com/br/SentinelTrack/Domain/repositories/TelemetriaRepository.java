@@ -0,0 +1,74 @@
+package fiap.com.br.SentinelTrack.Domain.repositories;
+
+import fiap.com.br.SentinelTrack.Domain.models.LeituraTelemetria;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Gravação das leituras de telemetria (ST_TELEMETRIA) via JDBC
+ * Sem entidade JPA: as leituras só são inseridas, em lote, e nunca carregadas no contexto de persistência
+ */
+@Repository
+public class TelemetriaRepository {
+
+    private static final String INSERT_TELEMETRIA =
+            "INSERT INTO ST_TELEMETRIA (ID_MOTO, LATITUDE, LONGITUDE, BATERIA, REGISTRADO_EM, RECEBIDO_EM) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Leitura mais recente de cada moto ainda cadastrada, dentro da janela (IDX_TELEMETRIA_REGISTRADO
+    // limita o agrupamento à janela; IDX_TELEMETRIA_MOTO atende o retorno à linha da leitura)
+    private static final String SELECT_ULTIMAS =
+            "SELECT t.ID_MOTO, t.LATITUDE, t.LONGITUDE, t.BATERIA, t.REGISTRADO_EM, t.RECEBIDO_EM " +
+            "FROM ST_TELEMETRIA t JOIN (SELECT ID_MOTO, MAX(REGISTRADO_EM) AS ULTIMO FROM ST_TELEMETRIA " +
+            "WHERE REGISTRADO_EM >= ? GROUP BY ID_MOTO) u " +
+            "ON u.ID_MOTO = t.ID_MOTO AND u.ULTIMO = t.REGISTRADO_EM " +
+            "JOIN ST_MOTO m ON m.ID_MOTO = t.ID_MOTO";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TelemetriaRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insere as leituras em um único batch JDBC (um executeBatch, um commit em auto-commit)
+     */
+    public void inserirEmLote(List<LeituraTelemetria> leituras) {
+        jdbcTemplate.batchUpdate(INSERT_TELEMETRIA, leituras, leituras.size(), (ps, leitura) -> {
+            ps.setLong(1, leitura.idMoto());
+            ps.setDouble(2, leitura.latitude());
+            ps.setDouble(3, leitura.longitude());
+            if (leitura.bateria() != null) {
+                ps.setInt(4, leitura.bateria());
+            } else {
+                ps.setNull(4, Types.SMALLINT);
+            }
+            ps.setTimestamp(5, Timestamp.valueOf(leitura.registradoEm()));
+            ps.setTimestamp(6, Timestamp.valueOf(leitura.recebidoEm()));
+        });
+    }
+
+    /**
+     * Percorre a leitura mais recente de cada moto cadastrada registrada a partir de
+     * desde, sem montar a lista inteira em memória
+     */
+    public void ultimasLeituras(LocalDateTime desde, Consumer<LeituraTelemetria> consumidor) {
+        jdbcTemplate.query(SELECT_ULTIMAS, (RowCallbackHandler) rs -> {
+            int valorBateria = rs.getInt("BATERIA");
+            Integer bateria = rs.wasNull() ? null : valorBateria;
+            consumidor.accept(new LeituraTelemetria(
+                    rs.getLong("ID_MOTO"),
+                    rs.getDouble("LATITUDE"),
+                    rs.getDouble("LONGITUDE"),
+                    bateria,
+                    rs.getTimestamp("REGISTRADO_EM").toLocalDateTime(),
+                    rs.getTimestamp("RECEBIDO_EM").toLocalDateTime()));
+        }, Timestamp.valueOf(desde));
+    }
+}
@@ -0,0 +1,12 @@
+package fiap.com.br.SentinelTrack.Domain.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versão de uma coleção: quantidade de linhas e maior UPDATED_AT
+ * Muda a cada inclusão, alteração ou remoção (a remoção altera o total)
+ */
+public interface VersaoColecao {
+    Long getTotal();
+    LocalDateTime getUltimaAtualizacao();
+}
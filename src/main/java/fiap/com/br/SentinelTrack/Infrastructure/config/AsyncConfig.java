@@ -0,0 +1,28 @@
+package fiap.com.br.SentinelTrack.Infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Habilita @Async usando o executor "applicationTaskExecutor" (alias "taskExecutor")
+ *
+ * Sem o perfil "virtual", o Spring Boot cria o pool padrão de platform threads
+ * (spring.task.execution.*). Com spring.threads.virtual.enabled=true (perfil
+ * "virtual", Java 21) o executor é declarado aqui com uma virtual thread por
+ * tarefa, e falha na subida em Java 17 em vez de voltar silenciosamente ao pool.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public SimpleAsyncTaskExecutor executorVirtual() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-virtual-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
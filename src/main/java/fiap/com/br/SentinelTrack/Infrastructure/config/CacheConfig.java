@@ -0,0 +1,41 @@
+package fiap.com.br.SentinelTrack.Infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração de cache (Spring Cache + Caffeine)
+ * 
+ * Pátios mudam raramente: listagem, busca por ID e diretório ID -> nome ficam em
+ * cache e são invalidados pelas escritas de PatioService/PatioServiceV2/FixedPatioService. As
+ * invalidações feitas dentro de transação só valem após o commit. O TTL limita
+ * a defasagem entre instâncias. As últimas motos cadastradas (dashboards) são
+ * invalidadas pelas escritas de MotoService e pela importação em lote.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CACHE_PATIOS = "patios";
+    public static final String CACHE_DIRETORIO_PATIOS = "diretorioPatios";
+    public static final String CACHE_MOTOS_RECENTES = "motosRecentes";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.patios.tamanho-maximo:1000}") long tamanhoMaximo,
+                                     @Value("${cache.patios.ttl-minutos:30}") long ttlMinutos) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CACHE_PATIOS, CACHE_DIRETORIO_PATIOS, CACHE_MOTOS_RECENTES);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutos))
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -1,9 +1,11 @@
 package fiap.com.br.SentinelTrack.Infrastructure.config;
 
+import fiap.com.br.SentinelTrack.Application.services.UsuarioService;
 import fiap.com.br.SentinelTrack.Domain.models.Role;
 import fiap.com.br.SentinelTrack.Domain.models.Usuario;
 import fiap.com.br.SentinelTrack.Domain.repositories.RoleRepository;
 import fiap.com.br.SentinelTrack.Domain.repositories.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,10 +18,14 @@ import java.util.Set;
 @Configuration
 public class DataInitializer {
 
+    // Escritas pelo UsuarioService, que invalida o UserDetailsCache após o commit
     @Bean
     CommandLineRunner initDatabase(UsuarioRepository usuarioRepository, 
                                    RoleRepository roleRepository,
-                                   PasswordEncoder passwordEncoder) {
+                                   UsuarioService usuarioService,
+                                   PasswordEncoder passwordEncoder,
+                                   @Value("${monitoramento.prometheus.usuario:prometheus}") String usuarioColetor,
+                                   @Value("${monitoramento.prometheus.senha:}") String senhaColetor) {
         return args -> {
             // Verifica se já existe o usuário admin
             if (usuarioRepository.findByUsername("admin").isEmpty()) {
@@ -28,7 +34,7 @@ public class DataInitializer {
                 adminRole.setNome("ROLE_ADMIN");
                 adminRole.setDescricao("Administrador do sistema");
                 adminRole.setCreatedAt(LocalDateTime.now());
-                adminRole = roleRepository.save(adminRole);
+                adminRole = usuarioService.salvarPerfil(adminRole);
 
                 // Cria usuário admin
                 Usuario admin = new Usuario();
@@ -44,12 +50,31 @@ public class DataInitializer {
                 roles.add(adminRole);
                 admin.setRoles(roles);
 
-                usuarioRepository.save(admin);
+                usuarioService.salvar(admin);
                 
                 System.out.println("✅ Usuário admin criado com sucesso!");
                 System.out.println("   Username: admin");
                 System.out.println("   Password: admin123");
             }
+
+            // Usuário do coletor Prometheus (perfil do V11), só com senha configurada
+            if (!senhaColetor.isBlank() && usuarioRepository.findByUsername(usuarioColetor).isEmpty()) {
+                Role monitoramento = roleRepository.findByNome("ROLE_MONITORAMENTO")
+                        .orElseThrow(() -> new IllegalStateException("Perfil ROLE_MONITORAMENTO ausente (migração V11)"));
+
+                Usuario coletor = new Usuario();
+                coletor.setUsername(usuarioColetor);
+                coletor.setPassword(passwordEncoder.encode(senhaColetor));
+                coletor.setEmail(usuarioColetor + "@sentineltrack.local");
+                coletor.setNomeCompleto("Coletor de métricas");
+                coletor.setAtivo(true);
+                coletor.setCreatedAt(LocalDateTime.now());
+                coletor.setUpdatedAt(LocalDateTime.now());
+                coletor.setRoles(new HashSet<>(Set.of(monitoramento)));
+
+                usuarioService.salvar(coletor);
+                System.out.println("✅ Usuário do coletor de métricas criado: " + usuarioColetor);
+            }
         };
     }
 }
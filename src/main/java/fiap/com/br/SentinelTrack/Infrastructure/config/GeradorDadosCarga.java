@@ -0,0 +1,177 @@
+package fiap.com.br.SentinelTrack.Infrastructure.config;
+
+import fiap.com.br.SentinelTrack.Application.services.UsuarioService;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Gerador de massa de dados para testes de carga (perfil "carga")
+ * 
+ * Popula ST_PATIO, ST_MOTO e ST_USUARIO com inserts em lote JDBC.
+ * Quantidades configuráveis por carga.patios, carga.motos e carga.usuarios;
+ * os usuários (carga0001, carga0002...) recebem o perfil ROLE_GERENTE e a senha carga.senha.
+ * Não faz nada se a massa já existir no banco.
+ * 
+ * Uso local: ./gradlew bootRun --args='--spring.profiles.active=dev,carga'
+ */
+@Component
+@Profile("carga")
+@Order(100)
+@Slf4j
+public class GeradorDadosCarga implements CommandLineRunner {
+
+    static final String PREFIXO_PATIO = "Pátio Carga ";
+    static final String PREFIXO_USUARIO = "carga";
+    static final String PERFIL_USUARIOS = "ROLE_GERENTE";
+
+    private static final String[] MODELOS = {"Honda CG 160", "Yamaha Factor 150", "Honda Biz 125", "Mottu Sport 110i", "Yamaha Fazer 250"};
+    private static final MotoStatus[] STATUS = {
+            MotoStatus.DISPONIVEL, MotoStatus.DISPONIVEL, MotoStatus.EM_USO, MotoStatus.EM_USO, MotoStatus.MANUTENCAO};
+    private static final int TAMANHO_LOTE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MotoRepository motoRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UsuarioService usuarioService;
+    private final int quantidadePatios;
+    private final int quantidadeMotos;
+    private final int quantidadeUsuarios;
+    private final String senhaUsuarios;
+
+    public GeradorDadosCarga(JdbcTemplate jdbcTemplate, MotoRepository motoRepository, PasswordEncoder passwordEncoder,
+                             UsuarioService usuarioService,
+                             @Value("${carga.patios:50}") int quantidadePatios,
+                             @Value("${carga.motos:50000}") int quantidadeMotos,
+                             @Value("${carga.usuarios:100}") int quantidadeUsuarios,
+                             @Value("${carga.senha:carga123}") String senhaUsuarios) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.motoRepository = motoRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.usuarioService = usuarioService;
+        this.quantidadePatios = quantidadePatios;
+        this.quantidadeMotos = quantidadeMotos;
+        this.quantidadeUsuarios = quantidadeUsuarios;
+        this.senhaUsuarios = senhaUsuarios;
+    }
+
+    @Override
+    @Transactional(timeoutString = "${sincronizacao.transacao-maxima-s:30}")
+    public void run(String... args) {
+        Integer existentes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ST_PATIO WHERE NOME LIKE ?", Integer.class, PREFIXO_PATIO + "%");
+        if (existentes != null && existentes > 0) {
+            log.info("Massa de carga já existe ({} pátios), geração ignorada", existentes);
+            return;
+        }
+
+        long inicio = System.currentTimeMillis();
+        List<Long> idsPatios = gerarPatios();
+        gerarMotos(idsPatios);
+        gerarUsuarios();
+        log.info("Massa de carga gerada: {} pátios, {} motos, {} usuários em {} ms",
+                quantidadePatios, quantidadeMotos, quantidadeUsuarios, System.currentTimeMillis() - inicio);
+    }
+
+    private List<Long> gerarPatios() {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO ST_PATIO (NOME, ENDERECO, COMPLEMENTO, AREA_M2, ID_LOCALIDADE) VALUES (?, ?, ?, ?, ?)",
+                IntStream.rangeClosed(1, quantidadePatios).boxed().toList(), TAMANHO_LOTE,
+                (ps, i) -> {
+                    ps.setString(1, PREFIXO_PATIO + i);
+                    ps.setString(2, "Rua da Carga, " + i);
+                    ps.setString(3, null);
+                    ps.setBigDecimal(4, BigDecimal.valueOf(1000L + (i % 10) * 500L));
+                    ps.setLong(5, (i % 4) + 1L);
+                });
+        return jdbcTemplate.queryForList(
+                "SELECT ID_PATIO FROM ST_PATIO WHERE NOME LIKE ? ORDER BY ID_PATIO", Long.class, PREFIXO_PATIO + "%");
+    }
+
+    private void gerarMotos(List<Long> idsPatios) {
+        Date hoje = Date.valueOf(LocalDate.now());
+        List<Moto> lote = new ArrayList<>(TAMANHO_LOTE);
+        for (int i = 0; i < quantidadeMotos; i++) {
+            Patio patio = new Patio();
+            patio.setId(idsPatios.get(i % idsPatios.size()));
+
+            Moto moto = new Moto();
+            moto.setModelo(MODELOS[i % MODELOS.length]);
+            moto.setPlaca(placa(i));
+            moto.setStatus(STATUS[i % STATUS.length]);
+            moto.setDataEntrada(new Date(hoje.getTime() - (i % 365) * 86_400_000L));
+            moto.setPatio(patio);
+            lote.add(moto);
+
+            if (lote.size() == TAMANHO_LOTE) {
+                motoRepository.inserirEmLote(lote, TAMANHO_LOTE);
+                lote.clear();
+            }
+        }
+        motoRepository.inserirEmLote(lote, TAMANHO_LOTE);
+    }
+
+    private void gerarUsuarios() {
+        // BCrypt é caro de propósito: um único hash compartilhado por todos os usuários de carga
+        String senhaCodificada = passwordEncoder.encode(senhaUsuarios);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO ST_USUARIO (USERNAME, PASSWORD, EMAIL, NOME_COMPLETO, ATIVO) VALUES (?, ?, ?, ?, ?)",
+                IntStream.rangeClosed(1, quantidadeUsuarios).boxed().toList(), TAMANHO_LOTE,
+                (ps, i) -> {
+                    String username = usuario(i);
+                    ps.setString(1, username);
+                    ps.setString(2, senhaCodificada);
+                    ps.setString(3, username + "@carga.local");
+                    ps.setString(4, "Usuário de Carga " + i);
+                    ps.setBoolean(5, true);
+                });
+
+        // Os perfis do V3 não têm o prefixo ROLE_ exigido por hasRole
+        Integer perfis = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ST_ROLE WHERE NOME = ?", Integer.class, PERFIL_USUARIOS);
+        if (perfis == null || perfis == 0) {
+            jdbcTemplate.update("INSERT INTO ST_ROLE (NOME, DESCRICAO) VALUES (?, ?)", PERFIL_USUARIOS, "Gerente (massa de carga)");
+        }
+        jdbcTemplate.update(
+                "INSERT INTO ST_USUARIO_ROLE (ID_USUARIO, ID_ROLE) " +
+                "SELECT u.ID_USUARIO, r.ID_ROLE FROM ST_USUARIO u, ST_ROLE r WHERE u.EMAIL LIKE ? AND r.NOME = ?",
+                "%@carga.local", PERFIL_USUARIOS);
+        usuarioService.invalidarCache();
+    }
+
+    /**
+     * Placa Mercosul única por índice, sempre iniciada por Z (não colide com os dados de exemplo)
+     */
+    static String placa(int indice) {
+        char[] placa = new char[7];
+        placa[0] = 'Z';
+        placa[1] = (char) ('A' + (indice / 26_000) % 26);
+        placa[2] = (char) ('A' + (indice / 1_000) % 26);
+        placa[3] = (char) ('0' + (indice / 100) % 10);
+        placa[4] = (char) ('A' + (indice / 676_000) % 26);
+        placa[5] = (char) ('0' + (indice / 10) % 10);
+        placa[6] = (char) ('0' + indice % 10);
+        return new String(placa);
+    }
+
+    static String usuario(int indice) {
+        return String.format("%s%04d", PREFIXO_USUARIO, indice);
+    }
+}
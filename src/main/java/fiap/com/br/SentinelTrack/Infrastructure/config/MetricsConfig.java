@@ -0,0 +1,23 @@
+package fiap.com.br.SentinelTrack.Infrastructure.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração de métricas (Actuator + Micrometer)
+ * 
+ * Habilita @Timed nos serviços. Repositórios (spring.data.repository.invocations),
+ * pool HikariCP (hikaricp.connections.*) e requisições HTTP são instrumentados
+ * pelo próprio Actuator; os MeterBinder (TokenCache, UserDetailsCache) são
+ * registrados automaticamente.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
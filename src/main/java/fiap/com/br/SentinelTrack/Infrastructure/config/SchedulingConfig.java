@@ -0,0 +1,12 @@
+package fiap.com.br.SentinelTrack.Infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas @Scheduled (ex.: reconciliação dos contadores da frota)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
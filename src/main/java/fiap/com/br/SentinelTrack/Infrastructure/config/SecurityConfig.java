@@ -1,12 +1,27 @@
 package fiap.com.br.SentinelTrack.Infrastructure.config;
 
+import fiap.com.br.SentinelTrack.Application.services.JwtService;
+import fiap.com.br.SentinelTrack.Infrastructure.security.ChaveDispositivoFilter;
+import fiap.com.br.SentinelTrack.Infrastructure.security.JwtAuthenticationFilter;
+import fiap.com.br.SentinelTrack.Infrastructure.security.TokenCache;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -17,7 +32,75 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * APIs mobile: autenticação stateless por JWT (sem sessão HTTP)
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain mobileApiFilterChain(HttpSecurity http, JwtService jwtService,
+                                                    TokenCache tokenCache) throws Exception {
+        http
+            .securityMatcher("/api/mobile/**")
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers("/api/mobile/auth/**", "/api/mobile/health").permitAll()
+                .requestMatchers(HttpMethod.OPTIONS, "/api/mobile/**").permitAll()
+                // Redespacho assíncrono (fim do stream SSE) de uma requisição já autorizada;
+                // sem sessão, o JWT não é reavaliado nesse despacho
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .anyRequest().authenticated()
+            )
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .csrf(csrf -> csrf.disable())
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .addFilterBefore(new JwtAuthenticationFilter(jwtService, tokenCache),
+                    UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * Ingestão IoT: stateless, somente sensores com chave de dispositivo configurada
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain iotFilterChain(HttpSecurity http,
+                                              @Value("${telemetria.dispositivos.chaves:}") List<String> chavesDispositivos) throws Exception {
+        http
+            .securityMatcher("/api/iot/**")
+            .authorizeHttpRequests(authz -> authz
+                .anyRequest().hasRole(ChaveDispositivoFilter.PERFIL_DISPOSITIVO)
+            )
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .csrf(csrf -> csrf.disable())
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .addFilterBefore(new ChaveDispositivoFilter(chavesDispositivos),
+                    UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * Actuator: health/info abertos; scrape do Prometheus e demais endpoints exigem
+     * perfil (HTTP Basic para o coletor, ou a sessão do login web)
+     */
+    @Bean
+    @Order(3)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/actuator/**")
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "MONITORAMENTO")
+                .anyRequest().hasRole("ADMIN")
+            )
+            .httpBasic(Customizer.withDefaults())
+            .csrf(csrf -> csrf.disable());
+
+        return http.build();
+    }
+
     @Bean
+    @Order(4)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .authorizeHttpRequests(authz -> authz
@@ -29,7 +112,7 @@ public class SecurityConfig {
                 // Swagger/OpenAPI - Para desenvolvimento
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                 
-                // APIs REST para Mobile App - Challenge 2025
+                // Demais APIs REST (as APIs mobile e IoT têm filter chains próprios)
                 .requestMatchers("/api/**").permitAll()
                 
                 // Rotas protegidas por perfil
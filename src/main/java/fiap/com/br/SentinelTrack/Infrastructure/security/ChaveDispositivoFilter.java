@@ -0,0 +1,81 @@
+package fiap.com.br.SentinelTrack.Infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Autenticação dos sensores IoT via header "X-Chave-Dispositivo"
+ *
+ * As chaves vêm da configuração (telemetria.dispositivos.chaves) e são comparadas
+ * pelo SHA-256 em tempo constante, sem revelar prefixo nem tamanho. Sem chaves
+ * configuradas nenhum dispositivo é aceito.
+ * Sem chave válida a requisição segue sem autenticação e o SecurityConfig decide o acesso.
+ */
+@Slf4j
+public class ChaveDispositivoFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_CHAVE = "X-Chave-Dispositivo";
+    public static final String PERFIL_DISPOSITIVO = "DISPOSITIVO";
+
+    private final List<byte[]> chaves;
+
+    public ChaveDispositivoFilter(Collection<String> chaves) {
+        this.chaves = chaves.stream()
+                .map(String::trim)
+                .filter(chave -> !chave.isEmpty())
+                .map(ChaveDispositivoFilter::resumo)
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String chave = request.getHeader(HEADER_CHAVE);
+
+        if (chave != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (valida(chave)) {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                "dispositivo",
+                                null,
+                                List.of(new SimpleGrantedAuthority("ROLE_" + PERFIL_DISPOSITIVO))));
+            } else {
+                log.debug("Chave de dispositivo inválida em {}", request.getRequestURI());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    boolean valida(String chave) {
+        byte[] informada = resumo(chave.trim());
+        boolean valida = false;
+        // Percorre todas as chaves: o tempo não indica qual (nem se alguma) coincidiu
+        for (byte[] configurada : chaves) {
+            valida |= MessageDigest.isEqual(configurada, informada);
+        }
+        return valida;
+    }
+
+    private static byte[] resumo(String chave) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(chave.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -16,14 +16,23 @@ import java.util.stream.Collectors;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    // hasRole/hasAnyRole comparam com "ROLE_" + perfil; os perfis do V3 foram gravados sem o prefixo
+    private static final String PREFIXO_PERFIL = "ROLE_";
+
     private final UsuarioRepository usuarioRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public CustomUserDetailsService(UsuarioRepository usuarioRepository) {
+    public CustomUserDetailsService(UsuarioRepository usuarioRepository, UserDetailsCache userDetailsCache) {
         this.usuarioRepository = usuarioRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.buscar(username, this::carregarUsuario);
+    }
+
+    private UserDetails carregarUsuario(String username) {
         Usuario usuario = usuarioRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
 
@@ -44,7 +53,9 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private Collection<? extends GrantedAuthority> getAuthorities(Usuario usuario) {
         return usuario.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority(role.getNome()))
+                .map(role -> role.getNome().startsWith(PREFIXO_PERFIL) ? role.getNome() : PREFIXO_PERFIL + role.getNome())
+                .distinct()
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,75 @@
+package fiap.com.br.SentinelTrack.Infrastructure.security;
+
+import fiap.com.br.SentinelTrack.Application.dto.UsuarioTokenDTO;
+import fiap.com.br.SentinelTrack.Application.services.JwtService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Autenticação stateless das APIs mobile via header "Authorization: Bearer <token>"
+ * 
+ * Tokens já verificados vêm do TokenCache; apenas em cache miss o token passa
+ * pela verificação HMAC e parse de claims do JwtService. Tokens sem o claim
+ * "role" são tratados como inválidos.
+ * Sem token válido a requisição segue sem autenticação e o SecurityConfig decide o acesso.
+ */
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO_BEARER = "Bearer ";
+
+    private final JwtService jwtService;
+    private final TokenCache tokenCache;
+
+    public JwtAuthenticationFilter(JwtService jwtService, TokenCache tokenCache) {
+        this.jwtService = jwtService;
+        this.tokenCache = tokenCache;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.startsWith(PREFIXO_BEARER)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = header.substring(PREFIXO_BEARER.length()).trim();
+            autenticar(token).ifPresentOrElse(
+                    usuario -> SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(
+                                    usuario.getEmail(),
+                                    null,
+                                    List.of(new SimpleGrantedAuthority("ROLE_" + usuario.getRole())))),
+                    () -> log.debug("Token JWT inválido ou expirado em {}", request.getRequestURI()));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Optional<UsuarioTokenDTO> autenticar(String token) {
+        Optional<UsuarioTokenDTO> emCache = tokenCache.buscar(token);
+        if (emCache.isPresent()) {
+            return emCache;
+        }
+
+        long inicio = System.nanoTime();
+        Optional<UsuarioTokenDTO> usuario = jwtService.validar(token)
+                .filter(u -> u.getRole() != null && !u.getRole().isBlank());
+        tokenCache.registrarVerificacao(System.nanoTime() - inicio);
+
+        usuario.ifPresent(u -> tokenCache.armazenar(token, u));
+        return usuario;
+    }
+}
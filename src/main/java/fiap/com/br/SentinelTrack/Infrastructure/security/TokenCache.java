@@ -0,0 +1,163 @@
+package fiap.com.br.SentinelTrack.Infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import fiap.com.br.SentinelTrack.Application.dto.UsuarioTokenDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache limitado (Caffeine) de tokens JWT já verificados
+ * 
+ * A chave é o SHA-256 do token (o token em si não fica em memória). Cada entrada
+ * expira junto com o próprio token, então um acerto dispensa a verificação HMAC
+ * e o parse dos claims sem estender a validade do token. Leituras não disputam
+ * uma trava global: o Caffeine registra os acessos em buffers por thread.
+ */
+@Component
+public class TokenCache implements MeterBinder {
+
+    private final Cache<Chave, UsuarioTokenDTO> entradas;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    // Registrado em bindTo; verificações anteriores ao registro não são medidas
+    private volatile Timer tempoVerificacao;
+
+    public TokenCache(@Value("${jwt.cache.tamanho-maximo:10000}") int tamanhoMaximo) {
+        this.entradas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new ExpiracaoDoToken())
+                .build();
+    }
+
+    /**
+     * Busca um token já verificado e ainda não expirado
+     */
+    public Optional<UsuarioTokenDTO> buscar(String token) {
+        UsuarioTokenDTO usuario = entradas.getIfPresent(Chave.de(token));
+        if (usuario == null) {
+            falhas.increment();
+            return Optional.empty();
+        }
+        acertos.increment();
+        return Optional.of(usuario);
+    }
+
+    /**
+     * Registra um token que acabou de ser verificado com sucesso
+     */
+    public void armazenar(String token, UsuarioTokenDTO usuario) {
+        entradas.put(Chave.de(token), usuario);
+    }
+
+    /**
+     * Registra a duração de uma verificação completa (cache miss)
+     */
+    public void registrarVerificacao(long duracaoNanos) {
+        Timer timer = tempoVerificacao;
+        if (timer != null) {
+            timer.record(duracaoNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public long tamanho() {
+        entradas.cleanUp();
+        return entradas.estimatedSize();
+    }
+
+    public double taxaAcerto() {
+        long totalAcertos = acertos.sum();
+        long total = totalAcertos + falhas.sum();
+        return total == 0 ? 0.0 : (double) totalAcertos / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.cache.acertos", acertos, LongAdder::sum)
+                .description("Tokens atendidos pelo cache sem nova verificação")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.falhas", falhas, LongAdder::sum)
+                .description("Tokens que precisaram de verificação completa")
+                .register(registry);
+        Gauge.builder("jwt.cache.taxa.acerto", this, TokenCache::taxaAcerto)
+                .description("Proporção de acertos do cache de tokens")
+                .register(registry);
+        Gauge.builder("jwt.cache.tamanho", this, TokenCache::tamanho)
+                .description("Tokens verificados em cache")
+                .register(registry);
+        // Histograma para acompanhar p99 da verificação (histogram_quantile no Prometheus)
+        tempoVerificacao = Timer.builder("jwt.verificacao")
+                .description("Verificação HMAC + parse de claims em cache miss")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Entrada vale até a expiração do token; leituras e substituições não a estendem
+     */
+    private static final class ExpiracaoDoToken implements Expiry<Chave, UsuarioTokenDTO> {
+
+        @Override
+        public long expireAfterCreate(Chave chave, UsuarioTokenDTO usuario, long agoraNanos) {
+            long restanteMs = usuario.getExpiracao().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(restanteMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(Chave chave, UsuarioTokenDTO usuario, long agoraNanos, long duracaoAtualNanos) {
+            return expireAfterCreate(chave, usuario, agoraNanos);
+        }
+
+        @Override
+        public long expireAfterRead(Chave chave, UsuarioTokenDTO usuario, long agoraNanos, long duracaoAtualNanos) {
+            return duracaoAtualNanos;
+        }
+    }
+
+    /**
+     * Chave do cache: digest SHA-256 do token
+     */
+    private static final class Chave {
+        private final byte[] digest;
+        private final int hash;
+
+        private Chave(byte[] digest) {
+            this.digest = digest;
+            this.hash = Arrays.hashCode(digest);
+        }
+
+        static Chave de(String token) {
+            try {
+                MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+                return new Chave(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 indisponível", e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Chave outra && Arrays.equals(digest, outra.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package fiap.com.br.SentinelTrack.Infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Cache limitado (tamanho + TTL) de UserDetails por username
+ * 
+ * Invalidado pelo UsuarioService após o commit de alterações em Usuario ou Role;
+ * o TTL limita a defasagem de alterações feitas fora desta instância.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache implements MeterBinder {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${security.user-cache.tamanho-maximo:1000}") long tamanhoMaximo,
+                            @Value("${security.user-cache.ttl-segundos:300}") long ttlSegundos) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Busca no cache ou carrega (e armazena) via carregador.
+     * Exceções do carregador (ex.: usuário inexistente) não são cacheadas.
+     * 
+     * Retorna sempre uma cópia: o ProviderManager apaga a senha do UserDetails
+     * após a autenticação, o que corromperia a instância em cache.
+     */
+    public UserDetails buscar(String username, Function<String, UserDetails> carregador) {
+        UserDetails usuario = cache.get(username, carregador);
+        return User.withUserDetails(usuario).build();
+    }
+
+    public void invalidar(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+            log.debug("UserDetails removido do cache: {}", username);
+        }
+    }
+
+    public void invalidarTodos() {
+        cache.invalidateAll();
+        log.debug("Cache de UserDetails limpo");
+    }
+
+    public long acertos() {
+        return cache.stats().hitCount();
+    }
+
+    public long falhas() {
+        return cache.stats().missCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "usuarios");
+    }
+}
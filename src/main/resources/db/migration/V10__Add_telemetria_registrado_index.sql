@@ -0,0 +1,3 @@
+-- V10: Índice em REGISTRADO_EM para a carga das posições em memória (PosicoesMotos)
+-- A carga lê só a janela recente de ST_TELEMETRIA em vez de agrupar o histórico inteiro
+CREATE INDEX IDX_TELEMETRIA_REGISTRADO ON ST_TELEMETRIA(REGISTRADO_EM);
@@ -0,0 +1,5 @@
+-- V11: Perfil do coletor de métricas (scrape de /actuator/prometheus via HTTP Basic)
+-- Com o prefixo ROLE_ esperado por hasRole; o usuário do coletor é criado pelo
+-- DataInitializer quando monitoramento.prometheus.senha está configurada
+INSERT INTO ST_ROLE (NOME, DESCRICAO) VALUES
+('ROLE_MONITORAMENTO', 'Coletor de métricas - apenas /actuator/prometheus');
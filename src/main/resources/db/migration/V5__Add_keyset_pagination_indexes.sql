@@ -0,0 +1,7 @@
+-- V5: Índices compostos para a listagem paginada por cursor (keyset em ID_MOTO)
+-- Permitem filtrar por status/pátio e percorrer em ordem de ID sem ordenação em memória
+CREATE INDEX IDX_MOTO_STATUS_ID ON ST_MOTO(STATUS, ID_MOTO);
+CREATE INDEX IDX_MOTO_PATIO_ID ON ST_MOTO(ID_PATIO, ID_MOTO);
+
+-- Filtro por prefixo de modelo (LIKE 'Honda%')
+CREATE INDEX IDX_MOTO_MODELO ON ST_MOTO(MODELO);
@@ -0,0 +1,5 @@
+-- V6: Índices em UPDATED_AT para a versão das listagens (ETag)
+-- MAX(UPDATED_AT) e COUNT são resolvidos pelo índice, sem ler as linhas
+CREATE INDEX IDX_MOTO_UPDATED_AT ON ST_MOTO(UPDATED_AT);
+CREATE INDEX IDX_MOTO_PATIO_UPDATED_AT ON ST_MOTO(ID_PATIO, UPDATED_AT);
+CREATE INDEX IDX_PATIO_UPDATED_AT ON ST_PATIO(UPDATED_AT);
@@ -0,0 +1,10 @@
+-- V7: Registro de remoções (tombstones) para a sincronização incremental do mobile
+CREATE TABLE ST_REMOCAO (
+    ID_REMOCAO BIGINT AUTO_INCREMENT PRIMARY KEY,
+    TIPO VARCHAR(10) NOT NULL,
+    ID_REGISTRO BIGINT NOT NULL,
+    REMOVIDO_EM TIMESTAMP NOT NULL
+);
+
+-- Percurso por cursor (REMOVIDO_EM, ID_REMOCAO) e limpeza por data
+CREATE INDEX IDX_REMOCAO_REMOVIDO_EM ON ST_REMOCAO(REMOVIDO_EM, ID_REMOCAO);
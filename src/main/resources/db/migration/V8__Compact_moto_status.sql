@@ -0,0 +1,27 @@
+-- V8: STATUS da moto como código de um caractere (MotoStatus: D, U, M)
+-- Normaliza os valores livres gravados até aqui (caixa, espaços, acentos) antes da conversão.
+-- UPDATED_AT é mantido: o status exposto pela API não muda, então não há o que sincronizar.
+--
+-- Valores não reconhecidos NÃO são convertidos: permanecem como estão e a migração
+-- falha na validação de CK_MOTO_STATUS, sem alterar o tipo da coluna. Para listar as
+-- motos a corrigir antes de rodar novamente:
+--   SELECT ID_MOTO, PLACA, STATUS FROM ST_MOTO
+--   WHERE REPLACE(REPLACE(UPPER(TRIM(STATUS)), ' ', '_'), 'Ç', 'C')
+--         NOT IN ('DISPONIVEL', 'DISPONÍVEL', 'EM_USO', 'MANUTENCAO', 'MANUTENCÃO', 'D', 'U', 'M');
+UPDATE ST_MOTO
+SET STATUS = CASE REPLACE(REPLACE(UPPER(TRIM(STATUS)), ' ', '_'), 'Ç', 'C')
+        WHEN 'DISPONIVEL' THEN 'D'
+        WHEN 'DISPONÍVEL' THEN 'D'
+        WHEN 'EM_USO' THEN 'U'
+        WHEN 'MANUTENCAO' THEN 'M'
+        WHEN 'MANUTENCÃO' THEN 'M'
+        WHEN 'D' THEN 'D'
+        WHEN 'U' THEN 'U'
+        WHEN 'M' THEN 'M'
+        ELSE STATUS
+    END,
+    UPDATED_AT = UPDATED_AT;
+
+-- Falha aqui (constraint violada) se restou algum status não reconhecido
+ALTER TABLE ST_MOTO ADD CONSTRAINT CK_MOTO_STATUS CHECK (STATUS IN ('D', 'U', 'M'));
+ALTER TABLE ST_MOTO ALTER COLUMN STATUS SET DATA TYPE VARCHAR(1);
@@ -0,0 +1,15 @@
+-- V9: Leituras de telemetria dos sensores IoT das motos (posição, bateria)
+-- Gravadas em lote pelo TelemetriaService. Sem FK para ST_MOTO: a checagem por linha
+-- pesaria na ingestão e a remoção de uma moto não deve esperar pelo seu histórico.
+CREATE TABLE ST_TELEMETRIA (
+    ID_TELEMETRIA BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ID_MOTO BIGINT NOT NULL,
+    LATITUDE DOUBLE PRECISION NOT NULL,
+    LONGITUDE DOUBLE PRECISION NOT NULL,
+    BATERIA SMALLINT,
+    REGISTRADO_EM TIMESTAMP NOT NULL,
+    RECEBIDO_EM TIMESTAMP NOT NULL
+);
+
+-- Histórico de uma moto por período
+CREATE INDEX IDX_TELEMETRIA_MOTO ON ST_TELEMETRIA(ID_MOTO, REGISTRADO_EM);
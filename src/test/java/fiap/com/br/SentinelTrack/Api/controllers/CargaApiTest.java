@@ -0,0 +1,220 @@
+package fiap.com.br.SentinelTrack.Api.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Teste de carga em processo sobre H2 com a massa do GeradorDadosCarga
+ * 
+ * Fora do ./gradlew test; executar com ./gradlew testCarga
+ * (ajustes: -Dcarga.motos=200000 -Dcarga.threads=16 -Dcarga.duracao-segundos=30)
+ * Para cada endpoint, reporta vazão (req/s) e latências p50/p95/p99/máx.
+ */
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=WARN"})
+@ActiveProfiles({"dev", "carga"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("API - Teste de Carga")
+class CargaApiTest {
+
+    private static final int LEITURAS_POR_ENVIO = 500;
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int porta;
+
+    @Value("${carga.threads:8}")
+    private int threads;
+
+    @Value("${carga.duracao-segundos:15}")
+    private int duracaoSegundos;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${carga.senha:carga123}")
+    private String senha;
+
+    // Chave do perfil dev (telemetria.dispositivos.chaves)
+    @Value("${carga.chave-dispositivo:dispositivo-dev}")
+    private String chaveDispositivo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient clienteMobile = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final HttpClient clienteWeb = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private String token;
+
+    @BeforeAll
+    void autenticar() throws Exception {
+        HttpResponse<String> login = clienteMobile.send(HttpRequest.newBuilder(uri("/api/mobile/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"carga0001@carga.local\",\"senha\":\"" + senha + "\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        JsonNode corpo = objectMapper.readTree(login.body());
+        token = corpo.get("token").asText();
+
+        // Login do painel web (formulário com token CSRF)
+        String pagina = clienteWeb.send(HttpRequest.newBuilder(uri("/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher csrf = CSRF.matcher(pagina);
+        assertThat(csrf.find()).as("token CSRF na página de login").isTrue();
+        String formulario = "username=carga0001&password=" + URLEncoder.encode(senha, StandardCharsets.UTF_8)
+                + "&_csrf=" + URLEncoder.encode(csrf.group(1), StandardCharsets.UTF_8);
+        HttpResponse<Void> loginWeb = clienteWeb.send(HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(formulario))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        assertThat(loginWeb.headers().firstValue("Location")).hasValueSatisfying(
+                destino -> assertThat(destino).endsWith("/dashboard"));
+    }
+
+    @Test
+    @DisplayName("GET /api/mobile/motos")
+    void listarMotos() throws Exception {
+        executar("GET /api/mobile/motos?tamanho=50", clienteMobile, autenticado("/api/mobile/motos?tamanho=50"));
+    }
+
+    @Test
+    @DisplayName("GET /api/mobile/dashboard")
+    void dashboardMobile() throws Exception {
+        executar("GET /api/mobile/dashboard", clienteMobile, autenticado("/api/mobile/dashboard"));
+    }
+
+    @Test
+    @DisplayName("GET /relatorios")
+    void relatorios() throws Exception {
+        executar("GET /relatorios", clienteWeb, HttpRequest.newBuilder(uri("/relatorios")).GET().build());
+    }
+
+    /**
+     * Vazão em leituras/s = req/s x LEITURAS_POR_ENVIO (meta: 20 mil leituras/s)
+     */
+    @Test
+    @DisplayName("POST /api/iot/telemetry")
+    void telemetria() throws Exception {
+        StringBuilder lote = new StringBuilder("[");
+        for (int i = 1; i <= LEITURAS_POR_ENVIO; i++) {
+            lote.append(i > 1 ? "," : "")
+                .append("{\"idMoto\":").append(i)
+                .append(",\"latitude\":-23.5").append(i % 10)
+                .append(",\"longitude\":-46.6").append(i % 10)
+                .append(",\"bateria\":").append(i % 101).append('}');
+        }
+        HttpRequest requisicao = HttpRequest.newBuilder(uri("/api/iot/telemetry"))
+                .header("Content-Type", "application/json")
+                .header("X-Chave-Dispositivo", chaveDispositivo)
+                .POST(HttpRequest.BodyPublishers.ofString(lote.append(']').toString()))
+                .build();
+        executar("POST /api/iot/telemetry x" + LEITURAS_POR_ENVIO + " leituras", clienteMobile, requisicao);
+    }
+
+    private HttpRequest autenticado(String caminho) {
+        return HttpRequest.newBuilder(uri(caminho)).header("Authorization", "Bearer " + token).GET().build();
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + caminho);
+    }
+
+    /**
+     * Dispara a requisição em paralelo durante o tempo configurado (após 2 s de aquecimento)
+     * e imprime o relatório de vazão e latência
+     */
+    private void executar(String nome, HttpClient cliente, HttpRequest requisicao) throws Exception {
+        medir(cliente, requisicao, 2);
+        Resultado resultado = medir(cliente, requisicao, duracaoSegundos);
+
+        System.out.printf("%n[carga] %-40s virtual=%b threads=%d req=%d erros=%d vazao=%.1f req/s p50=%.2f ms p95=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                nome, virtualThreads, threads, resultado.latencias.length, resultado.erros,
+                resultado.latencias.length / (double) duracaoSegundos,
+                resultado.percentil(50), resultado.percentil(95), resultado.percentil(99), resultado.percentil(100));
+
+        assertThat(resultado.erros).as("respostas com erro em " + nome).isZero();
+    }
+
+    private Resultado medir(HttpClient cliente, HttpRequest requisicao, int segundos) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long fim = System.nanoTime() + Duration.ofSeconds(segundos).toNanos();
+        AtomicLong erros = new AtomicLong();
+        List<Future<long[]>> tarefas = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tarefas.add(executor.submit(() -> {
+                long[] latencias = new long[1024];
+                int total = 0;
+                while (System.nanoTime() < fim) {
+                    long inicio = System.nanoTime();
+                    HttpResponse<byte[]> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+                    long latencia = System.nanoTime() - inicio;
+                    // 2xx: a telemetria responde 202; 429 (buffer cheio) conta como erro
+                    if (resposta.statusCode() / 100 != 2) {
+                        erros.incrementAndGet();
+                    }
+                    if (total == latencias.length) {
+                        latencias = Arrays.copyOf(latencias, total * 2);
+                    }
+                    latencias[total++] = latencia;
+                }
+                return Arrays.copyOf(latencias, total);
+            }));
+        }
+
+        List<long[]> parciais = new ArrayList<>();
+        for (Future<long[]> tarefa : tarefas) {
+            parciais.add(tarefa.get());
+        }
+        executor.shutdown();
+
+        long[] todas = parciais.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Resultado(todas, erros.get());
+    }
+
+    private record Resultado(long[] latencias, long erros) {
+
+        double percentil(double p) {
+            if (latencias.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(p / 100.0 * latencias.length) - 1;
+            return latencias[Math.max(indice, 0)] / 1_000_000.0;
+        }
+    }
+}
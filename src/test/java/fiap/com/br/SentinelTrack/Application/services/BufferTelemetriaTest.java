@@ -0,0 +1,106 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para BufferTelemetria, incluindo vários produtores concorrentes
+ */
+@DisplayName("BufferTelemetria - Testes Unitários")
+class BufferTelemetriaTest {
+
+    private static final int PRODUTORES = 8;
+    private static final int ITENS_POR_PRODUTOR = 20_000;
+    private static final long FATOR_PRODUTOR = 1_000_000L;
+
+    @Test
+    @DisplayName("Deve aceitar o lote inteiro ou nada e drenar na ordem de reserva")
+    void deveAceitarLoteInteiroOuNada() {
+        // Arrange - Capacidade arredondada para 4
+        BufferTelemetria<Integer> buffer = new BufferTelemetria<>(3);
+        List<Integer> destino = new ArrayList<>();
+
+        // Act & Assert
+        assertThat(buffer.capacidade()).isEqualTo(4);
+        assertThat(buffer.oferecer(List.of(1, 2, 3))).isTrue();
+        assertThat(buffer.oferecer(List.of(4, 5))).isFalse();
+        assertThat(buffer.drenar(destino, 2)).isEqualTo(2);
+        assertThat(buffer.oferecer(List.of(4, 5))).isTrue();
+        assertThat(buffer.drenar(destino, 10)).isEqualTo(3);
+        assertThat(destino).containsExactly(1, 2, 3, 4, 5);
+        assertThat(buffer.ocupacao()).isZero();
+    }
+
+    @Test
+    @Timeout(60)
+    @DisplayName("Deve entregar cada item exatamente uma vez com vários produtores e um consumidor")
+    void deveEntregarCadaItemUmaVezSobConcorrencia() throws Exception {
+        // Arrange - Buffer pequeno: força volta do anel e lotes recusados por falta de espaço
+        BufferTelemetria<Long> buffer = new BufferTelemetria<>(256);
+        ExecutorService produtores = Executors.newFixedThreadPool(PRODUTORES);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> envios = new ArrayList<>();
+        for (int p = 0; p < PRODUTORES; p++) {
+            long produtor = p;
+            envios.add(produtores.submit(() -> {
+                largada.await();
+                int enviados = 0;
+                while (enviados < ITENS_POR_PRODUTOR) {
+                    // Lotes de 1 a 7 itens
+                    int tamanho = Math.min(1 + (enviados % 7), ITENS_POR_PRODUTOR - enviados);
+                    List<Long> lote = new ArrayList<>(tamanho);
+                    for (int i = 0; i < tamanho; i++) {
+                        lote.add(produtor * FATOR_PRODUTOR + enviados + i);
+                    }
+                    if (buffer.oferecer(lote)) {
+                        enviados += tamanho;
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Act - O teste é o único consumidor
+        largada.countDown();
+        long[] proximoPorProdutor = new long[PRODUTORES];
+        List<Long> lote = new ArrayList<>(64);
+        long recebidos = 0;
+        long total = (long) PRODUTORES * ITENS_POR_PRODUTOR;
+        while (recebidos < total) {
+            lote.clear();
+            if (buffer.drenar(lote, 64) == 0) {
+                Thread.yield();
+                continue;
+            }
+            for (Long item : lote) {
+                int produtor = (int) (item / FATOR_PRODUTOR);
+                // Sequência de cada produtor sem lacunas nem repetições
+                assertThat(item % FATOR_PRODUTOR).isEqualTo(proximoPorProdutor[produtor]);
+                proximoPorProdutor[produtor]++;
+            }
+            recebidos += lote.size();
+        }
+        for (Future<?> envio : envios) {
+            envio.get(10, TimeUnit.SECONDS);
+        }
+        produtores.shutdown();
+
+        // Assert
+        assertThat(proximoPorProdutor).containsOnly(ITENS_POR_PRODUTOR);
+        assertThat(buffer.drenar(lote, 64)).isZero();
+        assertThat(buffer.ocupacao()).isZero();
+    }
+}
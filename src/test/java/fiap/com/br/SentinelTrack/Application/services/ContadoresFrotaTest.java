@@ -0,0 +1,173 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.DistribuicaoPatioDTO;
+import fiap.com.br.SentinelTrack.Application.dto.EstatisticasFrotaDTO;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ContadoresFrota
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContadoresFrota - Testes Unitários")
+class ContadoresFrotaTest {
+
+    @Mock
+    private MotoRepository motoRepository;
+
+    @Mock
+    private DiretorioPatios diretorio;
+
+    @InjectMocks
+    private ContadoresFrota contadores;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Frota inicial: Central (3 disponíveis, 1 em uso) e Norte (2 em manutenção)
+        Map<Long, String> nomes = new LinkedHashMap<>();
+        nomes.put(1L, "Pátio Central");
+        nomes.put(2L, "Pátio Norte");
+        lenient().when(diretorio.nomesPorId()).thenReturn(nomes);
+        when(motoRepository.contarPorPatioEStatus()).thenReturn(Arrays.asList(
+            contagem(1L, MotoStatus.DISPONIVEL, 3L),
+            contagem(1L, MotoStatus.EM_USO, 1L),
+            contagem(2L, MotoStatus.MANUTENCAO, 2L)
+        ));
+        contadores.inicializar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve montar as estatísticas a partir da carga inicial sem novas consultas")
+    void deveMontarEstatisticasDaCargaInicial() {
+        // Act
+        EstatisticasFrotaDTO resultado = contadores.estatisticas();
+        contadores.estatisticas();
+
+        // Assert
+        assertThat(resultado.getTotalMotos()).isEqualTo(6L);
+        assertThat(resultado.getTotalPatios()).isEqualTo(2L);
+        assertThat(resultado.totalPorStatus(MotoStatus.DISPONIVEL)).isEqualTo(3L);
+        assertThat(resultado.totalPorStatus(MotoStatus.MANUTENCAO)).isEqualTo(2L);
+        assertThat(resultado.getDistribuicaoPatios())
+            .extracting(DistribuicaoPatioDTO::getNomePatio, DistribuicaoPatioDTO::getTotalMotos)
+            .containsExactly(tuple("Pátio Central", 4L), tuple("Pátio Norte", 2L));
+
+        verify(motoRepository, times(1)).contarPorPatioEStatus();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar entradas, alterações e saídas sem transação ativa")
+    void deveAplicarAjustesSemTransacao() {
+        // Act
+        contadores.registrarEntrada(2L, MotoStatus.DISPONIVEL);
+        contadores.registrarAlteracao(1L, MotoStatus.EM_USO, 2L, MotoStatus.MANUTENCAO);
+        contadores.registrarSaida(1L, MotoStatus.DISPONIVEL);
+
+        // Assert
+        EstatisticasFrotaDTO resultado = contadores.estatisticas();
+        assertThat(resultado.getTotalMotos()).isEqualTo(6L);
+        assertThat(resultado.getMotosPorStatus())
+            .containsOnly(entry(MotoStatus.DISPONIVEL, 3L), entry(MotoStatus.MANUTENCAO, 3L));
+    }
+
+    @Test
+    @DisplayName("Deve ajustar os contadores somente após o commit")
+    void deveAjustarSomenteAposCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        contadores.registrarEntrada(1L, MotoStatus.DISPONIVEL);
+
+        // Assert
+        assertThat(contadores.estatisticas().getTotalMotos()).isEqualTo(6L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(contadores.estatisticas().getTotalMotos()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar ajustes de transação desfeita")
+    void deveIgnorarRollback() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        contadores.registrarSaida(1L, MotoStatus.DISPONIVEL);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertThat(contadores.estatisticas().totalPorStatus(MotoStatus.DISPONIVEL)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Deve substituir os contadores pelos valores do banco na reconciliação")
+    void deveReconciliarComOBanco() {
+        // Arrange
+        contadores.registrarEntrada(1L, MotoStatus.DISPONIVEL);
+        when(motoRepository.contarPorPatioEStatus())
+            .thenReturn(Collections.singletonList(contagem(1L, MotoStatus.DISPONIVEL, 10L)));
+
+        // Act
+        contadores.reconciliar();
+
+        // Assert
+        EstatisticasFrotaDTO resultado = contadores.estatisticas();
+        assertThat(resultado.getTotalMotos()).isEqualTo(10L);
+        assertThat(resultado.getDistribuicaoPatios()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a leitura do banco que concorreu com um ajuste e ler de novo")
+    void deveRelerQuandoAjusteConcorreComReconciliacao() {
+        // Arrange - Uma saída chega durante a primeira leitura; o banco já a enxerga
+        when(motoRepository.contarPorPatioEStatus())
+            .thenAnswer(invocacao -> {
+                contadores.registrarSaida(1L, MotoStatus.DISPONIVEL);
+                return Collections.singletonList(contagem(1L, MotoStatus.DISPONIVEL, 2L));
+            })
+            .thenReturn(Collections.singletonList(contagem(1L, MotoStatus.DISPONIVEL, 2L)));
+
+        // Act
+        contadores.reconciliar();
+
+        // Assert - Sem saída contada duas vezes
+        assertThat(contadores.estatisticas().getTotalMotos()).isEqualTo(2L);
+        verify(motoRepository, times(3)).contarPorPatioEStatus();
+    }
+
+    private MotoRepository.ContagemPorPatioEStatus contagem(Long idPatio, MotoStatus status, Long total) {
+        return new MotoRepository.ContagemPorPatioEStatus() {
+            public Long getIdPatio() { return idPatio; }
+            public String getNomePatio() { return null; }
+            public MotoStatus getStatus() { return status; }
+            public Long getTotal() { return total; }
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para EstadoRecarregavel
+ * Ajustes "concorrentes" são aplicados de dentro da carga, enquanto a leitura do banco está em andamento
+ */
+@DisplayName("EstadoRecarregavel - Testes Unitários")
+class EstadoRecarregavelTest {
+
+    private final AtomicReference<Runnable> duranteCarga = new AtomicReference<>(() -> { });
+
+    private Set<String> carga(String... banco) {
+        duranteCarga.getAndSet(() -> { }).run();
+        return new TreeSet<>(Set.of(banco));
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar no estado novo os ajustes feitos durante a recarga")
+    void deveReaplicarAjustesDuranteRecarga() {
+        // Arrange
+        EstadoRecarregavel<Set<String>> estado = new EstadoRecarregavel<>(() -> carga("ABC1234"));
+        estado.recarregar();
+        duranteCarga.set(() -> estado.aplicar(placas -> {
+            placas.add("XYZ9876");
+            return placas;
+        }));
+
+        // Act
+        estado.recarregar();
+
+        // Assert - o banco lido não tinha a placa incluída durante a leitura
+        assertThat(estado.atual()).containsExactly("ABC1234", "XYZ9876");
+    }
+
+    @Test
+    @DisplayName("Deve descartar ajustes anteriores à carga inicial")
+    void deveDescartarAjustesAntesDaCarga() {
+        // Arrange
+        EstadoRecarregavel<Set<String>> estado = new EstadoRecarregavel<>(() -> carga("ABC1234"));
+
+        // Act
+        estado.aplicar(placas -> {
+            placas.add("XYZ9876");
+            return placas;
+        });
+
+        // Assert
+        assertThat(estado.atualOuNulo()).isNull();
+        assertThat(estado.atual()).containsExactly("ABC1234");
+    }
+
+    @Test
+    @DisplayName("Deve manter o estado atual quando a leitura não foi consistente")
+    void deveManterEstadoEmLeituraInconsistente() {
+        // Arrange
+        EstadoRecarregavel<Set<String>> estado = new EstadoRecarregavel<>(() -> carga("ABC1234"));
+        estado.recarregarSeConsistente();
+        duranteCarga.set(() -> estado.aplicar(placas -> {
+            placas.add("XYZ9876");
+            return placas;
+        }));
+
+        // Act
+        boolean trocou = estado.recarregarSeConsistente();
+
+        // Assert
+        assertThat(trocou).isFalse();
+        assertThat(estado.atual()).containsExactly("ABC1234", "XYZ9876");
+        assertThat(estado.recarregarSeConsistente()).isTrue();
+        assertThat(estado.atual()).containsExactly("ABC1234");
+    }
+
+    @Test
+    @DisplayName("Deve liberar o registro de ajustes quando a carga falha")
+    void deveLiberarRegistroQuandoCargaFalha() {
+        // Arrange
+        EstadoRecarregavel<Set<String>> estado = new EstadoRecarregavel<>(() -> carga("ABC1234"));
+        estado.recarregar();
+        duranteCarga.set(() -> {
+            throw new IllegalStateException("banco indisponível");
+        });
+
+        // Act & Assert
+        assertThatThrownBy(estado::recarregar).isInstanceOf(IllegalStateException.class);
+        estado.aplicar(placas -> {
+            placas.add("XYZ9876");
+            return placas;
+        });
+        assertThat(estado.recarregar()).containsExactly("ABC1234");
+    }
+}
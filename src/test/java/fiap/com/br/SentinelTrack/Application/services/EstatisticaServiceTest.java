@@ -0,0 +1,111 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.DistribuicaoPatioDTO;
+import fiap.com.br.SentinelTrack.Application.dto.EstatisticasFrotaDTO;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EstatisticaService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EstatisticaService - Testes Unitários")
+class EstatisticaServiceTest {
+
+    @Mock
+    private MotoRepository motoRepository;
+
+    @Mock
+    private PatioRepository patioRepository;
+
+    @InjectMocks
+    private EstatisticaService estatisticaService;
+
+    @Test
+    @DisplayName("Deve consolidar contagens por status e por pátio")
+    void deveConsolidarContagens() {
+        // Arrange
+        when(motoRepository.contarPorPatioEStatus()).thenReturn(Arrays.asList(
+            contagem(1L, "Pátio Central", MotoStatus.DISPONIVEL, 3L),
+            contagem(1L, "Pátio Central", MotoStatus.EM_USO, 1L),
+            contagem(2L, "Pátio Norte", MotoStatus.DISPONIVEL, 2L),
+            contagem(2L, "Pátio Norte", MotoStatus.MANUTENCAO, 4L)
+        ));
+        when(patioRepository.count()).thenReturn(3L);
+
+        // Act
+        EstatisticasFrotaDTO resultado = estatisticaService.obterEstatisticas();
+
+        // Assert
+        assertThat(resultado.getTotalMotos()).isEqualTo(10L);
+        assertThat(resultado.getTotalPatios()).isEqualTo(3L);
+        assertThat(resultado.totalPorStatus(MotoStatus.DISPONIVEL)).isEqualTo(5L);
+        assertThat(resultado.totalPorStatus(MotoStatus.EM_USO)).isEqualTo(1L);
+        assertThat(resultado.totalPorStatus(MotoStatus.MANUTENCAO)).isEqualTo(4L);
+        assertThat(resultado.percentualPorStatus(MotoStatus.DISPONIVEL)).isEqualTo(50.0);
+
+        assertThat(resultado.getDistribuicaoPatios())
+            .extracting(DistribuicaoPatioDTO::getNomePatio, DistribuicaoPatioDTO::getTotalMotos)
+            .containsExactly(tuple("Pátio Central", 4L), tuple("Pátio Norte", 6L));
+
+        verify(motoRepository).contarPorPatioEStatus();
+        verify(motoRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve retornar zeros quando não há motos")
+    void deveRetornarZerosSemMotos() {
+        // Arrange
+        when(motoRepository.contarPorPatioEStatus()).thenReturn(Collections.emptyList());
+        when(patioRepository.count()).thenReturn(0L);
+
+        // Act
+        EstatisticasFrotaDTO resultado = estatisticaService.obterEstatisticas();
+
+        // Assert
+        assertThat(resultado.getTotalMotos()).isZero();
+        assertThat(resultado.totalPorStatus(MotoStatus.DISPONIVEL)).isZero();
+        assertThat(resultado.percentualPorStatus(MotoStatus.DISPONIVEL)).isZero();
+        assertThat(resultado.getDistribuicaoPatios()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve contar motos por status")
+    void deveContarPorStatus() {
+        // Arrange
+        MotoRepository.ContagemPorStatus disponiveis = mock(MotoRepository.ContagemPorStatus.class);
+        when(disponiveis.getStatus()).thenReturn(MotoStatus.DISPONIVEL);
+        when(disponiveis.getTotal()).thenReturn(7L);
+        when(motoRepository.contarPorStatus()).thenReturn(Collections.singletonList(disponiveis));
+
+        // Act
+        Map<MotoStatus, Long> resultado = estatisticaService.contarPorStatus();
+
+        // Assert
+        assertThat(resultado).containsExactly(entry(MotoStatus.DISPONIVEL, 7L));
+        verify(motoRepository).contarPorStatus();
+    }
+
+    private MotoRepository.ContagemPorPatioEStatus contagem(Long idPatio, String nomePatio, MotoStatus status, Long total) {
+        return new MotoRepository.ContagemPorPatioEStatus() {
+            public Long getIdPatio() { return idPatio; }
+            public String getNomePatio() { return nomePatio; }
+            public MotoStatus getStatus() { return status; }
+            public Long getTotal() { return total; }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.VersaoColecao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para FiltroPlacas
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiltroPlacas - Testes Unitários")
+class FiltroPlacasTest {
+
+    @Mock
+    private MotoRepository motoRepository;
+
+    private FiltroPlacas filtro;
+
+    private final LocalDateTime carga = LocalDateTime.of(2024, 5, 10, 8, 0);
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Frota com placas nos dois formatos
+        filtro = new FiltroPlacas(motoRepository, 0.01, 5000L);
+        when(motoRepository.versao()).thenReturn(versao(3L, carga));
+        when(motoRepository.listarPlacas()).thenReturn(Arrays.asList(
+            placa(1L, "ABC1234"),
+            placa(2L, "ABC1D23"),
+            placa(3L, "XYZ9876")
+        ));
+        filtro.inicializar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aprovar placas cadastradas em qualquer formato e grafia")
+    void deveAprovarPlacasCadastradas() {
+        // Act & Assert
+        assertThat(filtro.talvezCadastrada("ABC1234")).isTrue();
+        assertThat(filtro.talvezCadastrada("abc-1c34")).isTrue();
+        assertThat(filtro.talvezCadastrada("ABC1323")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve descartar placas desconhecidas e contabilizar a taxa observada")
+    void deveDescartarPlacasDesconhecidas() {
+        // Act - Só conta como falso positivo a placa que o filtro aprovou
+        boolean desconhecida = filtro.talvezCadastrada("QWE5R67");
+        filtro.registrarFalsoPositivo("QWE5R67");
+        filtro.registrarFalsoPositivo("ABC1234");
+
+        // Assert
+        assertThat(desconhecida).isFalse();
+        assertThat(filtro.taxaFalsosPositivosObservada()).isEqualTo(0.5);
+        assertThat(filtro.taxaFalsosPositivosEstimada()).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("Deve incluir a placa cadastrada somente após o commit")
+    void deveIncluirSomenteAposCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        filtro.registrar("NEW1A23");
+
+        // Assert
+        assertThat(filtro.talvezCadastrada("NEW1A23")).isFalse();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(filtro.talvezCadastrada("NEW1A23")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve retirar placas excluídas na reconstrução e medir o tempo")
+    void deveReconstruirSemPlacasExcluidas() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filtro.bindTo(registry);
+        when(motoRepository.listarPlacas()).thenReturn(List.of(placa(1L, "ABC1234")));
+
+        // Act
+        filtro.reconstruir();
+
+        // Assert
+        assertThat(filtro.talvezCadastrada("XYZ9876")).isFalse();
+        assertThat(filtro.talvezCadastrada("ABC1234")).isTrue();
+        assertThat(registry.get("placas.filtro.reconstrucao").functionTimer().count()).isEqualTo(2.0);
+        assertThat(registry.get("placas.filtro.consultas").tag("resultado", "descartada").functionCounter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve manter a placa cadastrada durante a reconstrução")
+    void deveManterCadastroConcorrenteComReconstrucao() {
+        // Arrange - O cadastro é confirmado enquanto o banco é lido (a leitura não o enxerga)
+        when(motoRepository.listarPlacas()).thenAnswer(invocacao -> {
+            filtro.registrar("NEW1A23");
+            return List.of(placa(1L, "ABC1234"));
+        });
+
+        // Act
+        filtro.reconstruir();
+
+        // Assert
+        assertThat(filtro.talvezCadastrada("NEW1A23")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve ler placas quando a versão das motos não mudou")
+    void naoDeveLerPlacasSemMudancaDeVersao() {
+        // Act
+        filtro.sincronizar();
+
+        // Assert
+        verify(motoRepository, never()).listarPlacasAlteradas(any());
+    }
+
+    @Test
+    @DisplayName("Deve incluir as placas gravadas por outra instância quando a versão muda")
+    void deveIncluirPlacasDeOutraInstancia() {
+        // Arrange
+        when(motoRepository.versao()).thenReturn(versao(4L, carga.plusSeconds(30)));
+        when(motoRepository.listarPlacasAlteradas(carga.minusSeconds(5)))
+            .thenReturn(List.of(placa(4L, "QWE5R67")));
+
+        // Act
+        filtro.sincronizar();
+        filtro.sincronizar();
+
+        // Assert - A segunda verificação já vê a versão nova
+        assertThat(filtro.talvezCadastrada("QWE5R67")).isTrue();
+        verify(motoRepository, times(1)).listarPlacasAlteradas(any());
+    }
+
+    private MotoRepository.PlacaMoto placa(Long id, String placa) {
+        return new MotoRepository.PlacaMoto() {
+            public Long getId() { return id; }
+            public String getPlaca() { return placa; }
+        };
+    }
+
+    private VersaoColecao versao(Long total, LocalDateTime ultimaAtualizacao) {
+        return new VersaoColecao() {
+            public Long getTotal() { return total; }
+            public LocalDateTime getUltimaAtualizacao() { return ultimaAtualizacao; }
+        };
+    }
+}
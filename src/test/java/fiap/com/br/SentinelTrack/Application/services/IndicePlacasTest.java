@@ -0,0 +1,218 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.SugestaoPlacaDTO;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.VersaoColecao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para IndicePlacas
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IndicePlacas - Testes Unitários")
+class IndicePlacasTest {
+
+    @Mock
+    private MotoRepository motoRepository;
+
+    private IndicePlacas indice;
+
+    private final LocalDateTime carga = LocalDateTime.of(2024, 5, 10, 8, 0);
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Frota com placas nos dois formatos
+        indice = new IndicePlacas(motoRepository, 5000L);
+        when(motoRepository.versao()).thenReturn(versao(3L, carga));
+        when(motoRepository.listarPlacas()).thenReturn(Arrays.asList(
+            placa(1L, "ABC1234"),
+            placa(2L, "ABC1D23"),
+            placa(3L, "XYZ9876")
+        ));
+        indice.inicializar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve sugerir placas por prefixo em ordem, ignorando caixa e hífen")
+    void deveSugerirPorPrefixo() {
+        // Act
+        var resultado = indice.sugerir("abc-1", 10);
+
+        // Assert
+        assertThat(resultado).extracting(SugestaoPlacaDTO::getPlaca)
+            .containsExactly("ABC1234", "ABC1D23");
+        verify(motoRepository, times(1)).listarPlacas();
+    }
+
+    @Test
+    @DisplayName("Deve tratar o prefixo no formato antigo e no Mercosul como equivalentes")
+    void deveSugerirFormatosEquivalentes() {
+        // Act & Assert
+        assertThat(indice.sugerir("ABC12", 10)).extracting(SugestaoPlacaDTO::getId).containsExactly(1L);
+        assertThat(indice.sugerir("ABC1C", 10)).extracting(SugestaoPlacaDTO::getId).containsExactly(1L);
+        assertThat(indice.sugerir("ABC13", 10)).extracting(SugestaoPlacaDTO::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a mesma placa no outro formato")
+    void deveBuscarEquivalente() {
+        // Act & Assert
+        assertThat(indice.buscarEquivalente("ABC1C34")).contains(1L);
+        assertThat(indice.buscarEquivalente("ABC1323")).contains(2L);
+        assertThat(indice.buscarEquivalente("ABC9999")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de sugestões")
+    void deveLimitarSugestoes() {
+        // Act & Assert
+        assertThat(indice.sugerir("A", 1)).hasSize(1);
+        assertThat(indice.sugerir("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve refletir cadastros, alterações e remoções somente após o commit")
+    void deveAjustarAposCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        indice.registrar(4L, "DEF5G67");
+        indice.registrarAlteracao(3L, "XYZ9876", "XYZ9J76");
+        indice.remover(2L, "ABC1D23");
+
+        // Assert
+        assertThat(indice.sugerir("DEF", 10)).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(indice.sugerir("DEF", 10)).extracting(SugestaoPlacaDTO::getId).containsExactly(4L);
+        assertThat(indice.sugerir("XYZ", 10)).extracting(SugestaoPlacaDTO::getPlaca).containsExactly("XYZ9J76");
+        assertThat(indice.buscarEquivalente("ABC1D23")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve tirar do índice as motos removidas com o pátio somente após o commit")
+    void deveRemoverMotosDoPatioAposCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        indice.removerTodas(List.of(placa(1L, "ABC1234"), placa(2L, "ABC1D23")));
+
+        // Assert
+        assertThat(indice.sugerir("ABC", 10)).hasSize(2);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(indice.sugerir("ABC", 10)).isEmpty();
+        assertThat(indice.sugerir("XYZ", 10)).extracting(SugestaoPlacaDTO::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no banco, nos dois formatos, a placa ausente do índice")
+    void deveBuscarNoBancoForaDoIndice() {
+        // Arrange - Placa gravada por outra instância
+        when(motoRepository.listarPlacas(anyCollection()))
+            .thenReturn(Collections.singletonList(placa(9L, "QRS5678")));
+
+        // Act
+        var resultado = indice.buscarEquivalente("QRS5G78");
+
+        // Assert
+        assertThat(resultado).contains(9L);
+        verify(motoRepository).listarPlacas(argThat(placas -> placas.containsAll(Set.of("QRS5G78", "QRS5678"))));
+    }
+
+    @Test
+    @DisplayName("Deve manter no índice a placa cadastrada durante a reconciliação")
+    void deveManterCadastroConcorrenteComReconciliacao() {
+        // Arrange - O cadastro é confirmado enquanto o banco é lido (a leitura não o enxerga)
+        when(motoRepository.listarPlacas()).thenAnswer(invocacao -> {
+            indice.registrar(4L, "DEF5G67");
+            return Arrays.asList(placa(1L, "ABC1234"), placa(2L, "ABC1D23"), placa(3L, "XYZ9876"));
+        });
+
+        // Act
+        indice.reconciliar();
+
+        // Assert
+        assertThat(indice.sugerir("DEF", 10)).extracting(SugestaoPlacaDTO::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer motos da frota pelo ID somente pelo índice")
+    void deveReconhecerMotosDaFrota() {
+        // Arrange
+        indice.remover(3L, "XYZ9876");
+
+        // Act & Assert
+        assertThat(indice.motoCadastrada(1L)).isTrue();
+        assertThat(indice.motoCadastrada(9L)).isFalse();
+        assertThat(indice.motoCadastrada(3L)).isFalse();
+        assertThat(indice.motoCadastrada(-1L)).isFalse();
+        verify(motoRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve indexar as motos gravadas por outra instância quando a versão muda")
+    void deveSincronizarMotosDeOutraInstancia() {
+        // Arrange
+        when(motoRepository.versao()).thenReturn(versao(4L, carga.plusSeconds(30)));
+        when(motoRepository.listarPlacasAlteradas(carga.minusSeconds(5)))
+            .thenReturn(List.of(placa(9L, "QRS5G78")));
+
+        // Act
+        indice.sincronizar();
+        indice.sincronizar();
+
+        // Assert - A segunda verificação já vê a versão nova
+        assertThat(indice.motoCadastrada(9L)).isTrue();
+        assertThat(indice.sugerir("QRS", 10)).extracting(SugestaoPlacaDTO::getId).containsExactly(9L);
+        verify(motoRepository, times(1)).listarPlacasAlteradas(any());
+    }
+
+    @Test
+    @DisplayName("Deve converter a placa Mercosul para o formato antigo")
+    void deveConverterParaFormatoAntigo() {
+        // Act & Assert
+        assertThat(IndicePlacas.antiga("ABC1C34")).isEqualTo("ABC1234");
+        assertThat(IndicePlacas.antiga("ABC1234")).isEqualTo("ABC1234");
+        assertThat(IndicePlacas.antiga("ABC1K34")).isEqualTo("ABC1K34");
+    }
+
+    private MotoRepository.PlacaMoto placa(Long id, String placa) {
+        return new MotoRepository.PlacaMoto() {
+            public Long getId() { return id; }
+            public String getPlaca() { return placa; }
+        };
+    }
+
+    private VersaoColecao versao(Long total, LocalDateTime ultimaAtualizacao) {
+        return new VersaoColecao() {
+            public Long getTotal() { return total; }
+            public LocalDateTime getUltimaAtualizacao() { return ultimaAtualizacao; }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para IndiceTrigramas
+ */
+@DisplayName("IndiceTrigramas - Testes Unitários")
+class IndiceTrigramasTest {
+
+    private final IndiceTrigramas indice = new IndiceTrigramas(List.of(
+        "Honda CG 160", "Honda Biz", "Yamaha Factor", "Pátio São João", "Honda", "Biz Honda"
+    ));
+
+    @Test
+    @DisplayName("Deve ordenar por relevância: igual, prefixo, início de palavra e meio do texto")
+    void deveOrdenarPorRelevancia() {
+        // Act
+        List<String> resultado = indice.buscar("honda");
+
+        // Assert
+        assertThat(resultado).containsExactly("Honda", "Honda Biz", "Honda CG 160", "Biz Honda");
+    }
+
+    @Test
+    @DisplayName("Deve ignorar maiúsculas, acentos e espaços repetidos")
+    void deveIgnorarMaiusculasEAcentos() {
+        // Act & Assert
+        assertThat(indice.buscar("SAO  joao")).containsExactly("Pátio São João");
+        assertThat(indice.buscar("átio")).containsExactly("Pátio São João");
+    }
+
+    @Test
+    @DisplayName("Deve exigir o termo contíguo e não apenas os mesmos trigramas")
+    void deveConfirmarSubstring() {
+        // Arrange - todos os trigramas de "bcdbcd" estão em "abcdbc", mas não em sequência
+        IndiceTrigramas pequeno = new IndiceTrigramas(List.of("abcdbc"));
+
+        // Act & Assert
+        assertThat(pequeno.buscar("bcdbcd")).isEmpty();
+        assertThat(pequeno.buscar("cdbc")).containsExactly("abcdbc");
+        assertThat(indice.buscar("factory")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve buscar termos curtos pelo vocabulário e devolver tudo para termo vazio")
+    void deveBuscarTermosCurtos() {
+        // Act & Assert
+        assertThat(indice.buscar("cg")).containsExactly("Honda CG 160");
+        assertThat(indice.buscar(" ")).hasSize(6);
+    }
+}
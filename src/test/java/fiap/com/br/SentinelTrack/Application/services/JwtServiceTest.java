@@ -0,0 +1,82 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.UsuarioTokenDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para JwtService
+ */
+@DisplayName("JwtService - Testes Unitários")
+class JwtServiceTest {
+
+    private static final String SECRET = "SentinelTrackSecretKeyForChallenge2025VerySecureAndLongEnoughForHS256";
+
+    private final JwtService jwtService = new JwtService(SECRET, 60_000L);
+
+    @Test
+    @DisplayName("Deve validar token e extrair email, role e expiração")
+    void deveValidarTokenGerado() {
+        // Arrange
+        String token = jwtService.generateToken("gerente@mottu.com", "GERENTE");
+
+        // Act
+        Optional<UsuarioTokenDTO> usuario = jwtService.validar(token);
+
+        // Assert
+        assertThat(usuario).isPresent();
+        assertThat(usuario.get().getEmail()).isEqualTo("gerente@mottu.com");
+        assertThat(usuario.get().getRole()).isEqualTo("GERENTE");
+        assertThat(usuario.get().getExpiracao()).isAfter(new Date());
+        assertThat(jwtService.validateToken(token, "gerente@mottu.com")).isTrue();
+        assertThat(jwtService.validateToken(token, "outro@mottu.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token assinado com outra chave")
+    void deveRejeitarTokenComOutraChave() {
+        // Arrange
+        JwtService outroServico = new JwtService(SECRET.replace('S', 'X'), 60_000L);
+        String token = outroServico.generateToken("admin@mottu.com", "ADMIN");
+
+        // Act & Assert
+        assertThat(jwtService.validar(token)).isEmpty();
+        assertThat(jwtService.isTokenValid(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado")
+    void deveRejeitarTokenExpirado() {
+        // Arrange
+        JwtService servicoExpirado = new JwtService(SECRET, -1_000L);
+        String token = servicoExpirado.generateToken("admin@mottu.com", "ADMIN");
+
+        // Act & Assert
+        assertThat(jwtService.validar(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token sem subject e comparação com email nulo")
+    void deveRejeitarTokenSemSubject() {
+        // Arrange
+        String semSubject = jwtService.generateToken(null, "ADMIN");
+        String token = jwtService.generateToken("admin@mottu.com", "ADMIN");
+
+        // Act & Assert
+        assertThat(jwtService.validar(semSubject)).isEmpty();
+        assertThat(jwtService.validateToken(semSubject, "admin@mottu.com")).isFalse();
+        assertThat(jwtService.validateToken(token, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token malformado")
+    void deveRejeitarTokenMalformado() {
+        assertThat(jwtService.validar("nao-e-um-jwt")).isEmpty();
+        assertThat(jwtService.validar("")).isEmpty();
+    }
+}
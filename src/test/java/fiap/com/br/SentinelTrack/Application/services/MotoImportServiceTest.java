@@ -0,0 +1,158 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.CreateMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.LinhaImportacaoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResultadoImportacaoDTO;
+import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para MotoImportService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MotoImportService - Testes Unitários")
+class MotoImportServiceTest {
+
+    @Mock
+    private MotoRepository motoRepository;
+
+    @Mock
+    private PatioRepository patioRepository;
+
+    @Mock
+    private ContadoresFrota contadores;
+
+    @Mock
+    private IndicePlacas indicePlacas;
+
+    @Mock
+    private IndiceModelos indiceModelos;
+
+    @Mock
+    private FiltroPlacas filtroPlacas;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    private MotoImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new MotoImportService(motoRepository, patioRepository, new MotoMapper(), contadores, indicePlacas, indiceModelos, filtroPlacas, eventos, 10);
+        lenient().when(patioRepository.getReferenceById(1L)).thenReturn(patio(1L));
+    }
+
+    @Test
+    @DisplayName("Deve importar linhas válidas e rejeitar as inválidas com o motivo")
+    @SuppressWarnings("unchecked")
+    void deveImportarLinhasValidas() {
+        // Arrange
+        when(motoRepository.findPlacasExistentes(anyCollection())).thenReturn(List.of("DEF5678"));
+        when(patioRepository.findIdsExistentes(anyCollection())).thenReturn(List.of(1L));
+        List<CreateMotoDTO> motos = Arrays.asList(
+            moto("abc1234", 1L),
+            moto("DEF5678", 1L),
+            moto("XYZ", 1L),
+            moto("ABC1234", 1L),
+            moto("GHI9J12", 99L)
+        );
+
+        // Act
+        ResultadoImportacaoDTO resultado = importService.importar(motos);
+
+        // Assert
+        assertThat(resultado.getTotalLinhas()).isEqualTo(5);
+        assertThat(resultado.getImportadas()).isEqualTo(1);
+        assertThat(resultado.getRejeitadas()).isEqualTo(4);
+        assertThat(resultado.getLinhas()).extracting(LinhaImportacaoDTO::isImportada)
+            .containsExactly(true, false, false, false, false);
+        assertThat(resultado.getLinhas().get(3).getMotivo()).isEqualTo("Placa repetida no arquivo");
+
+        ArgumentCaptor<List<Moto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(motoRepository).inserirEmLote(captor.capture(), eq(MotoImportService.TAMANHO_LOTE));
+        assertThat(captor.getValue()).extracting(Moto::getPlaca).containsExactly("ABC1234");
+        verify(motoRepository, times(1)).findPlacasExistentes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV separado por ponto e vírgula")
+    void deveImportarCsv() throws Exception {
+        // Arrange
+        when(motoRepository.findPlacasExistentes(anyCollection())).thenReturn(List.of());
+        when(patioRepository.findIdsExistentes(anyCollection())).thenReturn(List.of(1L));
+        String csv = "modelo;placa;status;idPatio;dataEntrada\n"
+            + "Honda CG 160;ABC1234;DISPONIVEL;1;2025-01-10\n"
+            + "Yamaha Factor;ABC1D23;EM_USO;1;10/01/2025\n";
+
+        // Act
+        ResultadoImportacaoDTO resultado = importService.importarCsv(new StringReader(csv));
+
+        // Assert
+        assertThat(resultado.getImportadas()).isEqualTo(1);
+        assertThat(resultado.getLinhas().get(1).getMotivo()).startsWith("Data de entrada inválida");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linhas com status desconhecido")
+    void deveRejeitarStatusDesconhecido() {
+        // Arrange
+        CreateMotoDTO moto = moto("ABC1234", 1L);
+        moto.setStatus("ALUGADA");
+
+        // Act
+        ResultadoImportacaoDTO resultado = importService.importar(List.of(moto));
+
+        // Assert
+        assertThat(resultado.getImportadas()).isZero();
+        assertThat(resultado.getLinhas().get(0).getMotivo()).startsWith("Status inválido");
+    }
+
+    @Test
+    @DisplayName("Deve recusar importação acima do limite de linhas")
+    void deveRecusarAcimaDoLimite() {
+        // Arrange
+        List<CreateMotoDTO> motos = Collections.nCopies(11, moto("ABC1234", 1L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> importService.importar(motos))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(motoRepository);
+    }
+
+    private CreateMotoDTO moto(String placa, Long idPatio) {
+        CreateMotoDTO dto = new CreateMotoDTO();
+        dto.setModelo("Honda CG 160");
+        dto.setPlaca(placa);
+        dto.setStatus("disponivel");
+        dto.setIdPatio(idPatio);
+        dto.setDataEntrada(new Date());
+        return dto;
+    }
+
+    private Patio patio(Long id) {
+        Patio patio = new Patio();
+        patio.setId(id);
+        return patio;
+    }
+}
@@ -3,9 +3,13 @@ package fiap.com.br.SentinelTrack.Application.services;
 import fiap.com.br.SentinelTrack.Api.exception.DuplicatePlacaException;
 import fiap.com.br.SentinelTrack.Api.exception.PatioNotFoundException;
 import fiap.com.br.SentinelTrack.Application.dto.CreateMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.FiltroMotoDTO;
 import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PaginaDTO;
 import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
 import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
 import fiap.com.br.SentinelTrack.Domain.models.Patio;
 import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,11 +19,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -42,6 +50,24 @@ class MotoServiceTest {
     @Mock
     private MotoMapper mapper;
 
+    @Mock
+    private ContadoresFrota contadores;
+
+    @Mock
+    private IndicePlacas indicePlacas;
+
+    @Mock
+    private IndiceModelos indiceModelos;
+
+    @Mock
+    private FiltroPlacas filtroPlacas;
+
+    @Mock
+    private RegistroRemocoes remocoes;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
     @InjectMocks
     private MotoService motoService;
 
@@ -61,7 +87,7 @@ class MotoServiceTest {
         motoEntity.setId(1L);
         motoEntity.setModelo("Honda CG 160");
         motoEntity.setPlaca("ABC1234");
-        motoEntity.setStatus("DISPONIVEL");
+        motoEntity.setStatus(MotoStatus.DISPONIVEL);
         motoEntity.setDataEntrada(new Date());
         motoEntity.setPatio(patioEntity);
 
@@ -128,7 +154,8 @@ class MotoServiceTest {
     void deveBuscarMotoPorPlaca() {
         // Arrange
         String placa = "ABC1234";
-        when(motoRepository.findByPlaca(placa)).thenReturn(Optional.of(motoEntity));
+        when(filtroPlacas.talvezCadastrada(placa)).thenReturn(true);
+        when(motoRepository.findByPlacaIn(Set.of("ABC1234", "ABC1C34"))).thenReturn(List.of(motoEntity));
         when(mapper.toDTO(motoEntity)).thenReturn(motoDTO);
 
         // Act
@@ -139,7 +166,55 @@ class MotoServiceTest {
             .isPresent()
             .contains(motoDTO);
 
-        verify(motoRepository).findByPlaca(placa);
+        verify(motoRepository).findByPlacaIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a moto pela placa no outro formato (antigo/Mercosul)")
+    void deveBuscarMotoPorPlacaEquivalente() {
+        // Arrange
+        when(filtroPlacas.talvezCadastrada("ABC1C34")).thenReturn(true);
+        when(motoRepository.findByPlacaIn(Set.of("ABC1C34", "ABC1234"))).thenReturn(List.of(motoEntity));
+        when(mapper.toDTO(motoEntity)).thenReturn(motoDTO);
+
+        // Act
+        Optional<MotoDTO> resultado = motoService.buscarPorPlaca("abc-1c34");
+
+        // Assert - Uma única consulta, sem passar pelo índice em memória
+        assertThat(resultado).contains(motoDTO);
+        verify(motoRepository, times(1)).findByPlacaIn(anyCollection());
+        verify(filtroPlacas, never()).registrarFalsoPositivo(any());
+        verifyNoInteractions(indicePlacas);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco para placa descartada pelo filtro")
+    void naoDeveConsultarBancoParaPlacaForaDoFiltro() {
+        // Arrange
+        when(filtroPlacas.talvezCadastrada("XYZ9Z99")).thenReturn(false);
+
+        // Act
+        Optional<MotoDTO> resultado = motoService.buscarPorPlaca("xyz-9z99");
+
+        // Assert
+        assertThat(resultado).isEmpty();
+        verifyNoInteractions(motoRepository, indicePlacas);
+    }
+
+    @Test
+    @DisplayName("Deve registrar falso positivo quando o filtro aprova placa inexistente")
+    void deveRegistrarFalsoPositivoDoFiltro() {
+        // Arrange
+        when(filtroPlacas.talvezCadastrada("XYZ9Z99")).thenReturn(true);
+        when(motoRepository.findByPlacaIn(anyCollection())).thenReturn(List.of());
+
+        // Act
+        Optional<MotoDTO> resultado = motoService.buscarPorPlaca("XYZ9Z99");
+
+        // Assert
+        assertThat(resultado).isEmpty();
+        verify(filtroPlacas).registrarFalsoPositivo("XYZ9Z99");
+        verifyNoInteractions(indicePlacas);
     }
 
     @Test
@@ -147,9 +222,8 @@ class MotoServiceTest {
     void deveCriarNovaMotoComSucesso() {
         // Arrange
         when(patioService.buscarEntidadePorId(1L)).thenReturn(Optional.of(patioEntity));
-        when(motoRepository.findByPlaca(createMotoDTO.getPlaca())).thenReturn(Optional.empty());
         when(mapper.toEntity(createMotoDTO, patioEntity)).thenReturn(motoEntity);
-        when(motoRepository.save(motoEntity)).thenReturn(motoEntity);
+        when(motoRepository.saveAndFlush(motoEntity)).thenReturn(motoEntity);
         when(mapper.toDTO(motoEntity)).thenReturn(motoDTO);
 
         // Act
@@ -161,8 +235,9 @@ class MotoServiceTest {
             .isEqualTo(motoDTO);
 
         verify(patioService).buscarEntidadePorId(1L);
-        verify(motoRepository).findByPlaca(createMotoDTO.getPlaca());
-        verify(motoRepository).save(motoEntity);
+        verify(motoRepository).saveAndFlush(motoEntity);
+        verify(motoRepository, never()).findByPlaca(any());
+        verify(contadores).registrarEntrada(1L, MotoStatus.DISPONIVEL);
     }
 
     @Test
@@ -185,7 +260,8 @@ class MotoServiceTest {
     void deveLancarExcecaoAoCriarMotoComPlacaDuplicada() {
         // Arrange
         when(patioService.buscarEntidadePorId(1L)).thenReturn(Optional.of(patioEntity));
-        when(motoRepository.findByPlaca(createMotoDTO.getPlaca())).thenReturn(Optional.of(motoEntity));
+        when(mapper.toEntity(createMotoDTO, patioEntity)).thenReturn(motoEntity);
+        when(motoRepository.saveAndFlush(motoEntity)).thenThrow(violacao("23505", 23505));
 
         // Act & Assert
         assertThatThrownBy(() -> motoService.criar(createMotoDTO))
@@ -193,8 +269,35 @@ class MotoServiceTest {
             .hasMessageContaining("Já existe uma moto cadastrada com a placa: ABC1234");
 
         verify(patioService).buscarEntidadePorId(1L);
-        verify(motoRepository).findByPlaca(createMotoDTO.getPlaca());
-        verify(motoRepository, never()).save(any());
+        verify(motoRepository, never()).findByPlaca(any());
+        verifyNoInteractions(contadores);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção de placa duplicada na violação ORA-00001 do Oracle")
+    void deveLancarExcecaoDePlacaDuplicadaNoOracle() {
+        // Arrange
+        Long id = 1L;
+        when(motoRepository.findById(id)).thenReturn(Optional.of(motoEntity));
+        when(patioService.buscarEntidadePorId(1L)).thenReturn(Optional.of(patioEntity));
+        when(motoRepository.saveAndFlush(motoEntity)).thenThrow(violacao("23000", 1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> motoService.atualizar(id, createMotoDTO))
+            .isInstanceOf(DuplicatePlacaException.class);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção de pátio inexistente na violação de chave estrangeira")
+    void deveLancarExcecaoDePatioNaViolacaoDeChaveEstrangeira() {
+        // Arrange
+        when(patioService.buscarEntidadePorId(1L)).thenReturn(Optional.of(patioEntity));
+        when(mapper.toEntity(createMotoDTO, patioEntity)).thenReturn(motoEntity);
+        when(motoRepository.saveAndFlush(motoEntity)).thenThrow(violacao("23506", 23506));
+
+        // Act & Assert
+        assertThatThrownBy(() -> motoService.criar(createMotoDTO))
+            .isInstanceOf(PatioNotFoundException.class);
     }
 
     @Test
@@ -203,9 +306,8 @@ class MotoServiceTest {
         // Arrange
         Long id = 1L;
         when(motoRepository.findById(id)).thenReturn(Optional.of(motoEntity));
-        when(motoRepository.findByPlaca(createMotoDTO.getPlaca())).thenReturn(Optional.of(motoEntity));
         when(patioService.buscarEntidadePorId(1L)).thenReturn(Optional.of(patioEntity));
-        when(motoRepository.save(motoEntity)).thenReturn(motoEntity);
+        when(motoRepository.saveAndFlush(motoEntity)).thenReturn(motoEntity);
         when(mapper.toDTO(motoEntity)).thenReturn(motoDTO);
 
         // Act
@@ -218,7 +320,9 @@ class MotoServiceTest {
 
         verify(motoRepository).findById(id);
         verify(mapper).updateEntity(motoEntity, createMotoDTO, patioEntity);
-        verify(motoRepository).save(motoEntity);
+        verify(motoRepository).saveAndFlush(motoEntity);
+        verify(motoRepository, never()).findByPlaca(any());
+        verify(contadores).registrarAlteracao(1L, MotoStatus.DISPONIVEL, 1L, MotoStatus.DISPONIVEL);
     }
 
     @Test
@@ -226,15 +330,19 @@ class MotoServiceTest {
     void deveDeletarMotoExistente() {
         // Arrange
         Long id = 1L;
-        when(motoRepository.existsById(id)).thenReturn(true);
+        when(motoRepository.findById(id)).thenReturn(Optional.of(motoEntity));
+        when(mapper.toDTO(motoEntity)).thenReturn(motoDTO);
 
         // Act
         boolean resultado = motoService.deletar(id);
 
         // Assert
         assertThat(resultado).isTrue();
-        verify(motoRepository).existsById(id);
-        verify(motoRepository).deleteById(id);
+        verify(remocoes).registrarMoto(motoEntity.getId());
+        verify(motoRepository).delete(motoEntity);
+        verify(contadores).registrarSaida(1L, MotoStatus.DISPONIVEL);
+        verify(eventos).publishEvent(argThat((EventoMotoDTO evento) ->
+            EventoMotoDTO.REMOVIDA.equals(evento.getTipo()) && evento.getIdPatio().equals(1L)));
     }
 
     @Test
@@ -242,22 +350,22 @@ class MotoServiceTest {
     void deveRetornarFalseAoDeletarMotoInexistente() {
         // Arrange
         Long id = 999L;
-        when(motoRepository.existsById(id)).thenReturn(false);
+        when(motoRepository.findById(id)).thenReturn(Optional.empty());
 
         // Act
         boolean resultado = motoService.deletar(id);
 
         // Assert
         assertThat(resultado).isFalse();
-        verify(motoRepository).existsById(id);
-        verify(motoRepository, never()).deleteById(any());
+        verify(motoRepository, never()).delete(any());
+        verifyNoInteractions(contadores, remocoes);
     }
 
     @Test
     @DisplayName("Deve buscar motos por status")
     void deveBuscarMotosPorStatus() {
         // Arrange
-        String status = "DISPONIVEL";
+        MotoStatus status = MotoStatus.DISPONIVEL;
         List<Moto> motos = Arrays.asList(motoEntity);
         when(motoRepository.findByStatus(status)).thenReturn(motos);
         when(mapper.toDTO(motoEntity)).thenReturn(motoDTO);
@@ -295,22 +403,72 @@ class MotoServiceTest {
     }
 
     @Test
-    @DisplayName("Deve buscar motos por modelo")
+    @DisplayName("Deve buscar motos pelos modelos do índice em ordem de relevância")
     void deveBuscarMotosPorModelo() {
         // Arrange
         String modelo = "Honda";
-        List<Moto> motos = Arrays.asList(motoEntity);
-        when(motoRepository.findByModeloContainingIgnoreCase(modelo)).thenReturn(motos);
+        Moto outraMoto = new Moto();
+        outraMoto.setId(2L);
+        outraMoto.setModelo("Honda Biz");
+        MotoDTO outroDTO = new MotoDTO();
+        outroDTO.setId(2L);
+        List<String> modelos = Arrays.asList("Honda Biz", "Honda CG 160");
+        when(indiceModelos.buscar(modelo)).thenReturn(modelos);
+        when(motoRepository.findByModeloIn(modelos)).thenReturn(Arrays.asList(motoEntity, outraMoto));
         when(mapper.toDTO(motoEntity)).thenReturn(motoDTO);
+        when(mapper.toDTO(outraMoto)).thenReturn(outroDTO);
 
         // Act
         List<MotoDTO> resultado = motoService.buscarPorModelo(modelo);
 
         // Assert
-        assertThat(resultado)
-            .isNotNull()
-            .hasSize(1);
+        assertThat(resultado).containsExactly(outroDTO, motoDTO);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco quando nenhum modelo casa com o termo")
+    void naoDeveConsultarBancoSemModelos() {
+        // Arrange
+        when(indiceModelos.buscar("xyz")).thenReturn(List.of());
+
+        // Act
+        List<MotoDTO> resultado = motoService.buscarPorModelo("xyz");
+
+        // Assert
+        assertThat(resultado).isEmpty();
+        verifyNoInteractions(motoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve listar página de motos por cursor indicando próxima página")
+    void deveListarPaginaPorCursor() {
+        // Arrange
+        Moto outraMoto = new Moto();
+        outraMoto.setId(2L);
+        MotoDTO outraMotoDTO = new MotoDTO();
+        outraMotoDTO.setId(2L);
+
+        FiltroMotoDTO filtro = new FiltroMotoDTO();
+        filtro.setStatus(MotoStatus.DISPONIVEL);
+        when(motoRepository.buscarPorCursor(MotoStatus.DISPONIVEL, null, null, 0L, false, 2))
+            .thenReturn(Arrays.asList(motoEntity, outraMoto));
+        when(mapper.toDTO(motoEntity)).thenReturn(motoDTO);
+        when(mapper.toDTO(outraMoto)).thenReturn(outraMotoDTO);
+
+        // Act
+        PaginaDTO<MotoDTO> pagina = motoService.listarPagina(filtro, 0L, 1);
+
+        // Assert
+        assertThat(pagina.getItens()).containsExactly(motoDTO);
+        assertThat(pagina.isTemMais()).isTrue();
+        assertThat(pagina.getProximoCursor()).isEqualTo(1L);
+
+        verify(motoRepository).buscarPorCursor(MotoStatus.DISPONIVEL, null, null, 0L, false, 2);
+        verify(motoRepository, never()).findAll();
+    }
 
-        verify(motoRepository).findByModeloContainingIgnoreCase(modelo);
+    private DataIntegrityViolationException violacao(String sqlState, int codigoErro) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new SQLException("constraint violation", sqlState, codigoErro));
     }
 }
@@ -0,0 +1,164 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.CreatePatioDTO;
+import fiap.com.br.SentinelTrack.Application.mapper.PatioMapper;
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import fiap.com.br.SentinelTrack.Infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do cache de pátios (PatioService + DiretorioPatios + IndiceNomesPatios sobre Caffeine)
+ */
+@SpringJUnitConfig({CacheConfig.class, PatioService.class, DiretorioPatios.class,
+    IndiceNomesPatios.class, PatioMapper.class})
+@DisplayName("PatioService - Testes de Cache")
+class PatioServiceCacheTest {
+
+    @MockBean
+    private PatioRepository repository;
+
+    @MockBean
+    private RemocaoPatio remocaoPatio;
+
+    @Autowired
+    private PatioService patioService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Patio patio;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(nome -> cacheManager.getCache(nome).clear());
+
+        patio = new Patio();
+        patio.setId(1L);
+        patio.setNome("Pátio Central");
+        patio.setIdLocalidade(1L);
+    }
+
+    @Test
+    @DisplayName("Deve consultar a listagem de pátios uma única vez")
+    void deveCachearListagem() {
+        // Arrange
+        when(repository.findAll()).thenReturn(List.of(patio));
+
+        // Act
+        patioService.listar();
+        patioService.listar();
+        patioService.listarTodos();
+
+        // Assert
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve vincular pátio pelo diretório em cache sem consultar o pátio")
+    void deveBuscarEntidadePeloDiretorio() {
+        // Arrange
+        when(repository.listarNomes()).thenReturn(List.of(nomePatio(1L, "Pátio Central")));
+
+        // Act
+        Optional<Patio> primeiro = patioService.buscarEntidadePorId(1L);
+        Optional<Patio> segundo = patioService.buscarEntidadePorId(1L);
+        Optional<Patio> inexistente = patioService.buscarEntidadePorId(99L);
+
+        // Assert
+        assertThat(primeiro).get().extracting(Patio::getNome).isEqualTo("Pátio Central");
+        assertThat(segundo).isPresent();
+        assertThat(inexistente).isEmpty();
+        verify(repository, times(1)).listarNomes();
+        verify(repository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o pátio não está no diretório em cache")
+    void deveConsultarBancoForaDoDiretorio() {
+        // Arrange - pátio criado em outra instância depois do diretório ser carregado
+        when(repository.listarNomes()).thenReturn(List.of(nomePatio(1L, "Pátio Central")));
+        Patio novo = new Patio();
+        novo.setId(2L);
+        novo.setNome("Pátio Novo");
+        when(repository.findById(2L)).thenReturn(Optional.of(novo));
+
+        // Act
+        Optional<Patio> resultado = patioService.buscarEntidadePorId(2L);
+
+        // Assert
+        assertThat(resultado).get().extracting(Patio::getNome).isEqualTo("Pátio Novo");
+        verify(repository).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache ao criar pátio")
+    void deveInvalidarAoCriar() {
+        // Arrange
+        when(repository.findAll()).thenReturn(List.of(patio));
+        when(repository.save(any(Patio.class))).thenReturn(patio);
+        patioService.listar();
+
+        // Act
+        CreatePatioDTO novo = new CreatePatioDTO();
+        novo.setNome("Pátio Novo");
+        patioService.criar(novo);
+        patioService.listar();
+
+        // Assert
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve buscar por nome pelo índice do diretório e refazê-lo após escrita")
+    void deveBuscarPorNomePeloIndice() {
+        // Arrange
+        Patio norte = new Patio();
+        norte.setId(2L);
+        norte.setNome("Pátio Norte");
+        when(repository.listarNomes())
+            .thenReturn(List.of(nomePatio(1L, "Pátio Central"), nomePatio(2L, "Pátio Norte")))
+            .thenReturn(List.of(nomePatio(1L, "Pátio Central"), nomePatio(2L, "Pátio Norte"), nomePatio(3L, "Norte Novo")));
+        when(repository.findAllById(List.of(2L))).thenReturn(List.of(norte));
+        when(repository.save(any(Patio.class))).thenReturn(patio);
+
+        // Act
+        List<String> antes = patioService.buscarPorNome("norte").stream().map(p -> p.getNome()).toList();
+        CreatePatioDTO novo = new CreatePatioDTO();
+        novo.setNome("Norte Novo");
+        patioService.criar(novo);
+        patioService.buscarPorNome("NORTE");
+
+        // Assert
+        assertThat(antes).containsExactly("Pátio Norte");
+        verify(repository).findAllById(List.of(3L, 2L));
+        verify(repository, times(2)).listarNomes();
+    }
+
+    private PatioRepository.NomePatio nomePatio(Long id, String nome) {
+        return new PatioRepository.NomePatio() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNome() {
+                return nome;
+            }
+        };
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -38,6 +39,12 @@ class PatioServiceV2Test {
     @Mock
     private PatioMapperV2 mapper;
 
+    @Mock
+    private IndiceNomesPatios indiceNomes;
+
+    @Mock
+    private RemocaoPatio remocaoPatio;
+
     @InjectMocks
     private PatioServiceV2 patioService;
 
@@ -210,7 +217,9 @@ class PatioServiceV2Test {
 
         // Assert
         verify(repository).existsById(id);
-        verify(repository).deleteById(id);
+        InOrder ordem = inOrder(remocaoPatio, repository);
+        ordem.verify(remocaoPatio).prepararRemocao(id);
+        ordem.verify(repository).deleteById(id);
     }
 
     @Test
@@ -227,6 +236,7 @@ class PatioServiceV2Test {
 
         verify(repository).existsById(id);
         verify(repository, never()).deleteById(any());
+        verifyNoInteractions(remocaoPatio);
     }
 
     @Test
@@ -235,7 +245,8 @@ class PatioServiceV2Test {
         // Arrange
         String nome = "Teste";
         List<Patio> patios = Arrays.asList(patioEntity);
-        when(repository.findByNomeContainingIgnoreCase(nome)).thenReturn(patios);
+        when(indiceNomes.buscar(nome)).thenReturn(List.of(1L));
+        when(repository.findAllById(List.of(1L))).thenReturn(patios);
         when(mapper.toDTO(patioEntity)).thenReturn(patioDTO);
 
         // Act
@@ -247,7 +258,7 @@ class PatioServiceV2Test {
             .hasSize(1)
             .containsExactly(patioDTO);
 
-        verify(repository).findByNomeContainingIgnoreCase(nome);
+        verify(repository).findAllById(List.of(1L));
         verify(mapper).toDTO(patioEntity);
     }
 
@@ -269,7 +280,7 @@ class PatioServiceV2Test {
             .hasSize(1);
 
         verify(repository).findAll();
-        verify(repository, never()).findByNomeContainingIgnoreCase(anyString());
+        verifyNoInteractions(indiceNomes);
     }
 
     @Test
@@ -0,0 +1,220 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.PosicaoMotoDTO;
+import fiap.com.br.SentinelTrack.Domain.models.LeituraTelemetria;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.TelemetriaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para PosicoesMotos
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PosicoesMotos - Testes Unitários")
+class PosicoesMotosTest {
+
+    private static final LocalDateTime INSTANTE = LocalDateTime.of(2025, 5, 10, 14, 30, 15, 250_000_000);
+
+    @Mock
+    private TelemetriaRepository telemetriaRepository;
+
+    @Mock
+    private MotoRepository motoRepository;
+
+    private PosicoesMotos posicoes;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Carga com janela de 24 horas
+        posicoes = new PosicoesMotos(telemetriaRepository, motoRepository, 24);
+    }
+
+    @Test
+    @DisplayName("Deve manter a leitura mais recente e ignorar leituras atrasadas")
+    void deveManterLeituraMaisRecente() {
+        // Arrange
+        posicoes.atualizar(List.of(leitura(1L, -23.56, -46.65, 80, INSTANTE)));
+
+        // Act
+        posicoes.atualizar(List.of(
+            leitura(1L, -23.60, -46.70, 70, INSTANTE.minusMinutes(5)),
+            leitura(1L, -23.57, -46.66, null, INSTANTE.plusSeconds(30))
+        ));
+
+        // Assert
+        PosicaoMotoDTO posicao = posicoes.buscar(1L).orElseThrow();
+        assertThat(posicao.getLatitude()).isEqualTo(-23.57);
+        assertThat(posicao.getLongitude()).isEqualTo(-46.66);
+        assertThat(posicao.getBateria()).isNull();
+        assertThat(posicao.getRegistradoEm()).isEqualTo(INSTANTE.plusSeconds(30));
+        assertThat(posicoes.tamanho()).isEqualTo(1);
+        assertThat(posicoes.buscar(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve crescer a tabela mantendo todas as posições")
+    void deveCrescerATabela() {
+        // Arrange
+        List<LeituraTelemetria> leituras = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            leituras.add(leitura(id, id / 1000.0, -id / 1000.0, (int) (id % 100), INSTANTE));
+        }
+
+        // Act
+        posicoes.atualizar(leituras);
+
+        // Assert
+        assertThat(posicoes.tamanho()).isEqualTo(5_000);
+        for (long id = 1; id <= 5_000; id++) {
+            assertThat(posicoes.buscar(id)).get()
+                .extracting(PosicaoMotoDTO::getLatitude)
+                .isEqualTo(id / 1000.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter as demais motos acessíveis após remoções")
+    void deveManterMotosAcessiveisAposRemocoes() {
+        // Arrange
+        List<LeituraTelemetria> leituras = new ArrayList<>();
+        for (long id = 1; id <= 700; id++) {
+            leituras.add(leitura(id, -23.5, -46.6, 50, INSTANTE));
+        }
+        posicoes.atualizar(leituras);
+
+        // Act - remove os IDs pares (parte das sequências de sondagem fica com buracos)
+        for (long id = 2; id <= 700; id += 2) {
+            posicoes.remover(id);
+        }
+        posicoes.remover(9_999L);
+
+        // Assert
+        assertThat(posicoes.tamanho()).isEqualTo(350);
+        for (long id = 1; id <= 700; id++) {
+            assertThat(posicoes.buscar(id).isPresent()).as("moto %d", id).isEqualTo(id % 2 == 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve remover a posição quando a moto é removida")
+    void deveRemoverPosicaoDaMotoRemovida() {
+        // Arrange
+        posicoes.atualizar(List.of(leitura(3L, -23.56, -46.65, 80, INSTANTE)));
+        EventoMotoDTO atualizada = EventoMotoDTO.de(EventoMotoDTO.ATUALIZADA, null);
+        atualizada.setIdMoto(3L);
+        EventoMotoDTO removida = EventoMotoDTO.de(EventoMotoDTO.REMOVIDA, null);
+        removida.setIdMoto(3L);
+
+        // Act & Assert
+        posicoes.aoAlterarMoto(atualizada);
+        assertThat(posicoes.buscar(3L)).isPresent();
+
+        posicoes.aoAlterarMoto(removida);
+        assertThat(posicoes.buscar(3L)).isEmpty();
+        assertThat(posicoes.tamanho()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve recolocar a moto removida por uma leitura atrasada do buffer")
+    void naoDeveRecolocarMotoRemovida() {
+        // Arrange
+        posicoes.atualizar(List.of(leitura(3L, -23.56, -46.65, 80, INSTANTE)));
+        posicoes.remover(3L);
+
+        // Act - Leitura aceita antes da remoção, gravada depois
+        posicoes.atualizar(List.of(
+            leitura(3L, -23.57, -46.66, 79, INSTANTE.plusSeconds(10)),
+            leitura(4L, -23.58, -46.67, 60, INSTANTE.plusSeconds(10))
+        ));
+
+        // Assert
+        assertThat(posicoes.buscar(3L)).isEmpty();
+        assertThat(posicoes.buscar(4L)).isPresent();
+        assertThat(posicoes.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve remover as posições das motos removidas com o pátio")
+    void deveRemoverPosicoesDoPatioRemovido() {
+        // Arrange
+        posicoes.atualizar(List.of(
+            leitura(1L, -23.56, -46.65, 80, INSTANTE),
+            leitura(2L, -23.57, -46.66, 70, INSTANTE),
+            leitura(3L, -23.58, -46.67, 60, INSTANTE)
+        ));
+
+        // Act
+        posicoes.removerTodas(List.of(1L, 3L));
+        posicoes.atualizar(List.of(leitura(1L, -23.56, -46.65, 79, INSTANTE.plusSeconds(10))));
+
+        // Assert
+        assertThat(posicoes.buscar(1L)).isEmpty();
+        assertThat(posicoes.buscar(3L)).isEmpty();
+        assertThat(posicoes.buscar(2L)).isPresent();
+        assertThat(posicoes.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve listar as posições do pátio na ordem dos IDs, ignorando motos sem telemetria")
+    void deveListarPosicoesDoPatio() {
+        // Arrange
+        posicoes.atualizar(List.of(
+            leitura(1L, -23.56, -46.65, 80, INSTANTE),
+            leitura(4L, -23.58, -46.67, 60, INSTANTE)
+        ));
+        when(motoRepository.listarIdsPorPatio(10L)).thenReturn(Arrays.asList(4L, 2L, 1L));
+
+        // Act
+        List<PosicaoMotoDTO> resultado = posicoes.buscarPorPatio(10L);
+
+        // Assert
+        assertThat(resultado).extracting(PosicaoMotoDTO::getIdMoto).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve carregar as últimas leituras gravadas ao subir a aplicação")
+    @SuppressWarnings("unchecked")
+    void deveCarregarUltimasLeituras() {
+        // Arrange
+        doAnswer(invocacao -> {
+            Consumer<LeituraTelemetria> consumidor = invocacao.getArgument(1);
+            consumidor.accept(leitura(5L, -23.56, -46.65, 80, INSTANTE));
+            consumidor.accept(leitura(6L, -23.57, -46.66, 90, INSTANTE));
+            return null;
+        }).when(telemetriaRepository).ultimasLeituras(any(LocalDateTime.class), any(Consumer.class));
+
+        // Act
+        LocalDateTime antes = LocalDateTime.now();
+        posicoes.carregar();
+
+        // Assert - Somente a janela recente é lida
+        verify(telemetriaRepository).ultimasLeituras(
+            argThat(desde -> !desde.isBefore(antes.minusHours(24)) && !desde.isAfter(LocalDateTime.now().minusHours(24))),
+            any(Consumer.class));
+        assertThat(posicoes.tamanho()).isEqualTo(2);
+        assertThat(posicoes.buscar(6L)).get()
+            .extracting(PosicaoMotoDTO::getBateria, PosicaoMotoDTO::getRegistradoEm)
+            .containsExactly(90, INSTANTE);
+    }
+
+    private LeituraTelemetria leitura(long idMoto, double latitude, double longitude, Integer bateria,
+                                      LocalDateTime registradoEm) {
+        return new LeituraTelemetria(idMoto, latitude, longitude, bateria, registradoEm, registradoEm.plusSeconds(1));
+    }
+}
@@ -0,0 +1,80 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RemocaoPatio
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RemocaoPatio - Testes Unitários")
+class RemocaoPatioTest {
+
+    @Mock
+    private MotoRepository motoRepository;
+
+    @Mock
+    private RegistroRemocoes remocoes;
+
+    @Mock
+    private IndicePlacas indicePlacas;
+
+    @Mock
+    private PosicoesMotos posicoes;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @InjectMocks
+    private RemocaoPatio remocaoPatio;
+
+    @Test
+    @DisplayName("Deve gravar os tombstones e publicar um único evento de recarga do pátio")
+    void devePublicarRecargaDoPatio() {
+        // Arrange
+        when(motoRepository.listarPlacasPorPatio(1L)).thenReturn(List.of());
+
+        // Act
+        remocaoPatio.prepararRemocao(1L);
+
+        // Assert
+        verify(remocoes).registrarPatio(1L);
+        verify(eventos, times(1)).publishEvent(argThat((EventoMotoDTO evento) ->
+            EventoMotoDTO.IMPORTACAO.equals(evento.getTipo()) && evento.getIdPatio().equals(1L)
+                && evento.getIdMoto() == null));
+    }
+
+    @Test
+    @DisplayName("Deve tirar do índice de placas e das posições as motos removidas com o pátio")
+    void deveTirarPlacasDoIndice() {
+        // Arrange
+        List<MotoRepository.PlacaMoto> motos = List.of(placa(1L, "ABC1234"), placa(2L, "ABC1D23"));
+        when(motoRepository.listarPlacasPorPatio(1L)).thenReturn(motos);
+
+        // Act
+        remocaoPatio.prepararRemocao(1L);
+
+        // Assert
+        verify(indicePlacas).removerTodas(motos);
+        verify(posicoes).removerTodas(List.of(1L, 2L));
+    }
+
+    private MotoRepository.PlacaMoto placa(Long id, String placa) {
+        return new MotoRepository.PlacaMoto() {
+            public Long getId() { return id; }
+            public String getPlaca() { return placa; }
+        };
+    }
+}
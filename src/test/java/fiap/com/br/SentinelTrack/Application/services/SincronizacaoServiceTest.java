@@ -0,0 +1,169 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.SincronizacaoDTO;
+import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
+import fiap.com.br.SentinelTrack.Application.mapper.PatioMapper;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+import fiap.com.br.SentinelTrack.Domain.models.Remocao;
+import fiap.com.br.SentinelTrack.Domain.repositories.MotoRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.PatioRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.RemocaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SincronizacaoService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SincronizacaoService - Testes Unitários")
+class SincronizacaoServiceTest {
+
+    @Mock
+    private MotoRepository motoRepository;
+
+    @Mock
+    private PatioRepository patioRepository;
+
+    @Mock
+    private RemocaoRepository remocaoRepository;
+
+    private SincronizacaoService service;
+
+    private Patio patio;
+
+    @BeforeEach
+    void setUp() {
+        service = new SincronizacaoService(motoRepository, patioRepository, remocaoRepository,
+                new MotoMapper(), new PatioMapper(), 35000, 30, 30);
+
+        patio = new Patio();
+        patio.setId(1L);
+        patio.setNome("Pátio Central");
+        patio.setAtualizadoEm(LocalDateTime.now().minusHours(1));
+
+        lenient().when(patioRepository.buscarAlterados(any(), any(), any(), any())).thenReturn(Collections.emptyList());
+        lenient().when(remocaoRepository.buscarPosteriores(any(), any(), any(), any())).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("Deve fazer sincronização completa quando não há watermark")
+    void deveSincronizarTudoSemWatermark() {
+        // Arrange
+        when(motoRepository.buscarAlteradas(any(), any(), any(), any())).thenReturn(motos(2));
+        when(patioRepository.buscarAlterados(any(), any(), any(), any())).thenReturn(List.of(patio));
+
+        // Act
+        SincronizacaoDTO resultado = service.sincronizar(null, 10);
+
+        // Assert
+        assertThat(resultado.isCompleta()).isTrue();
+        assertThat(resultado.isTemMais()).isFalse();
+        assertThat(resultado.getMotos()).hasSize(2);
+        assertThat(resultado.getPatios()).hasSize(1);
+        assertThat(resultado.getWatermark()).isNotBlank();
+
+        verify(motoRepository).buscarAlteradas(eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L), any(), any());
+        verify(remocaoRepository).buscarPosteriores(argThat(desde -> desde.isAfter(LocalDateTime.now().minusMinutes(1))),
+                eq(Long.MAX_VALUE), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o lote e continuar a partir do último registro entregue")
+    void deveLimitarOLoteEContinuar() {
+        // Arrange
+        List<Moto> alteradas = motos(3);
+        when(motoRepository.buscarAlteradas(any(), any(), any(), any())).thenReturn(alteradas);
+
+        // Act
+        SincronizacaoDTO primeiro = service.sincronizar(null, 2);
+        service.sincronizar(primeiro.getWatermark(), 2);
+
+        // Assert
+        assertThat(primeiro.isTemMais()).isTrue();
+        assertThat(primeiro.getMotos()).hasSize(2);
+
+        ArgumentCaptor<LocalDateTime> desde = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Long> idDesde = ArgumentCaptor.forClass(Long.class);
+        verify(motoRepository, times(2)).buscarAlteradas(desde.capture(), idDesde.capture(), any(), any(Pageable.class));
+        assertThat(desde.getAllValues().get(1)).isEqualTo(alteradas.get(1).getAtualizadoEm());
+        assertThat(idDesde.getAllValues().get(1)).isEqualTo(alteradas.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Deve entregar remoções e não repetir a sincronização completa com watermark válido")
+    void deveEntregarRemocoes() {
+        // Arrange
+        when(motoRepository.buscarAlteradas(any(), any(), any(), any())).thenReturn(Collections.emptyList());
+        String watermark = service.sincronizar(null, 10).getWatermark();
+
+        Remocao remocao = new Remocao();
+        remocao.setId(1L);
+        remocao.setTipo(Remocao.TIPO_MOTO);
+        remocao.setIdRegistro(42L);
+        remocao.setRemovidoEm(LocalDateTime.now().minusMinutes(1));
+        when(remocaoRepository.buscarPosteriores(any(), any(), any(), any())).thenReturn(List.of(remocao));
+
+        // Act
+        SincronizacaoDTO resultado = service.sincronizar(watermark, 10);
+
+        // Assert
+        assertThat(resultado.isCompleta()).isFalse();
+        assertThat(resultado.getRemovidos())
+            .extracting("tipo", "id")
+            .containsExactly(tuple("MOTO", 42L));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar watermark inválido")
+    void deveRejeitarWatermarkInvalido() {
+        // Act & Assert
+        assertThatThrownBy(() -> service.sincronizar("nao-e-um-watermark", 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Watermark inválido");
+
+        verifyNoInteractions(motoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar janela de segurança menor que a transação máxima")
+    void deveRecusarJanelaMenorQueTransacaoMaxima() {
+        // Act & Assert
+        assertThatThrownBy(() -> new SincronizacaoService(motoRepository, patioRepository, remocaoRepository,
+                new MotoMapper(), new PatioMapper(), 5000, 30, 30))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("sincronizacao.transacao-maxima-s");
+    }
+
+    private List<Moto> motos(int quantidade) {
+        List<Moto> motos = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.now().minusMinutes(30);
+        for (int i = 1; i <= quantidade; i++) {
+            Moto moto = new Moto();
+            moto.setId((long) i);
+            moto.setModelo("Honda CG 160");
+            moto.setPlaca("ABC123" + i);
+            moto.setStatus(MotoStatus.DISPONIVEL);
+            moto.setPatio(patio);
+            moto.setAtualizadoEm(base.plusSeconds(i));
+            motos.add(moto);
+        }
+        return motos;
+    }
+}
@@ -0,0 +1,159 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.LeituraTelemetriaDTO;
+import fiap.com.br.SentinelTrack.Application.dto.ResultadoTelemetriaDTO;
+import fiap.com.br.SentinelTrack.Domain.models.LeituraTelemetria;
+import fiap.com.br.SentinelTrack.Domain.repositories.TelemetriaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para TelemetriaService (sem a thread de gravação: o lote é gravado pelo teste)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TelemetriaService - Testes Unitários")
+class TelemetriaServiceTest {
+
+    @Mock
+    private TelemetriaRepository repository;
+
+    @Mock
+    private IndicePlacas indicePlacas;
+
+    @Mock
+    private PosicoesMotos posicoes;
+
+    private TelemetriaService service;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Buffer de 4 leituras, gravação em lotes de 10
+        service = new TelemetriaService(repository, indicePlacas, posicoes, 4, 10, 4);
+        lenient().when(indicePlacas.motoCadastrada(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar leituras válidas, rejeitar inválidas e gravar em lote")
+    @SuppressWarnings("unchecked")
+    void deveAceitarLeiturasValidasEGravarEmLote() {
+        // Arrange
+        when(indicePlacas.buscarEquivalente("ABC1234")).thenReturn(Optional.of(7L));
+        LocalDateTime instante = LocalDateTime.now().minusSeconds(10);
+
+        // Act
+        ResultadoTelemetriaDTO resultado = service.receber(List.of(
+            leitura(1L, null, -23.56, -46.65, 80, instante),
+            leitura(null, "ABC1234", -23.57, -46.66, null, null),
+            leitura(2L, null, 91.0, -46.65, 50, instante)
+        ));
+        int gravadas = service.gravarPendentes();
+
+        // Assert
+        assertThat(resultado.getAceitas()).isEqualTo(2);
+        assertThat(resultado.getRejeitadas()).isEqualTo(1);
+        assertThat(resultado.getErros()).containsExactly("Leitura 3: latitude deve estar entre -90 e 90");
+        assertThat(gravadas).isEqualTo(2);
+
+        ArgumentCaptor<List<LeituraTelemetria>> lote = ArgumentCaptor.forClass(List.class);
+        verify(repository).inserirEmLote(lote.capture());
+        assertThat(lote.getValue()).extracting(LeituraTelemetria::idMoto).containsExactly(1L, 7L);
+        assertThat(lote.getValue().get(0).registradoEm()).isEqualTo(instante);
+        assertThat(lote.getValue().get(1).registradoEm()).isNotNull();
+        verify(posicoes).atualizar(lote.getValue());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote inteiro com o buffer cheio e aceitar após a gravação")
+    void deveRecusarLoteComBufferCheio() {
+        // Arrange
+        service.receber(List.of(leitura(1L), leitura(2L), leitura(3L)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.receber(List.of(leitura(4L), leitura(5L))))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(service.ocupacaoBuffer()).isEqualTo(3);
+
+        service.gravarPendentes();
+        assertThat(service.receber(List.of(leitura(4L), leitura(5L))).getAceitas()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio, acima do máximo e placas fora da frota")
+    void deveRejeitarLotesEPlacasInvalidos() {
+        // Arrange
+        when(indicePlacas.buscarEquivalente("ZZZ9Z99")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.receber(Collections.emptyList()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.receber(Collections.nCopies(5, leitura(1L))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Máximo de 4 leituras por envio");
+        assertThat(service.receber(List.of(leitura(null, "ZZZ9Z99", 0.0, 0.0, null, null))).getErros())
+            .containsExactly("Leitura 1: moto não encontrada");
+        assertThat(service.gravarPendentes()).isZero();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar leituras de IDs fora da frota antes do buffer")
+    void deveRejeitarIdsForaDaFrota() {
+        // Arrange
+        when(indicePlacas.motoCadastrada(99L)).thenReturn(false);
+
+        // Act
+        ResultadoTelemetriaDTO resultado = service.receber(List.of(leitura(99L), leitura(1L), leitura(99L)));
+
+        // Assert
+        assertThat(resultado.getAceitas()).isEqualTo(1);
+        assertThat(resultado.getErros())
+            .containsExactly("Leitura 1: moto não encontrada", "Leitura 3: moto não encontrada");
+        assertThat(service.ocupacaoBuffer()).isEqualTo(1);
+        verify(indicePlacas, times(2)).motoCadastrada(99L);
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar como perdidas as leituras de um lote que falhou")
+    void deveContabilizarLeiturasPerdidas() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.bindTo(registry);
+        doThrow(new IllegalStateException("conexão indisponível")).when(repository).inserirEmLote(anyList());
+        service.receber(List.of(leitura(1L), leitura(2L)));
+
+        // Act
+        int retiradas = service.gravarPendentes();
+
+        // Assert
+        assertThat(retiradas).isEqualTo(2);
+        assertThat(registry.get("telemetria.leituras").tag("resultado", "perdida").functionCounter().count())
+            .isEqualTo(2.0);
+        assertThat(registry.get("telemetria.leituras").tag("resultado", "aceita").functionCounter().count())
+            .isEqualTo(2.0);
+        assertThat(service.ocupacaoBuffer()).isZero();
+    }
+
+    private LeituraTelemetriaDTO leitura(Long idMoto) {
+        return leitura(idMoto, null, -23.56, -46.65, 90, null);
+    }
+
+    private LeituraTelemetriaDTO leitura(Long idMoto, String placa, Double latitude, Double longitude,
+                                         Integer bateria, LocalDateTime instante) {
+        return new LeituraTelemetriaDTO(idMoto, placa, latitude, longitude, bateria, instante);
+    }
+}
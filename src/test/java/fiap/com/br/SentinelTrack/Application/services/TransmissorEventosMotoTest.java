@@ -0,0 +1,177 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Application.dto.EventoMotoDTO;
+import fiap.com.br.SentinelTrack.Application.dto.MotoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para TransmissorEventosMoto
+ * O executor apenas acumula os drenos, deixando os eventos no buffer dos assinantes
+ */
+@DisplayName("TransmissorEventosMoto - Testes Unitários")
+class TransmissorEventosMotoTest {
+
+    private final List<Runnable> drenos = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private TransmissorEventosMoto transmissor;
+
+    @BeforeEach
+    void setUp() {
+        transmissor = new TransmissorEventosMoto(drenos::add, 2, 2, 60_000, 5_000);
+        transmissor.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Deve combinar eventos pendentes da mesma moto")
+    void deveCombinarEventosDaMesmaMoto() {
+        // Arrange
+        transmissor.assinar(null);
+
+        // Act
+        transmissor.publicar(evento(EventoMotoDTO.CRIADA, 1L, 1L, "DISPONIVEL"));
+        transmissor.publicar(evento(EventoMotoDTO.ATUALIZADA, 1L, 1L, "EM_USO"));
+
+        // Assert
+        assertThat(contador("coalescido")).isEqualTo(1.0);
+        assertThat(contador("descartado")).isZero();
+        assertThat(drenos).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o evento mais antigo quando o buffer do assinante enche")
+    void deveDescartarComBufferCheio() {
+        // Arrange
+        transmissor.assinar(null);
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            transmissor.publicar(evento(EventoMotoDTO.CRIADA, id, 1L, "DISPONIVEL"));
+        }
+
+        // Assert
+        assertThat(contador("descartado")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve entregar apenas eventos do pátio assinado")
+    void deveFiltrarPorPatio() {
+        // Arrange
+        transmissor.assinar(2L);
+
+        // Act
+        transmissor.publicar(evento(EventoMotoDTO.CRIADA, 1L, 1L, "DISPONIVEL"));
+
+        // Assert
+        assertThat(drenos).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve recusar assinaturas acima do limite de conexões")
+    void deveLimitarConexoes() {
+        // Arrange
+        transmissor.assinar(null);
+        transmissor.assinar(null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> transmissor.assinar(null))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(registry.get("sse.motos.conexoes").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de conexões sob assinaturas simultâneas")
+    void deveLimitarConexoesSobConcorrencia() throws Exception {
+        // Arrange
+        TransmissorEventosMoto limitado = new TransmissorEventosMoto(drenos::add, 2, 5, 60_000, 5_000);
+        ExecutorService clientes = Executors.newFixedThreadPool(8);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger aceitas = new AtomicInteger();
+        List<Future<?>> tentativas = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tentativas.add(clientes.submit(() -> {
+                largada.await();
+                try {
+                    limitado.assinar(null);
+                    aceitas.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    // Limite atingido
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        largada.countDown();
+        for (Future<?> tentativa : tentativas) {
+            tentativa.get(10, TimeUnit.SECONDS);
+        }
+        clientes.shutdown();
+
+        // Assert
+        assertThat(aceitas).hasValue(5);
+        assertThat(limitado.conexoes()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante que perde mais que um buffer inteiro e liberar a vaga")
+    void deveDesconectarAssinanteAtrasado() {
+        // Arrange - Buffer de 2 eventos; o dreno nunca roda
+        transmissor.assinar(null);
+        transmissor.assinar(null);
+
+        // Act
+        for (long id = 1; id <= 5; id++) {
+            transmissor.publicar(evento(EventoMotoDTO.CRIADA, id, 1L, "DISPONIVEL"));
+        }
+
+        // Assert
+        assertThat(transmissor.conexoes()).isZero();
+        assertThat(registry.get("sse.motos.desconexoes").tag("motivo", "atraso").functionCounter().count())
+            .isEqualTo(2.0);
+        assertThatCode(() -> transmissor.assinar(null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Deve manter o status anterior ao combinar alterações")
+    void deveManterStatusAnteriorAoCombinar() {
+        // Arrange
+        EventoMotoDTO primeira = evento(EventoMotoDTO.STATUS_ALTERADO, 1L, 1L, "EM_USO");
+        primeira.setStatusAnterior("DISPONIVEL");
+        EventoMotoDTO segunda = evento(EventoMotoDTO.ATUALIZADA, 1L, 1L, "EM_USO");
+        segunda.setStatusAnterior("EM_USO");
+
+        // Act
+        EventoMotoDTO combinado = TransmissorEventosMoto.combinar(primeira, segunda);
+
+        // Assert
+        assertThat(combinado.getTipo()).isEqualTo(EventoMotoDTO.STATUS_ALTERADO);
+        assertThat(combinado.getStatusAnterior()).isEqualTo("DISPONIVEL");
+        assertThat(segunda.getTipo()).isEqualTo(EventoMotoDTO.ATUALIZADA);
+    }
+
+    private double contador(String resultado) {
+        return registry.get("sse.motos.eventos").tag("resultado", resultado).functionCounter().count();
+    }
+
+    private EventoMotoDTO evento(String tipo, Long idMoto, Long idPatio, String status) {
+        MotoDTO moto = new MotoDTO();
+        moto.setId(idMoto);
+        moto.setIdPatio(idPatio);
+        moto.setStatus(status);
+        return EventoMotoDTO.de(tipo, moto);
+    }
+}
@@ -0,0 +1,97 @@
+package fiap.com.br.SentinelTrack.Application.services;
+
+import fiap.com.br.SentinelTrack.Domain.models.Role;
+import fiap.com.br.SentinelTrack.Domain.models.Usuario;
+import fiap.com.br.SentinelTrack.Domain.repositories.RoleRepository;
+import fiap.com.br.SentinelTrack.Domain.repositories.UsuarioRepository;
+import fiap.com.br.SentinelTrack.Infrastructure.security.UserDetailsCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para UsuarioService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UsuarioService - Testes Unitários")
+class UsuarioServiceTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @InjectMocks
+    private UsuarioService usuarioService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve limpar o cache de usuários somente após o commit da troca de perfis")
+    void deveLimparCacheSomenteAposCommit() {
+        // Arrange
+        Usuario usuario = new Usuario();
+        usuario.setUsername("operador");
+        usuario.setRoles(Set.of());
+        when(usuarioRepository.save(usuario)).thenReturn(usuario);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        usuarioService.salvar(usuario);
+
+        // Assert
+        verifyNoInteractions(userDetailsCache);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(userDetailsCache).invalidarTodos();
+    }
+
+    @Test
+    @DisplayName("Não deve limpar o cache quando a transação é desfeita")
+    void naoDeveLimparCacheEmRollback() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        usuarioService.removerPerfil(3L);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        verify(roleRepository).deleteById(3L);
+        verifyNoInteractions(userDetailsCache);
+    }
+
+    @Test
+    @DisplayName("Deve limpar o cache imediatamente sem transação ativa")
+    void deveLimparCacheSemTransacao() {
+        // Arrange
+        Role perfil = new Role();
+        perfil.setNome("ROLE_OPERADOR");
+        when(roleRepository.save(perfil)).thenReturn(perfil);
+
+        // Act
+        usuarioService.salvarPerfil(perfil);
+
+        // Assert
+        verify(userDetailsCache).invalidarTodos();
+    }
+}
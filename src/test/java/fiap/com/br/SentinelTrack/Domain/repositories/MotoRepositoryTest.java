@@ -0,0 +1,157 @@
+package fiap.com.br.SentinelTrack.Domain.repositories;
+
+import fiap.com.br.SentinelTrack.Application.mapper.MotoMapper;
+import fiap.com.br.SentinelTrack.Domain.models.Moto;
+import fiap.com.br.SentinelTrack.Domain.models.MotoStatus;
+import fiap.com.br.SentinelTrack.Domain.models.Patio;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do MotoRepository (H2 + migrations Flyway)
+ * Garante que as listagens convertidas para DTO custam um único SELECT
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("MotoRepository - Testes de Integração")
+class MotoRepositoryTest {
+
+    @Autowired
+    private MotoRepository motoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final MotoMapper mapper = new MotoMapper();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("findAll deve carregar motos e pátios em um único SELECT")
+    void findAllDeveUsarUmUnicoSelect() {
+        assertThat(contarStatements(() -> motoRepository.findAll())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findByStatus deve carregar motos e pátios em um único SELECT")
+    void findByStatusDeveUsarUmUnicoSelect() {
+        assertThat(contarStatements(() -> motoRepository.findByStatus(MotoStatus.DISPONIVEL))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findByPatioId deve carregar motos e pátio em um único SELECT")
+    void findByPatioIdDeveUsarUmUnicoSelect() {
+        assertThat(contarStatements(() -> motoRepository.findByPatioId(1L))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findByModeloIn deve carregar motos e pátios em um único SELECT")
+    void findByModeloDeveUsarUmUnicoSelect() {
+        assertThat(contarStatements(() -> motoRepository.findByModeloIn(List.of("Honda CG 160", "Yamaha Factor"))))
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("buscarPorCursor deve carregar motos e pátios em um único SELECT")
+    void buscarPorCursorDeveUsarUmUnicoSelect() {
+        assertThat(contarStatements(() -> motoRepository.buscarPorCursor(null, null, null, null, false, 50)))
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("inserirEmLote deve gravar as motos e findPlacasExistentes deve encontrá-las")
+    void inserirEmLoteDeveGravarMotos() {
+        Moto moto = new Moto();
+        moto.setModelo("Honda CG 160");
+        moto.setPlaca("LOT1A23");
+        moto.setStatus(MotoStatus.DISPONIVEL);
+        moto.setDataEntrada(new Date());
+        moto.setPatio(entityManager.getReference(Patio.class, 1L));
+
+        motoRepository.inserirEmLote(List.of(moto), 1000);
+
+        assertThat(motoRepository.findPlacasExistentes(List.of("LOT1A23", "NAO0000"))).containsExactly("LOT1A23");
+    }
+
+    @Test
+    @DisplayName("streamPorFiltro deve percorrer as motos filtradas em ordem de ID")
+    void streamPorFiltroDevePercorrerEmOrdem() {
+        List<Moto> esperadas = motoRepository.findByStatus(MotoStatus.DISPONIVEL);
+
+        try (Stream<Moto> motos = motoRepository.streamPorFiltro(MotoStatus.DISPONIVEL, null)) {
+            assertThat(motos.map(Moto::getId).toList())
+                .isSortedAccordingTo(Long::compare)
+                .hasSameSizeAs(esperadas);
+        }
+    }
+
+    @Test
+    @DisplayName("versao deve mudar quando uma moto é alterada ou removida")
+    void versaoDeveMudarComAlteracoes() {
+        VersaoColecao inicial = motoRepository.versao();
+        Moto moto = motoRepository.findByPatioId(1L).get(0);
+
+        moto.setStatus(MotoStatus.MANUTENCAO);
+        motoRepository.saveAndFlush(moto);
+        VersaoColecao aposAlteracao = motoRepository.versao();
+
+        motoRepository.delete(moto);
+        motoRepository.flush();
+        VersaoColecao aposRemocao = motoRepository.versao();
+
+        assertThat(aposAlteracao.getTotal()).isEqualTo(inicial.getTotal());
+        assertThat(aposAlteracao.getUltimaAtualizacao()).isNotNull();
+        assertThat(aposRemocao.getTotal()).isEqualTo(inicial.getTotal() - 1);
+        assertThat(motoRepository.versaoPorPatio(1L).getTotal())
+            .isEqualTo(motoRepository.findByPatioId(1L).size());
+    }
+
+    @Test
+    @DisplayName("status deve ser gravado como código de um caractere e agregado pelo enum")
+    void statusDeveSerGravadoComoCodigo() {
+        @SuppressWarnings("unchecked")
+        List<String> codigos = entityManager.createNativeQuery("SELECT DISTINCT STATUS FROM ST_MOTO").getResultList();
+
+        assertThat(codigos).isNotEmpty().allMatch(codigo -> codigo.length() == 1);
+        assertThat(motoRepository.contarPorStatus())
+            .extracting(MotoRepository.ContagemPorStatus::getStatus)
+            .isNotEmpty()
+            .doesNotContainNull();
+    }
+
+    /**
+     * Executa a consulta com o contexto de persistência limpo, converte cada moto
+     * para DTO (acessando o nome do pátio) e retorna quantos statements foram preparados
+     */
+    private long contarStatements(Supplier<List<Moto>> consulta) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<Moto> motos = consulta.get();
+        assertThat(motos).isNotEmpty();
+        motos.forEach(moto -> assertThat(mapper.toDTO(moto).getNomePatio()).isNotBlank());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
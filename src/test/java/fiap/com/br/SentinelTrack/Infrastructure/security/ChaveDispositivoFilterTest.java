@@ -0,0 +1,66 @@
+package fiap.com.br.SentinelTrack.Infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ChaveDispositivoFilter
+ */
+@DisplayName("ChaveDispositivoFilter - Testes Unitários")
+class ChaveDispositivoFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve autenticar o sensor com uma das chaves configuradas")
+    void deveAutenticarChaveConfigurada() throws Exception {
+        // Arrange
+        ChaveDispositivoFilter filtro = new ChaveDispositivoFilter(List.of("chave-patio-1", " chave-patio-2 "));
+
+        // Act
+        Authentication autenticacao = filtrar(filtro, "chave-patio-2");
+
+        // Assert
+        assertThat(autenticacao).isNotNull();
+        assertThat(autenticacao.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_DISPOSITIVO");
+    }
+
+    @Test
+    @DisplayName("Não deve autenticar chave desconhecida, ausente ou sem chaves configuradas")
+    void naoDeveAutenticarChaveInvalida() throws Exception {
+        // Arrange
+        ChaveDispositivoFilter filtro = new ChaveDispositivoFilter(List.of("chave-patio-1"));
+        ChaveDispositivoFilter semChaves = new ChaveDispositivoFilter(Collections.singletonList(""));
+
+        // Act & Assert
+        assertThat(filtrar(filtro, "chave-patio")).isNull();
+        assertThat(filtrar(filtro, null)).isNull();
+        assertThat(filtrar(semChaves, "")).isNull();
+    }
+
+    private Authentication filtrar(ChaveDispositivoFilter filtro, String chave) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest requisicao = new MockHttpServletRequest("POST", "/api/iot/telemetry");
+        if (chave != null) {
+            requisicao.addHeader(ChaveDispositivoFilter.HEADER_CHAVE, chave);
+        }
+        filtro.doFilter(requisicao, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,60 @@
+package fiap.com.br.SentinelTrack.Infrastructure.security;
+
+import fiap.com.br.SentinelTrack.Application.dto.UsuarioTokenDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para TokenCache
+ */
+@DisplayName("TokenCache - Testes Unitários")
+class TokenCacheTest {
+
+    private final UsuarioTokenDTO usuario =
+        new UsuarioTokenDTO("operador@mottu.com", "OPERADOR", new Date(System.currentTimeMillis() + 60_000));
+
+    @Test
+    @DisplayName("Deve retornar token armazenado e contabilizar acertos e falhas")
+    void deveRetornarTokenArmazenado() {
+        // Arrange
+        TokenCache cache = new TokenCache(10);
+        cache.armazenar("token-a", usuario);
+
+        // Act & Assert
+        assertThat(cache.buscar("token-a")).contains(usuario);
+        assertThat(cache.buscar("token-b")).isEmpty();
+        assertThat(cache.taxaAcerto()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Não deve retornar token expirado")
+    void naoDeveRetornarTokenExpirado() {
+        // Arrange
+        TokenCache cache = new TokenCache(10);
+        UsuarioTokenDTO expirado = new UsuarioTokenDTO("operador@mottu.com", "OPERADOR", new Date(System.currentTimeMillis() - 1));
+        cache.armazenar("token-expirado", expirado);
+
+        // Act & Assert
+        assertThat(cache.buscar("token-expirado")).isEmpty();
+        assertThat(cache.tamanho()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de tokens em cache")
+    void deveLimitarQuantidadeDeTokens() {
+        // Arrange
+        TokenCache cache = new TokenCache(2);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            cache.armazenar("token-" + i, usuario);
+        }
+
+        // Assert
+        assertThat(cache.tamanho()).isLessThanOrEqualTo(2);
+    }
+}
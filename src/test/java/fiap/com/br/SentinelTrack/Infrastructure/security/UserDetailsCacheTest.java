@@ -0,0 +1,86 @@
+package fiap.com.br.SentinelTrack.Infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para UserDetailsCache
+ */
+@DisplayName("UserDetailsCache - Testes Unitários")
+class UserDetailsCacheTest {
+
+    private final AtomicInteger carregamentos = new AtomicInteger();
+
+    private final Function<String, UserDetails> carregador = username -> {
+        carregamentos.incrementAndGet();
+        return User.withUsername(username).password("{noop}senha").roles("OPERADOR").build();
+    };
+
+    @Test
+    @DisplayName("Deve carregar o usuário uma única vez e contabilizar acertos e falhas")
+    void deveCarregarUmaVez() {
+        // Arrange
+        UserDetailsCache cache = new UserDetailsCache(10, 60);
+
+        // Act
+        cache.buscar("operador", carregador);
+        UserDetails usuario = cache.buscar("operador", carregador);
+
+        // Assert
+        assertThat(usuario.getUsername()).isEqualTo("operador");
+        assertThat(carregamentos).hasValue(1);
+        assertThat(cache.acertos()).isEqualTo(1);
+        assertThat(cache.falhas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve ter a senha em cache apagada após a autenticação")
+    void naoDeveCompartilharInstancia() {
+        // Arrange
+        UserDetailsCache cache = new UserDetailsCache(10, 60);
+
+        // Act
+        ((CredentialsContainer) cache.buscar("operador", carregador)).eraseCredentials();
+
+        // Assert
+        assertThat(cache.buscar("operador", carregador).getPassword()).isEqualTo("{noop}senha");
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o usuário após invalidação")
+    void deveRecarregarAposInvalidacao() {
+        // Arrange
+        UserDetailsCache cache = new UserDetailsCache(10, 60);
+        cache.buscar("operador", carregador);
+
+        // Act
+        cache.invalidarTodos();
+        cache.buscar("operador", carregador);
+
+        // Assert
+        assertThat(carregamentos).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Não deve cachear usuário inexistente")
+    void naoDeveCachearUsuarioInexistente() {
+        // Arrange
+        UserDetailsCache cache = new UserDetailsCache(10, 60);
+
+        // Act & Assert
+        assertThatThrownBy(() -> cache.buscar("fantasma", username -> {
+            throw new UsernameNotFoundException("Usuário não encontrado: " + username);
+        })).isInstanceOf(UsernameNotFoundException.class);
+        cache.buscar("fantasma", carregador);
+        assertThat(carregamentos).hasValue(1);
+    }
+}
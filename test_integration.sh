@@ -170,7 +170,8 @@ sleep 2
 # Testar Java API
 test_endpoint "Java API Health" "http://localhost:8080/actuator/health" "200"
 test_endpoint "Java API Alternative Health" "http://localhost:8080/api/health" "200"
-test_endpoint "Java Mobile Motos" "http://localhost:8080/api/mobile/motos" "200"
+# APIs mobile exigem JWT (Authorization: Bearer <token>): sem token respondem 401
+test_endpoint "Java Mobile Motos (sem token)" "http://localhost:8080/api/mobile/motos" "401"
 test_endpoint "Java IoT Status" "http://localhost:8080/api/java/motos/status" "200"
 
 # Testar Python API
@@ -186,7 +187,7 @@ log_info "3. Testando Integração Específica..."
 echo ""
 
 # Testar busca por placa (deve funcionar em ambas APIs)
-test_endpoint "Java - Busca Placa ABC1234" "http://localhost:8080/api/mobile/motos/buscar/ABC1234" "200"
+test_endpoint "Java - Busca Placa ABC1234 (sem token)" "http://localhost:8080/api/mobile/motos/buscar/ABC1234" "401"
 test_endpoint "Python - Busca Placa ABC1234" "http://localhost:5001/api/mobile/motos/buscar/ABC1234" "200"
 
 # Testar endpoints .NET